@@ -5,15 +5,18 @@ import F12.newsfeedproject.api.board.dto.request.BoardUpdateRequestDto;
 import F12.newsfeedproject.api.board.dto.response.BoardResponseDto;
 import F12.newsfeedproject.api.board.dto.response.BoardViewResponseDto;
 import F12.newsfeedproject.api.board.service.ApiBoardService;
-import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.global.exception.member.UnAuthorizedModifyException;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
+import F12.newsfeedproject.global.paging.SliceResponseDto;
 import F12.newsfeedproject.global.security.UserDetailsImpl;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,7 +26,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -38,9 +43,7 @@ public class ApiBoardController {
       @Valid @RequestBody BoardRequestDto requestDto,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-    User loginUser = userDetails.getUser();
-
-    BoardResponseDto responseDto = apiBoardService.saveBoard(requestDto, loginUser);
+    BoardResponseDto responseDto = apiBoardService.saveBoard(requestDto, userDetails.getUserId());
 
     return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
   }
@@ -54,11 +57,21 @@ public class ApiBoardController {
 
   // 게시글 전체 목록 조회
   @GetMapping
-  public ResponseEntity<List<BoardResponseDto>> getBoards() {
-    List<BoardResponseDto> responseDto = apiBoardService.getBoards();
+  public ResponseEntity<SliceResponseDto<BoardResponseDto>> getBoards(
+      @PageableDefault(size = 20, sort = "createdDate", direction = Direction.DESC) Pageable pageable) {
+    SliceResponseDto<BoardResponseDto> responseDto = apiBoardService.getBoards(pageable);
     return ResponseEntity.ok(responseDto);
   }
 
+  // 게시글 전체 목록 스트리밍 조회
+  @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamBoards() {
+    StreamingResponseBody body = apiBoardService::streamBoards;
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
   // 게시글 수정
   @PatchMapping("/{boardId}")
   public ResponseEntity<BoardResponseDto> updateBoard(
@@ -66,8 +79,7 @@ public class ApiBoardController {
       @Valid @RequestBody BoardUpdateRequestDto requestDto,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-    User user = userDetails.getUser();
-    if (!haveModifyAuthorization(user, boardId)) {
+    if (!haveModifyAuthorization(userDetails.getUserId(), boardId)) {
       throw new UnAuthorizedModifyException();
     }
 
@@ -80,8 +92,7 @@ public class ApiBoardController {
   public ResponseEntity<?> deleteBoard(@PathVariable Long boardId,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-    User user = userDetails.getUser();
-    if (!haveModifyAuthorization(user, boardId)) {
+    if (!haveModifyAuthorization(userDetails.getUserId(), boardId)) {
       throw new UnAuthorizedModifyException();
     }
 
@@ -89,32 +100,68 @@ public class ApiBoardController {
     return ResponseEntity.ok("요청 성공");
   }
 
-  public boolean haveModifyAuthorization(User loginUser, Long boardId) {
+  public boolean haveModifyAuthorization(Long loginUserId, Long boardId) {
     Long authorId = apiBoardService.getAuthorIdByBoardId(boardId);
-    return loginUser.getUserId().equals(authorId);
+    return loginUserId.equals(authorId);
   }
 
   @GetMapping("/follow-true")
-  public ResponseEntity<List<BoardViewResponseDto>> getFollowersBoards(
+  public ResponseEntity<SliceResponseDto<BoardViewResponseDto>> getFollowersBoards(
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @PageableDefault(sort = "createdDate") Pageable pageable
   ) {
-    User user = userDetails.getUser();
-    List<BoardViewResponseDto> BoardViewResponseDto = apiBoardService.getFollowersBoards(
-        user.getUserId(), pageable);
+    SliceResponseDto<BoardViewResponseDto> BoardViewResponseDto = apiBoardService.getFollowersBoards(
+        userDetails.getUserId(), pageable);
 
     return ResponseEntity.ok(BoardViewResponseDto);
   }
 
+  @GetMapping("/follow-true/cursor")
+  public ResponseEntity<CursorResponseDto<BoardViewResponseDto>> getFollowersBoardsByCursor(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CursorResponseDto<BoardViewResponseDto> responseDto = apiBoardService.getFollowersBoards(
+        userDetails.getUserId(), cursor, size);
+
+    return ResponseEntity.ok(responseDto);
+  }
+
+  // 팔로우 게시글 점수순 조회 (최신성, 반응 속도, 작성자 친밀도)
+  @GetMapping("/follow-true/ranked")
+  public ResponseEntity<List<BoardViewResponseDto>> getRankedFollowersBoards(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(
+        apiBoardService.getRankedFollowersBoards(userDetails.getUserId(), size));
+  }
+
+  @PostMapping("/follow-true/rebuild")
+  public ResponseEntity<?> rebuildFollowersBoards(
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    apiBoardService.rebuildFollowersBoards(userDetails.getUserId());
+
+    return ResponseEntity.ok("요청 성공");
+  }
+
   @GetMapping("/like-true")
-  public ResponseEntity<List<BoardViewResponseDto>> getLikeBoards(
+  public ResponseEntity<SliceResponseDto<BoardViewResponseDto>> getLikeBoards(
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @PageableDefault(sort = "createdDate") Pageable pageable) {
-    User user = userDetails.getUser();
-    List<BoardViewResponseDto> BoardViewResponseDto = apiBoardService.getLikeBoards(
-        user.getUserId(), pageable);
+    SliceResponseDto<BoardViewResponseDto> BoardViewResponseDto = apiBoardService.getLikeBoards(
+        userDetails.getUserId(), pageable);
 
     return ResponseEntity.ok(BoardViewResponseDto);
   }
-}
 
+  @GetMapping("/like-true/cursor")
+  public ResponseEntity<CursorResponseDto<BoardViewResponseDto>> getLikeBoardsByCursor(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CursorResponseDto<BoardViewResponseDto> responseDto = apiBoardService.getLikeBoards(
+        userDetails.getUserId(), cursor, size);
+
+    return ResponseEntity.ok(responseDto);
+  }
+}
@@ -1,5 +1,6 @@
 package F12.newsfeedproject.api.board.dto.response;
 
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
 import java.time.LocalDateTime;
 
@@ -8,6 +9,7 @@ public record BoardResponseDto(
     String boardTitle,
     String boardContent,
     String userName,
+    long likeCount,
     LocalDateTime createdDate,
     LocalDateTime modifiedDate
 ) {
@@ -18,8 +20,21 @@ public record BoardResponseDto(
         board.getBoardTitle(),
         board.getBoardContent(),
         board.getUser().getUserName(),
+        board.getLikeCount(),
         board.getCreatedDate(),
         board.getModifiedDate()
     );
   }
+
+  public static BoardResponseDto from(BoardView board) {
+    return new BoardResponseDto(
+        board.boardId(),
+        board.boardTitle(),
+        board.boardContent(),
+        board.userName(),
+        board.likeCount(),
+        board.createdDate(),
+        board.modifiedDate()
+    );
+  }
 }
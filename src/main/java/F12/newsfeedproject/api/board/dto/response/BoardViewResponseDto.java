@@ -1,5 +1,6 @@
 package F12.newsfeedproject.api.board.dto.response;
 
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
 import java.time.LocalDateTime;
 import lombok.Builder;
@@ -12,18 +13,35 @@ public record BoardViewResponseDto(
     Long boardId,
     String boardTitle,
     String boardContent,
+    long likeCount,
+    boolean likedByMe,
     LocalDateTime createdDate,
     LocalDateTime modifiedDate
 ) {
 
-  public static BoardViewResponseDto from(Board board) {
+  public static BoardViewResponseDto from(Board board, boolean likedByMe) {
     return BoardViewResponseDto.builder()
         .userName(board.getUser().getUserName())
         .boardId(board.getBoardId())
         .boardTitle(board.getBoardTitle())
         .boardContent(board.getBoardContent())
+        .likeCount(board.getLikeCount())
+        .likedByMe(likedByMe)
         .createdDate(board.getCreatedDate())
         .modifiedDate(board.getModifiedDate())
         .build();
   }
+
+  public static BoardViewResponseDto from(BoardView board, boolean likedByMe) {
+    return BoardViewResponseDto.builder()
+        .userName(board.userName())
+        .boardId(board.boardId())
+        .boardTitle(board.boardTitle())
+        .boardContent(board.boardContent())
+        .likeCount(board.likeCount())
+        .likedByMe(likedByMe)
+        .createdDate(board.createdDate())
+        .modifiedDate(board.modifiedDate())
+        .build();
+  }
 }
@@ -4,14 +4,28 @@ import F12.newsfeedproject.api.board.dto.request.BoardRequestDto;
 import F12.newsfeedproject.api.board.dto.request.BoardUpdateRequestDto;
 import F12.newsfeedproject.api.board.dto.response.BoardResponseDto;
 import F12.newsfeedproject.api.board.dto.response.BoardViewResponseDto;
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.service.BoardCountCache;
 import F12.newsfeedproject.domain.board.service.BoardService;
-import F12.newsfeedproject.domain.user.entity.User;
-import java.util.ArrayList;
+import F12.newsfeedproject.domain.feed.service.FeedService;
+import F12.newsfeedproject.domain.feed.service.RankedFeedService;
+import F12.newsfeedproject.domain.purge.service.PurgeService;
+import F12.newsfeedproject.domain.user.service.UserService;
+import F12.newsfeedproject.domain.userboardlike.service.LikedBoardIndex;
+import F12.newsfeedproject.global.paging.Cursor;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
+import F12.newsfeedproject.global.paging.SliceResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,25 +33,62 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ApiBoardService {
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+  private static final int STREAM_FLUSH_INTERVAL = 100;
+
   private final BoardService boardService;
+  private final FeedService feedService;
+  private final RankedFeedService rankedFeedService;
+  private final UserService userService;
+  private final BoardCountCache boardCountCache;
+  private final BoardResponseCache boardResponseCache;
+  private final LikedBoardIndex likedBoardIndex;
+  private final PurgeService purgeService;
+  private final ObjectMapper objectMapper;
 
   // 게시글 작성
   @Transactional
-  public BoardResponseDto saveBoard(BoardRequestDto requestDto, User loginUser) {
-    Board savedBoard = boardService.saveBoard(requestDto.toEntity(loginUser));
+  public BoardResponseDto saveBoard(BoardRequestDto requestDto, Long userId) {
+    Board savedBoard = boardService.saveBoard(
+        requestDto.toEntity(userService.getReferenceById(userId)));
+    boardResponseCache.evict(savedBoard.getBoardId());
     return BoardResponseDto.from(savedBoard);
   }
 
   // 게시글 단건 조회
   public BoardResponseDto getBoard(Long boardId) {
-    Board getBoard = boardService.findByBoardIdWithUser(boardId);
-    return BoardResponseDto.from(getBoard);
+    return boardResponseCache.get(boardId,
+        id -> BoardResponseDto.from(boardService.findByBoardIdWithUser(id)));
   }
 
   // 게시글 전체 목록 조회
-  public List<BoardResponseDto> getBoards() {
-    List<Board> boards = boardService.getBoards();
-    return boards.stream().map(BoardResponseDto::from).collect(Collectors.toList());
+  public SliceResponseDto<BoardResponseDto> getBoards(Pageable pageable) {
+    return SliceResponseDto.of(boardService.getBoards(pageable), BoardResponseDto::from,
+        boardCountCache.getApproximateBoardCount());
+  }
+
+  // 게시글 전체 목록을 NDJSON(한 줄에 게시글 하나)으로 스트리밍
+  public void streamBoards(OutputStream outputStream) throws IOException {
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      int[] written = {0};
+      try {
+        boardService.streamBoards(board -> {
+          try {
+            generator.writeObject(BoardResponseDto.from(board));
+            generator.writeRaw('\n');
+            if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+              generator.flush();
+            }
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
   }
 
   // 게시글 수정
@@ -45,31 +96,85 @@ public class ApiBoardService {
   public BoardResponseDto updateBoard(Long boardId, BoardUpdateRequestDto requestDto) {
     Board updateBoard = boardService.findByBoardIdWithUser(boardId);
     boardService.updateBoard(updateBoard, requestDto.toEntity());
+    boardResponseCache.evict(boardId);
 
     return BoardResponseDto.from(updateBoard);
   }
 
-  // 게시글 삭제
+  // 게시글 삭제. 게시글을 숨기고 댓글, 좋아요는 삭제 작업으로 나중에 지운다.
+  @Transactional
   public void deleteBoard(Long boardId) {
     boardService.deleteBoard(boardId);
+    purgeService.requestBoardPurge(boardId);
+    boardResponseCache.evict(boardId);
   }
 
   public Long getAuthorIdByBoardId(Long boardId) {
     return boardService.getAuthorIdByBoardId(boardId);
   }
 
-  public List<BoardViewResponseDto> getFollowersBoards(Long userId, Pageable pageable) {
-    return boardService.findAllUserFollowerBoard(userId, pageable).stream()
-        .map(BoardViewResponseDto::from).collect(Collectors.toList());
+  public SliceResponseDto<BoardViewResponseDto> getFollowersBoards(Long userId,
+      Pageable pageable) {
+    Slice<BoardView> boards = feedService.findFollowingFeed(userId, pageable);
+    Set<Long> likedBoardIds = findLikedBoardIds(userId, boards.getContent());
+    return SliceResponseDto.of(boards,
+        board -> BoardViewResponseDto.from(board, likedBoardIds.contains(board.boardId())));
   }
 
-  public List<BoardViewResponseDto> getLikeBoards(Long userId, Pageable pageable) {
-    List<Board> boards = boardService.findAllLikeBoards(userId, pageable);
-    List<BoardViewResponseDto> boardViewResponseDto = new ArrayList<>();
-    for (Board board : boards) {
-      boardViewResponseDto.add(BoardViewResponseDto.from(board));
-    }
-    return boardViewResponseDto;
+  // 팔로우 게시글 커서 조회
+  public CursorResponseDto<BoardViewResponseDto> getFollowersBoards(Long userId, String cursor,
+      int size) {
+    int pageSize = cursorPageSize(size);
+    List<BoardView> boards = feedService.findFollowingFeedBefore(userId, Cursor.decode(cursor),
+        pageSize + 1);
+    Set<Long> likedBoardIds = findLikedBoardIds(userId, boards);
+    return CursorResponseDto.of(boards, pageSize,
+        board -> BoardViewResponseDto.from(board, likedBoardIds.contains(board.boardId())),
+        ApiBoardService::toCursor);
+  }
+
+  // 팔로우 게시글을 점수순으로 조회
+  public List<BoardViewResponseDto> getRankedFollowersBoards(Long userId, int size) {
+    List<BoardView> boards = boardService.findAllByBoardIdsInOrder(
+        rankedFeedService.findRankedBoardIds(userId, cursorPageSize(size)));
+    Set<Long> likedBoardIds = findLikedBoardIds(userId, boards);
+    return boards.stream()
+        .map(board -> BoardViewResponseDto.from(board, likedBoardIds.contains(board.boardId())))
+        .toList();
+  }
+
+  // 팔로우 피드 타임라인 재구성
+  public void rebuildFollowersBoards(Long userId) {
+    feedService.rebuildFollowingFeed(userId);
+  }
+
+  public SliceResponseDto<BoardViewResponseDto> getLikeBoards(Long userId, Pageable pageable) {
+    return SliceResponseDto.of(boardService.findAllLikeBoards(userId, pageable),
+        board -> BoardViewResponseDto.from(board, true));
+  }
+
+  // 좋아요 게시글 커서 조회
+  public CursorResponseDto<BoardViewResponseDto> getLikeBoards(Long userId, String cursor,
+      int size) {
+    int pageSize = cursorPageSize(size);
+    List<BoardView> boards = boardService.findAllLikeBoardsBefore(userId, Cursor.decode(cursor),
+        pageSize + 1);
+    return CursorResponseDto.of(boards, pageSize, board -> BoardViewResponseDto.from(board, true),
+        ApiBoardService::toCursor);
+  }
+
+  // 페이지의 게시글 중 사용자가 좋아요한 게시글을 한 번에 조회한다.
+  private Set<Long> findLikedBoardIds(Long userId, List<BoardView> boards) {
+    return likedBoardIndex.findLikedBoardIds(userId,
+        boards.stream().map(BoardView::boardId).toList());
+  }
+
+  private static int cursorPageSize(int size) {
+    return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+  }
+
+  private static Cursor toCursor(BoardView board) {
+    return new Cursor(board.createdDate(), board.boardId());
   }
 
 }
@@ -0,0 +1,97 @@
+package F12.newsfeedproject.api.board.service;
+
+import F12.newsfeedproject.api.board.dto.response.BoardResponseDto;
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
+import F12.newsfeedproject.domain.board.event.BoardLikeCountsFlushedEvent;
+import F12.newsfeedproject.global.exception.board.BoardNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시글 단건 조회 결과 캐시.
+ * 존재하지 않는 게시글 ID 도 짧은 시간 동안 따로 기억해서 같은 ID 로 DB 를 반복 조회하지 않도록 한다.
+ */
+@Component
+public class BoardResponseCache {
+
+  private final Cache<Long, BoardResponseDto> boards;
+
+  private final Cache<Long, Boolean> missingBoardIds;
+
+  public BoardResponseCache(MeterRegistry meterRegistry,
+      @Value("${board.cache.maximum-size}") long maximumSize,
+      @Value("${board.cache.expire-after-write-ms}") long expireAfterWriteMs,
+      @Value("${board.cache.negative-expire-after-write-ms}") long negativeExpireAfterWriteMs) {
+    this.boards = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+        .recordStats()
+        .build();
+    this.missingBoardIds = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(negativeExpireAfterWriteMs))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, boards, "board");
+    CaffeineCacheMetrics.monitor(meterRegistry, missingBoardIds, "board.missing");
+  }
+
+  public BoardResponseDto get(Long boardId, Function<Long, BoardResponseDto> loader) {
+    if (missingBoardIds.getIfPresent(boardId) != null) {
+      throw new BoardNotFoundException();
+    }
+
+    try {
+      return boards.get(boardId, loader);
+    } catch (BoardNotFoundException e) {
+      missingBoardIds.put(boardId, Boolean.TRUE);
+      throw e;
+    }
+  }
+
+  /**
+   * 게시글 캐시를 지운다. 트랜잭션 안이라면 커밋 뒤에 한 번 더 지워서,
+   * 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올려 두는 경우를 막는다.
+   */
+  public void evict(Long boardId) {
+    invalidate(boardId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          invalidate(boardId);
+        }
+      });
+    }
+  }
+
+  // 좋아요 수는 버퍼에서 주기적으로 반영되므로, 반영된 게시글은 다음 조회에서 새 값을 읽도록 지운다.
+  @EventListener
+  public void onLikeCountsFlushed(BoardLikeCountsFlushedEvent event) {
+    boards.invalidateAll(event.boardIds());
+  }
+
+  // 작성자 탈퇴 등으로 숨김 처리된 게시글도 다음 조회에서 없는 게시글로 보이도록 지운다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBoardDeleted(BoardDeletedEvent event) {
+    evict(event.boardId());
+  }
+
+  private void invalidate(Long boardId) {
+    boards.invalidate(boardId);
+    missingBoardIds.invalidate(boardId);
+  }
+}
@@ -3,52 +3,66 @@ package F12.newsfeedproject.api.comment.controller;
 import F12.newsfeedproject.api.comment.dto.CommentRequestDTO;
 import F12.newsfeedproject.api.comment.dto.CommentResponseDTO;
 import F12.newsfeedproject.api.comment.service.ApiCommentService;
+import F12.newsfeedproject.domain.comment.dto.CommentView;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
 import F12.newsfeedproject.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-@RequestMapping("/api/comments")
+@RequestMapping("/api")
 @RestController
 @RequiredArgsConstructor
 public class ApiCommentController {
 
   private final ApiCommentService apiCommentService;
 
-  @PostMapping
+  @GetMapping("/boards/{boardId}/comments")
+  public ResponseEntity<CursorResponseDto<CommentView>> getComments(@PathVariable Long boardId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CursorResponseDto<CommentView> responseDto = apiCommentService.getComments(boardId, cursor,
+        size);
+
+    return ResponseEntity.ok(responseDto);
+  }
+
+  @PostMapping("/comments")
   public ResponseEntity<CommentResponseDTO> postComment(
       @RequestBody CommentRequestDTO commentRequestDTO,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
     CommentResponseDTO responseDTO = apiCommentService.createComment(commentRequestDTO,
-        userDetails.getUser());
+        userDetails.getUserId());
 
     return ResponseEntity.status(201).body(responseDTO);
   }
 
-  @PatchMapping("/{commentId}")
+  @PatchMapping("/comments/{commentId}")
   public ResponseEntity<CommentResponseDTO> updateComment(@PathVariable Long commentId,
       @RequestBody CommentRequestDTO commentRequestDTO,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
     CommentResponseDTO responseDTO = apiCommentService.updateComment(commentId, commentRequestDTO,
-        userDetails.getUser());
+        userDetails.getUserId());
     return ResponseEntity.ok().body(responseDTO);
 
   }
 
 
-  @DeleteMapping("/{commentId}")
+  @DeleteMapping("/comments/{commentId}")
   public ResponseEntity<CommentResponseDTO> deleteComment(@PathVariable Long commentId,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-    apiCommentService.deleteComment(commentId, userDetails.getUser());
+    apiCommentService.deleteComment(commentId, userDetails.getUserId());
     return ResponseEntity.noContent().build();
 
   }
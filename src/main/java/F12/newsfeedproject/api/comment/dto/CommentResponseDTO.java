@@ -11,11 +11,13 @@ import lombok.Setter;
 public class CommentResponseDTO {
   private Long commentId;
   private String commentContent;
+  private long likeCount;
   private LocalDateTime createDate;
 
   public CommentResponseDTO(Comment comment) {
     this.commentId = comment.getCommentId();
     this.commentContent = comment.getCommentContent();
+    this.likeCount = comment.getLikeCount();
     this.createDate = comment.getCreateDate();
   }
 }
\ No newline at end of file
@@ -4,12 +4,19 @@ import F12.newsfeedproject.api.comment.dto.CommentRequestDTO;
 import F12.newsfeedproject.api.comment.dto.CommentResponseDTO;
 import F12.newsfeedproject.domain.board.entity.Board;
 import F12.newsfeedproject.domain.board.service.BoardService;
+import F12.newsfeedproject.domain.comment.dto.CommentView;
 import F12.newsfeedproject.domain.comment.entity.Comment;
 import F12.newsfeedproject.domain.comment.service.CommentService;
 import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.service.UserService;
+import F12.newsfeedproject.domain.usercommentlike.service.UserCommentLikeService;
+import F12.newsfeedproject.global.exception.board.BoardNotFoundException;
 import F12.newsfeedproject.global.exception.comment.NotFoundCommentException;
 import F12.newsfeedproject.global.exception.comment.RejectedExecutionException;
+import F12.newsfeedproject.global.paging.Cursor;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
 import jakarta.transaction.Transactional;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -17,11 +24,16 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ApiCommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final CommentService commentService;
     private final BoardService boardService;
+    private final UserService userService;
+    private final UserCommentLikeService userCommentLikeService;
 
     @Transactional
-    public CommentResponseDTO createComment(CommentRequestDTO dto, User user) {
+    public CommentResponseDTO createComment(CommentRequestDTO dto, Long userId) {
+        User user = userService.getReferenceById(userId);
         Board board = boardService.findByBoardId(dto.boardId());
         Comment comment = Comment.createComment(dto.commentContent(), user, board);
         Comment saveComment = commentService.saveComment(comment);
@@ -31,29 +43,44 @@ public class ApiCommentService {
 
     @Transactional
     public CommentResponseDTO updateComment(Long commentId, CommentRequestDTO commentRequestDTO,
-                                            User user) {
+                                            Long userId) {
         Comment comment = getUserComment(commentId);
-        validateAuthorization(user, comment);
+        validateAuthorization(userId, comment);
         commentService.updateComment(comment, commentRequestDTO.commentContent());
 
         return new CommentResponseDTO(comment);
     }
 
     @Transactional
-    public void deleteComment(Long commentId, User user) {
+    public void deleteComment(Long commentId, Long userId) {
         Comment comment = getUserComment(commentId);
-        validateAuthorization(user, comment);
+        validateAuthorization(userId, comment);
 
+        userCommentLikeService.deleteAllByCommentId(commentId);
         commentService.deleteComment(commentId);
     }
 
+    // 게시글의 댓글 커서 조회
+    public CursorResponseDto<CommentView> getComments(Long boardId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<CommentView> comments = commentService.findCommentViewsBefore(boardId,
+                Cursor.decode(cursor), pageSize + 1);
+
+        // 빈 페이지일 때만 게시글이 존재하는지 확인한다.
+        if (comments.isEmpty() && !boardService.existsByBoardId(boardId)) {
+            throw new BoardNotFoundException();
+        }
+        return CursorResponseDto.of(comments, pageSize, comment -> comment,
+                comment -> new Cursor(comment.createDate(), comment.commentId()));
+    }
+
     private Comment getUserComment(Long commentId) {
         return commentService.findByCommentId(commentId)
                 .orElseThrow(NotFoundCommentException::new);
     }
 
-    private void validateAuthorization(User user, Comment comment) {
-        if (!user.getUserId().equals(comment.getUser().getUserId())) {
+    private void validateAuthorization(Long userId, Comment comment) {
+        if (!userId.equals(comment.getUser().getUserId())) {
             throw new RejectedExecutionException();
         }
     }
@@ -1,7 +1,13 @@
 package F12.newsfeedproject.api.follow.controller;
 
+import F12.newsfeedproject.api.follow.dto.response.FollowCountResponseDto;
+import F12.newsfeedproject.api.follow.dto.response.FollowRelationshipResponseDto;
 import F12.newsfeedproject.api.follow.service.ApiFollowService;
+import F12.newsfeedproject.domain.follow.dto.FollowUserView;
+import F12.newsfeedproject.domain.recommendation.dto.RecommendationView;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
 import F12.newsfeedproject.global.security.UserDetailsImpl;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,9 +38,7 @@ public class ApiFollowController {
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @PathVariable Long followerId) {
 
-    String username = userDetails.getUsername();
-
-    apiFollowService.followUser(username, followerId);
+    apiFollowService.followUser(userDetails.getUserId(), followerId);
     return ResponseEntity.status(HttpStatus.OK).body("요청 성공");
   }
 
@@ -46,10 +51,70 @@ public class ApiFollowController {
   public ResponseEntity<?> unFollowUser(
       @AuthenticationPrincipal UserDetailsImpl userDetails,
       @PathVariable Long followerId) {
-    String username = userDetails.getUsername();
-
-    apiFollowService.unFollowUser(username, followerId);
+    apiFollowService.unFollowUser(userDetails.getUserId(), followerId);
     return ResponseEntity.status(HttpStatus.OK).body("요청 성공");
   }
 
+  /**
+   * 팔로워 목록 (최근에 팔로우한 순)
+   */
+  @GetMapping("/{userId}/followers")
+  public ResponseEntity<CursorResponseDto<FollowUserView>> getFollowers(
+      @PathVariable Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(apiFollowService.getFollowers(userId, cursor, size));
+  }
+
+  /**
+   * 팔로잉 목록 (최근에 팔로우한 순)
+   */
+  @GetMapping("/{userId}/following")
+  public ResponseEntity<CursorResponseDto<FollowUserView>> getFollowings(
+      @PathVariable Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(apiFollowService.getFollowings(userId, cursor, size));
+  }
+
+  /**
+   * 팔로워, 팔로잉 수
+   */
+  @GetMapping("/{userId}/follow-counts")
+  public ResponseEntity<FollowCountResponseDto> getFollowCounts(@PathVariable Long userId) {
+    return ResponseEntity.ok(apiFollowService.getFollowCounts(userId));
+  }
+
+  /**
+   * 서로 팔로우하는 사용자 목록
+   */
+  @GetMapping("/{userId}/mutuals")
+  public ResponseEntity<CursorResponseDto<FollowUserView>> getMutuals(
+      @PathVariable Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(apiFollowService.getMutuals(userId, cursor, size));
+  }
+
+  /**
+   * 여러 사용자와의 팔로우 관계 (내가 팔로우함, 나를 팔로우함, 서로 팔로우함)
+   */
+  @GetMapping("/relationships")
+  public ResponseEntity<List<FollowRelationshipResponseDto>> getRelationships(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam List<Long> ids) {
+    return ResponseEntity.ok(apiFollowService.getRelationships(userDetails.getUserId(), ids));
+  }
+
+  /**
+   * 알 수도 있는 사람 (함께 아는 사람이 많은 순)
+   */
+  @GetMapping("/recommendations")
+  public ResponseEntity<List<RecommendationView>> getRecommendations(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @RequestParam(defaultValue = "20") int size) {
+    return ResponseEntity.ok(
+        apiFollowService.getRecommendations(userDetails.getUserId(), size));
+  }
+
 }
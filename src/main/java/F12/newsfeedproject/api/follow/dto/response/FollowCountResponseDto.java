@@ -0,0 +1,15 @@
+package F12.newsfeedproject.api.follow.dto.response;
+
+import F12.newsfeedproject.domain.user.entity.User;
+
+public record FollowCountResponseDto(
+    Long userId,
+    long followerCount,
+    long followingCount
+) {
+
+  public static FollowCountResponseDto from(User user) {
+    return new FollowCountResponseDto(user.getUserId(), user.getFollowerCount(),
+        user.getFollowingCount());
+  }
+}
@@ -0,0 +1,16 @@
+package F12.newsfeedproject.api.follow.dto.response;
+
+// following: 내가 팔로우함, followedBy: 나를 팔로우함, mutual: 서로 팔로우함
+public record FollowRelationshipResponseDto(
+    Long userId,
+    boolean following,
+    boolean followedBy,
+    boolean mutual
+) {
+
+  public static FollowRelationshipResponseDto of(Long userId, boolean following,
+      boolean followedBy) {
+    return new FollowRelationshipResponseDto(userId, following, followedBy,
+        following && followedBy);
+  }
+}
@@ -1,69 +1,139 @@
 package F12.newsfeedproject.api.follow.service;
 
-import F12.newsfeedproject.domain.follow.entity.Follow;
+import F12.newsfeedproject.api.follow.dto.response.FollowCountResponseDto;
+import F12.newsfeedproject.api.follow.dto.response.FollowRelationshipResponseDto;
+import F12.newsfeedproject.domain.follow.dto.FollowUserView;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
 import F12.newsfeedproject.domain.follow.service.FollowService;
-import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.recommendation.dto.RecommendationView;
+import F12.newsfeedproject.domain.recommendation.service.RecommendationService;
 import F12.newsfeedproject.domain.user.service.UserService;
 import F12.newsfeedproject.global.exception.follow.DuplicatedFollowException;
 import F12.newsfeedproject.global.exception.follow.FollowNotFoundException;
+import F12.newsfeedproject.global.exception.follow.TooManyRelationshipTargetsException;
 import F12.newsfeedproject.global.exception.user.UserNotFoundException;
-import java.util.Optional;
+import F12.newsfeedproject.global.paging.Cursor;
+import F12.newsfeedproject.global.paging.CursorResponseDto;
+import F12.newsfeedproject.global.util.SortedLongSet;
+import java.util.Arrays;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ApiFollowService {
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+  private static final int MAX_RELATIONSHIP_TARGETS = 100;
+
   private final UserService userService;
   private final FollowService followService;
+  private final FollowGraph followGraph;
+  private final RecommendationService recommendationService;
 
-  public void followUser(String username, Long followerId) {
-    User user = checkUser(username);
-    User follower = checkFollwer(followerId);
-
-    if (isAlreadyFollow(user, follower)) {
+  @Transactional
+  public void followUser(Long userId, Long followerId) {
+    // 이미 팔로우 중이면 대상 사용자를 조회하지 않고 바로 실패한다.
+    if (followGraph.isFollowing(userId, followerId)) {
       throw new DuplicatedFollowException();
     }
+    checkFollwer(followerId);
 
-    followService.saveFollow(new Follow(user, follower));
+    if (!followService.follow(userId, followerId)) {
+      throw new DuplicatedFollowException();
+    }
+    followGraph.onFollowed(userId, followerId);
   }
 
-  public void unFollowUser(String username, Long followerId) {
-    User user = checkUser(username);
-    User follower = checkFollwer(followerId);
-
-    if (!isAlreadyFollow(user, follower)) {
+  @Transactional
+  public void unFollowUser(Long userId, Long followerId) {
+    if (!followService.unfollow(userId, followerId)) {
+      checkFollwer(followerId);
       throw new FollowNotFoundException();
     }
-    Optional<Follow> follow = followService.findByFollowingAndFollower(user, follower);
+    followGraph.onUnfollowed(userId, followerId);
+  }
 
-    followService.deleteFollow(follow.get());
+  // 팔로워 목록 커서 조회
+  public CursorResponseDto<FollowUserView> getFollowers(Long userId, String cursor, int size) {
+    int pageSize = cursorPageSize(size);
+    List<FollowUserView> followers = followService.findFollowersBefore(userId,
+        Cursor.decodeId(cursor), pageSize + 1);
+    return CursorResponseDto.ofId(followers, pageSize, view -> view, FollowUserView::followId);
   }
 
-  private User checkUser(String username) {
-    Optional<User> user = userService.findByUserName(username);
-    if (user.isEmpty()) {
-      throw new UserNotFoundException();
+  // 팔로잉 목록 커서 조회
+  public CursorResponseDto<FollowUserView> getFollowings(Long userId, String cursor, int size) {
+    int pageSize = cursorPageSize(size);
+    List<FollowUserView> followings = followService.findFollowingsBefore(userId,
+        Cursor.decodeId(cursor), pageSize + 1);
+    return CursorResponseDto.ofId(followings, pageSize, view -> view, FollowUserView::followId);
+  }
+
+  // 서로 팔로우하는 사용자 커서 조회 (사용자 ID 내림차순)
+  public CursorResponseDto<FollowUserView> getMutuals(Long userId, String cursor, int size) {
+    int pageSize = cursorPageSize(size);
+    long[] mutuals = followGraph.mutuals(userId);
+
+    // 커서보다 작은 ID 중 가장 큰 것부터 pageSize + 1 개
+    int index = Arrays.binarySearch(mutuals, Cursor.decodeId(cursor));
+    int end = index >= 0 ? index : -index - 1;
+    int start = Math.max(0, end - (pageSize + 1));
+    if (start == end) {
+      return new CursorResponseDto<>(List.of(), null);
     }
-    return user.get();
+
+    List<FollowUserView> views = followService.findFollowingsAmong(userId,
+        Arrays.stream(mutuals, start, end).boxed().toList());
+    return CursorResponseDto.ofId(views, pageSize, view -> view, FollowUserView::userId);
   }
 
-  private User checkFollwer(Long followerId) {
-    Optional<User> follower = userService.findByUserId(followerId);
-    if (follower.isEmpty()) {
-      throw new UserNotFoundException();
+  // 여러 사용자와의 팔로우 관계를 한 번에 조회한다. 요청한 순서대로, 중복 없이 반환한다.
+  public List<FollowRelationshipResponseDto> getRelationships(Long userId, List<Long> targetIds) {
+    if (targetIds.size() > MAX_RELATIONSHIP_TARGETS) {
+      throw new TooManyRelationshipTargetsException();
     }
-    return follower.get();
+    if (targetIds.isEmpty()) {
+      return List.of();
+    }
+
+    SortedLongSet targets = SortedLongSet.of(
+        targetIds.stream().mapToLong(Long::longValue).toArray());
+    long[] following = followGraph.followeesAmong(userId, targets);
+    long[] followedBy = followGraph.followersAmong(userId, targets);
+
+    return targetIds.stream()
+        .distinct()
+        .map(targetId -> FollowRelationshipResponseDto.of(targetId,
+            Arrays.binarySearch(following, targetId) >= 0,
+            Arrays.binarySearch(followedBy, targetId) >= 0))
+        .toList();
   }
 
-  private boolean isAlreadyFollow(User following, User follower) {
-    Optional<Follow> optionalFollow = followService.findByFollowingAndFollower(following,
-        follower);
-    return optionalFollow.isPresent();
+  public FollowCountResponseDto getFollowCounts(Long userId) {
+    return FollowCountResponseDto.from(
+        userService.findByUserId(userId).orElseThrow(UserNotFoundException::new));
   }
 
-}
+  // 알 수도 있는 사람
+  public List<RecommendationView> getRecommendations(Long userId, int size) {
+    return recommendationService.findRecommendations(userId, cursorPageSize(size));
+  }
+
+  private static int cursorPageSize(int size) {
+    return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+  }
+
+  // 탈퇴한 사용자도 없는 사용자로 본다.
+  private void checkFollwer(Long followerId) {
+    if (userService.findByUserId(followerId).filter(user -> !user.isDeleted()).isEmpty()) {
+      throw new UserNotFoundException();
+    }
+  }
 
+}
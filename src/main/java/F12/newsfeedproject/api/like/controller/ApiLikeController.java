@@ -1,7 +1,6 @@
 package F12.newsfeedproject.api.like.controller;
 
 import F12.newsfeedproject.api.like.service.ApiLikeService;
-import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.global.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,29 +22,38 @@ public class ApiLikeController {
   @PostMapping("/board/{boardId}/like")
   public ResponseEntity<?> likeBoard(@PathVariable Long boardId,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
-    User user = userDetails.getUser();
-    apiLikeService.createLikeBoard(user, boardId);
+    // 파이프라인에 들어간 요청은 나중에 저장되므로 202 를 응답한다.
+    if (apiLikeService.offerLikeBoard(userDetails.getUserId(), boardId)) {
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body("요청 성공");
+    }
 
+    apiLikeService.createLikeBoard(userDetails.getUserId(), boardId);
     return ResponseEntity.status(HttpStatus.CREATED).body("요청 성공");
   }
 
   @DeleteMapping("/board/{boardId}/like")
   public ResponseEntity<?> deleteLikeBoard(@PathVariable Long boardId,
       @AuthenticationPrincipal UserDetailsImpl userDetails) {
-    User user = userDetails.getUser();
-    apiLikeService.deleteLikeBoard(user, boardId);
+    if (apiLikeService.offerDeleteLikeBoard(userDetails.getUserId(), boardId)) {
+      return ResponseEntity.status(HttpStatus.ACCEPTED).body("요청 성공");
+    }
 
+    apiLikeService.deleteLikeBoard(userDetails.getUserId(), boardId);
     return ResponseEntity.status(HttpStatus.CREATED).body("요청 성공");
   }
 
   @PostMapping("/comment/{commentId}/like")
-  public ResponseEntity<?> likeComment(@PathVariable Long commentId) {
+  public ResponseEntity<?> likeComment(@PathVariable Long commentId,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    apiLikeService.createLikeComment(userDetails.getUserId(), commentId);
 
     return ResponseEntity.status(HttpStatus.CREATED).body("요청 성공");
   }
 
-  @DeleteMapping("/comment/{boardId}/like")
-  public ResponseEntity<?> deleteLikeComment(@PathVariable Long commentId) {
+  @DeleteMapping("/comment/{commentId}/like")
+  public ResponseEntity<?> deleteLikeComment(@PathVariable Long commentId,
+      @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    apiLikeService.deleteLikeComment(userDetails.getUserId(), commentId);
 
     return ResponseEntity.status(HttpStatus.CREATED).body("요청 성공");
   }
@@ -1,18 +1,20 @@
 package F12.newsfeedproject.api.like.service;
 
-import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.service.BoardLikeCounter;
 import F12.newsfeedproject.domain.board.service.BoardService;
-import F12.newsfeedproject.domain.user.entity.User;
-import F12.newsfeedproject.domain.user.service.UserService;
-import F12.newsfeedproject.domain.userboardlike.entity.UserBoardLike;
+import F12.newsfeedproject.domain.comment.service.CommentLikeCounter;
+import F12.newsfeedproject.domain.comment.service.CommentService;
+import F12.newsfeedproject.domain.userboardlike.constant.LikeAction;
+import F12.newsfeedproject.domain.userboardlike.pipeline.LikeEvent;
+import F12.newsfeedproject.domain.userboardlike.pipeline.LikeIngestionPipeline;
+import F12.newsfeedproject.domain.userboardlike.service.LikedBoardIndex;
 import F12.newsfeedproject.domain.userboardlike.service.UserBoardLikeService;
-import F12.newsfeedproject.global.exception.follow.DuplicatedFollowException;
+import F12.newsfeedproject.domain.usercommentlike.service.UserCommentLikeService;
+import F12.newsfeedproject.global.exception.board.BoardNotFoundException;
+import F12.newsfeedproject.global.exception.comment.NotFoundCommentException;
 import F12.newsfeedproject.global.exception.like.DuplicatedLikeException;
 import F12.newsfeedproject.global.exception.like.NotFoundLikeException;
-import F12.newsfeedproject.global.exception.user.NoAuthorizationException;
-import F12.newsfeedproject.global.exception.user.UserNotFoundException;
 import jakarta.transaction.Transactional;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,28 +26,80 @@ public class ApiLikeService {
 
   private final BoardService boardService;
   private final UserBoardLikeService userBoardLikeService;
+  private final BoardLikeCounter boardLikeCounter;
+  private final LikeIngestionPipeline likeIngestionPipeline;
+  private final LikedBoardIndex likedBoardIndex;
+  private final CommentService commentService;
+  private final UserCommentLikeService userCommentLikeService;
+  private final CommentLikeCounter commentLikeCounter;
+
+  /**
+   * 좋아요 파이프라인에 요청을 넣는다. 큐에 들어가지 못하면 false 를 반환하고, 호출한 쪽에서 createLikeBoard 로 바로 저장한다.
+   */
+  public boolean offerLikeBoard(Long userId, Long boardId) {
+    return likeIngestionPipeline.offer(new LikeEvent(userId, boardId, LikeAction.LIKE));
+  }
+
+  public boolean offerDeleteLikeBoard(Long userId, Long boardId) {
+    return likeIngestionPipeline.offer(new LikeEvent(userId, boardId, LikeAction.UNLIKE));
+  }
 
   @Transactional
-  public void createLikeBoard(User user, Long boardId) {
-    Board board = boardService.findByBoardId(boardId);
+  public void createLikeBoard(Long userId, Long boardId) {
+    if (userBoardLikeService.likeBoard(userId, boardId)) {
+      boardLikeCounter.increment(boardId);
+      likedBoardIndex.onLiked(userId, boardId);
+      return;
+    }
 
-    userBoardLikeService.findByUserAndBoard(user, board)
-        .ifPresent(existingLike -> {
-          throw new DuplicatedLikeException();
-        });
+    // 실패했을 때만 원인을 구분한다.
+    validateBoardExists(boardId);
+    throw new DuplicatedLikeException();
+  }
 
-    UserBoardLike userBoardLike = UserBoardLike.fromUserAndBoard(user, board);
+  @Transactional
+  public void deleteLikeBoard(Long userId, Long boardId) {
+    if (userBoardLikeService.unlikeBoard(userId, boardId)) {
+      boardLikeCounter.decrement(boardId);
+      likedBoardIndex.onUnliked(userId, boardId);
+      return;
+    }
 
-    userBoardLikeService.saveUserBoardLike(userBoardLike);
+    validateBoardExists(boardId);
+    throw new NotFoundLikeException();
   }
 
   @Transactional
-  public void deleteLikeBoard(User user, Long boardId) {
-    Board board = boardService.findByBoardId(boardId);
+  public void createLikeComment(Long userId, Long commentId) {
+    if (userCommentLikeService.likeComment(userId, commentId)) {
+      commentLikeCounter.increment(commentId);
+      return;
+    }
 
-    UserBoardLike optionalUserBoardLike = userBoardLikeService.findByUserAndBoard(user, board)
-        .orElseThrow(NotFoundLikeException::new);
+    validateCommentExists(commentId);
+    throw new DuplicatedLikeException();
+  }
+
+  @Transactional
+  public void deleteLikeComment(Long userId, Long commentId) {
+    if (userCommentLikeService.unlikeComment(userId, commentId)) {
+      commentLikeCounter.decrement(commentId);
+      return;
+    }
+
+    validateCommentExists(commentId);
+    throw new NotFoundLikeException();
+  }
+
+  private void validateBoardExists(Long boardId) {
+    if (!boardService.existsByBoardId(boardId)) {
+      throw new BoardNotFoundException();
+    }
+  }
 
-    userBoardLikeService.deleteById(optionalUserBoardLike.getUserBoardLikeId());
+  private void validateCommentExists(Long commentId) {
+    if (!commentService.existsByCommentId(commentId)) {
+      throw new NotFoundCommentException();
+    }
   }
 }
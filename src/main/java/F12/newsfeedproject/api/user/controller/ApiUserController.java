@@ -4,7 +4,6 @@ import F12.newsfeedproject.api.user.dto.request.UserModifyRequestDTO;
 import F12.newsfeedproject.api.user.dto.request.UserSignupRequestDTO;
 import F12.newsfeedproject.api.user.dto.response.UserResponseDTO;
 import F12.newsfeedproject.api.user.service.ApiUserService;
-import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.global.exception.member.UnAuthorizedModifyException;
 import F12.newsfeedproject.global.jwt.JwtUtil;
 import F12.newsfeedproject.global.security.UserDetailsImpl;
@@ -14,6 +13,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -44,7 +44,7 @@ public class ApiUserController {
       @PathVariable Long userId,
       @Valid @RequestBody UserModifyRequestDTO userModifyRequestDTO) {
 
-    if (!haveModifyAuthorization(userDetails.getUser(), userId)) {
+    if (!haveModifyAuthorization(userDetails.getUserId(), userId)) {
       throw new UnAuthorizedModifyException();
     }
 
@@ -53,8 +53,22 @@ public class ApiUserController {
     return ResponseEntity.ok(userModifyResponseDTO);
   }
 
-  private boolean haveModifyAuthorization(User loginUser, Long modifiedUserId) {
-    return loginUser.getUserId() == modifiedUserId;
+  @DeleteMapping("/{userId}")
+  public ResponseEntity<?> deleteUser(
+      @AuthenticationPrincipal UserDetailsImpl userDetails,
+      @PathVariable Long userId) {
+
+    if (!haveModifyAuthorization(userDetails.getUserId(), userId)) {
+      throw new UnAuthorizedModifyException();
+    }
+
+    apiUserService.deleteUser(userId);
+
+    return ResponseEntity.accepted().body("요청 성공");
+  }
+
+  private boolean haveModifyAuthorization(Long loginUserId, Long modifiedUserId) {
+    return loginUserId.equals(modifiedUserId);
 
   }
 
@@ -72,8 +86,7 @@ public class ApiUserController {
   @GetMapping("/logout")
   public ResponseEntity<?> logoutUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-    User findUser = userDetails.getUser();
-    apiUserService.logoutUser(findUser.getUserId());
+    apiUserService.logoutUser(userDetails.getUserId());
 
     return ResponseEntity.ok("요청 성공");
   }
@@ -3,6 +3,8 @@ package F12.newsfeedproject.api.user.service;
 import F12.newsfeedproject.api.user.dto.request.UserModifyRequestDTO;
 import F12.newsfeedproject.api.user.dto.request.UserSignupRequestDTO;
 import F12.newsfeedproject.api.user.dto.response.UserResponseDTO;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.domain.purge.service.PurgeService;
 import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.domain.user.service.UserService;
 import F12.newsfeedproject.global.exception.common.ErrorCode;
@@ -12,6 +14,7 @@ import F12.newsfeedproject.global.exception.member.AlreadyUserExistException;
 import F12.newsfeedproject.global.exception.user.UserNotFoundException;
 import F12.newsfeedproject.global.jwt.JwtManager;
 import F12.newsfeedproject.global.jwt.TokenType;
+import F12.newsfeedproject.global.jwt.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,10 @@ public class ApiUserService {
 
   private final PasswordEncoder passwordEncoder;
 
+  private final PurgeService purgeService;
+
+  private final FollowGraph followGraph;
+
   public UserResponseDTO signupUser(UserSignupRequestDTO userSignupRequestDTO) {
 
     validateDuplicateUser(userSignupRequestDTO);
@@ -56,40 +63,42 @@ public class ApiUserService {
 
   public String reissueAccessToken(String refreshToken) {
 
-    String userName = jwtManager.getUserNameFromToken(refreshToken);
+    VerifiedToken verifiedToken = jwtManager.verify(refreshToken);
 
-    validateRefreshToken(refreshToken, userName);
+    User user = validateRefreshToken(refreshToken, verifiedToken);
 
-    return jwtManager.createAccessToken(userName);
+    return jwtManager.createAccessToken(user.getUserId(), user.getUserName(), user.getUserRole());
   }
 
-  private void validateRefreshToken(String refreshToken, String userName) {
+  private User validateRefreshToken(String refreshToken, VerifiedToken verifiedToken) {
 
-    if (!isRefreshToken(refreshToken)) {
+    if (!verifiedToken.isTypeOf(TokenType.REFRESH)) {
       throw new NotRefreshTokenException();
     }
 
-    if (!isRightRefreshToken(refreshToken, userName)) {
+    User findUser = userService.findByUserName(verifiedToken.subject())
+        .orElseThrow(UserNotFoundException::new);
+
+    if (!isRightRefreshToken(refreshToken, findUser)) {
       throw new NotMisMatchedRefreshTokenException();
     }
+    return findUser;
   }
 
-  private boolean isRefreshToken(String refreshToken) {
+  private boolean isRightRefreshToken(String refreshToken, User findUser) {
 
-    String tokenType = jwtManager.getTokenTypeFromToken(refreshToken);
-
-    return TokenType.REFRESH.toString().equals(tokenType);
-  }
-
-  private boolean isRightRefreshToken(String refreshToken, String userName) {
-
-    User findUser = userService.findByUserName(userName)
-        .orElseThrow(UserNotFoundException::new);
-
-    return findUser.getRefreshToken().equals(refreshToken);
+    return refreshToken.equals(findUser.getRefreshToken());
   }
 
   public void logoutUser(Long userId) {
     userService.logoutUser(userId);
   }
+
+  // 계정을 탈퇴 처리하고, 게시글, 댓글, 팔로우, 좋아요는 삭제 작업으로 나중에 지운다.
+  @Transactional
+  public void deleteUser(Long userId) {
+    userService.deleteUser(userId);
+    purgeService.requestUserPurge(userId);
+    followGraph.onUserDeleted(userId);
+  }
 }
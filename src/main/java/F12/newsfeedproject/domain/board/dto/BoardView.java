@@ -0,0 +1,33 @@
+package F12.newsfeedproject.domain.board.dto;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회에 필요한 게시글 컬럼만 담는 읽기 전용 프로젝션.
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고, 작성자는 이름만 읽는다.
+ */
+public record BoardView(
+    Long boardId,
+    String boardTitle,
+    String boardContent,
+    Long userId,
+    String userName,
+    long likeCount,
+    LocalDateTime createdDate,
+    LocalDateTime modifiedDate
+) {
+
+  public static BoardView from(Board board) {
+    return new BoardView(
+        board.getBoardId(),
+        board.getBoardTitle(),
+        board.getBoardContent(),
+        board.getUser().getUserId(),
+        board.getUser().getUserName(),
+        board.getLikeCount(),
+        board.getCreatedDate(),
+        board.getModifiedDate()
+    );
+  }
+}
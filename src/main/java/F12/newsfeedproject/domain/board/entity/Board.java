@@ -3,28 +3,37 @@ package F12.newsfeedproject.domain.board.entity;
 import F12.newsfeedproject.domain.comment.entity.Comment;
 import F12.newsfeedproject.domain.common.Timestamped;
 import F12.newsfeedproject.domain.user.entity.User;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Where;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_board_created_date", columnList = "createdDate, boardId"),
+    @Index(name = "idx_board_user_created_date", columnList = "user_id, createdDate, boardId")
+})
+// 삭제된 게시글은 PurgeWorker 가 실제로 지우기 전까지 조회되지 않도록 숨긴다.
+@Where(clause = "deleted = false")
 public class Board extends Timestamped {
 
   @Id
@@ -41,11 +50,25 @@ public class Board extends Timestamped {
   @JoinColumn(name = "user_id", nullable = false)
   private User user;
 
-  @OneToMany(mappedBy = "board", cascade = CascadeType.REMOVE, orphanRemoval = true)
+  // BoardLikeCounter 가 배치로만 갱신하므로 엔티티 변경 감지로는 덮어쓰지 않는다.
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long likeCount;
+
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted;
+
+  // 댓글과 좋아요는 PurgeWorker 가 나눠서 지우므로 JPA 로 함께 지우지 않는다.
+  @OneToMany(mappedBy = "board")
   private List<Comment> comments;
 
   public void update(Board updateBoard) {
     boardTitle = updateBoard.getBoardTitle();
     boardContent = updateBoard.getBoardContent();
   }
+
+  public void delete() {
+    deleted = true;
+  }
 }
@@ -0,0 +1,8 @@
+package F12.newsfeedproject.domain.board.event;
+
+public record BoardCreatedEvent(
+    Long boardId,
+    Long authorId
+) {
+
+}
@@ -0,0 +1,8 @@
+package F12.newsfeedproject.domain.board.event;
+
+public record BoardDeletedEvent(
+    Long boardId,
+    Long authorId
+) {
+
+}
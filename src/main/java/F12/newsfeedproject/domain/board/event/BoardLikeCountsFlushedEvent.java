@@ -0,0 +1,9 @@
+package F12.newsfeedproject.domain.board.event;
+
+import java.util.Set;
+
+public record BoardLikeCountsFlushedEvent(
+    Set<Long> boardIds
+) {
+
+}
@@ -0,0 +1,33 @@
+package F12.newsfeedproject.domain.board.migration;
+
+import F12.newsfeedproject.global.migration.SchemaMigration;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새로 생긴 board.like_count 를 기존 user_board_like 행 수로 채운다.
+ * BoardLikeCounter 는 증감만 반영하므로, 채우지 않으면 기존 게시글의 좋아요 수가 0 에서 시작해 음수가 될 수 있다.
+ * 같은 좋아요가 두 번 세어지지 않도록 중복 행을 먼저 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardLikeCountMigration implements SchemaMigration {
+
+  private final SchemaMigrationSupport support;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public String name() {
+    return "004-board-like-count";
+  }
+
+  @Override
+  public void migrate() {
+    support.ensureUniqueKey("user_board_like", "user_board_like_id",
+        "uk_user_board_like_user_board", "user_id", "board_id");
+    jdbcTemplate.update("update board b set like_count = "
+        + "(select count(*) from user_board_like l where l.board_id = b.board_id)");
+  }
+}
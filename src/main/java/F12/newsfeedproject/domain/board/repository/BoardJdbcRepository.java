@@ -0,0 +1,82 @@
+package F12.newsfeedproject.domain.board.repository;
+
+import F12.newsfeedproject.domain.feed.rank.BoardEngagement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 작성자마다 최근 게시글 ID 를 최신순으로 limit 개까지. 삭제된 게시글은 제외한다.
+  public Map<Long, List<Long>> findRecentBoardIdsByUserIds(Collection<Long> userIds, int limit) {
+    Map<Long, List<Long>> result = new HashMap<>();
+    if (userIds.isEmpty()) {
+      return result;
+    }
+
+    String in = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+    Object[] args = new Object[userIds.size() + 1];
+    int index = 0;
+    for (Long userId : userIds) {
+      args[index++] = userId;
+    }
+    args[index] = limit;
+
+    jdbcTemplate.query(
+        "select user_id, board_id from ("
+            + "select user_id, board_id, "
+            + "row_number() over (partition by user_id order by board_id desc) as rn "
+            + "from board where deleted = false and user_id in (" + in + ")"
+            + ") recent where rn <= ? order by user_id, board_id desc",
+        rs -> {
+          result.computeIfAbsent(rs.getLong(1), userId -> new ArrayList<>()).add(rs.getLong(2));
+        },
+        args);
+    return result;
+  }
+
+  // since 이후에 작성된 게시글들의 좋아요, 댓글 수. 작성 시각은 epoch 초로 돌려준다.
+  public List<BoardEngagement> findBoardEngagementsSince(LocalDateTime since) {
+    return jdbcTemplate.query(
+        "select b.board_id, b.user_id, b.created_date, b.like_count, "
+            + "(select count(*) from comment c where c.board_id = b.board_id) as comment_count "
+            + "from board b where b.deleted = false and b.created_date >= ?",
+        (rs, rowNum) -> new BoardEngagement(
+            rs.getLong(1),
+            rs.getLong(2),
+            rs.getTimestamp(3).getTime() / 1000,
+            rs.getLong(4),
+            rs.getLong(5)),
+        Timestamp.valueOf(since));
+  }
+
+  // userId 가 작성자별로 남긴 좋아요와 댓글 수
+  public Map<Long, Long> countInteractionsByAuthor(Long userId) {
+    Map<Long, Long> result = new HashMap<>();
+    jdbcTemplate.query(
+        "select author_id, count(*) from ("
+            + "select b.user_id as author_id from user_board_like l "
+            + "join board b on b.board_id = l.board_id where l.user_id = ? "
+            + "union all "
+            + "select b.user_id as author_id from comment c "
+            + "join board b on b.board_id = c.board_id where c.user_id = ?"
+            + ") interactions where author_id <> ? group by author_id",
+        rs -> {
+          result.put(rs.getLong(1), rs.getLong(2));
+        },
+        userId, userId, userId);
+    return result;
+  }
+}
@@ -1,13 +1,19 @@
 package F12.newsfeedproject.domain.board.repository;
 
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.feed.timeline.TimelineEntry;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
@@ -15,20 +21,80 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
   @Query("select b from Board b join fetch b.user order by b.createdDate desc")
   List<Board> findAllByOrderByCreatedDateDesc();
 
-  @EntityGraph(attributePaths = "user")
+  // 전체 게시글을 한 번에 메모리에 올리지 않고 fetch size 단위로 읽어 온다. (MySQL 은 useCursorFetch 가 켜져 있어야 한다)
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("select b from Board b join fetch b.user order by b.createdDate desc, b.boardId desc")
+  Stream<Board> streamAllByOrderByCreatedDateDesc();
+
+  @Query("select b from Board b join fetch b.user where b.boardId = :boardId")
+  Optional<Board> findByBoardIdWithUser(@Param("boardId") Long boardId);
+
   @Query(
-      "select b from Board b where b.user in " +
-          "(select f.follower from Follow f where f.following.userId = :userId)"
+      "select new F12.newsfeedproject.domain.feed.timeline.TimelineEntry(b.boardId, b.user.userId) " +
+          "from Board b where b.user.userId in " +
+          "(select f.follower.userId from Follow f where f.following.userId = :userId) " +
+          "order by b.boardId desc"
   )
-  Page<Board> findAllUserFollowerBoard(@Param("userId") Long userId, Pageable pageable);
+  List<TimelineEntry> findFollowingTimelineEntries(@Param("userId") Long userId, Pageable pageable);
 
-  @EntityGraph(attributePaths = "user")
   @Query(
-      "select b from Board b where b in " +
-          "(select ubl.board from UserBoardLike ubl where ubl.user.userId = :userId)"
+      "select new F12.newsfeedproject.domain.feed.timeline.TimelineEntry(b.boardId, b.user.userId) " +
+          "from Board b where b.user.userId in :userIds order by b.boardId desc"
   )
-  List<Board> findAllLikeBoards(@Param("userId") Long userId, Pageable pageable);
+  List<TimelineEntry> findRecentTimelineEntriesByUserIds(@Param("userIds") List<Long> userIds,
+      Pageable pageable);
 
-  @Query("select b from Board b join fetch b.user where b.boardId = :boardId")
-  Optional<Board> findByBoardIdWithUser(@Param("boardId") Long boardId);
+  @Query(
+      "select new F12.newsfeedproject.domain.feed.timeline.TimelineEntry(b.boardId, b.user.userId) " +
+          "from Board b where b.user.userId in :userIds and b.boardId < :boardId " +
+          "order by b.boardId desc"
+  )
+  List<TimelineEntry> findRecentTimelineEntriesByUserIdsBefore(@Param("userIds") List<Long> userIds,
+      @Param("boardId") Long boardId, Pageable pageable);
+
+  // 아래 조회들은 목록 응답에 필요한 컬럼만 BoardView 로 바로 읽는다. 엔티티를 만들지 않으므로 변경 감지 대상도 아니다.
+  String BOARD_VIEW = "select new F12.newsfeedproject.domain.board.dto.BoardView("
+      + "b.boardId, b.boardTitle, b.boardContent, u.userId, u.userName, b.likeCount, "
+      + "b.createdDate, b.modifiedDate) from Board b join b.user u ";
+
+  @Query(BOARD_VIEW)
+  Slice<BoardView> findAllBoardViews(Pageable pageable);
+
+  @Query(
+      BOARD_VIEW + "where u.userId in " +
+          "(select f.follower.userId from Follow f where f.following.userId = :userId)"
+  )
+  Slice<BoardView> findUserFollowerBoardViews(@Param("userId") Long userId, Pageable pageable);
+
+  @Query(
+      BOARD_VIEW + "where b.boardId in " +
+          "(select ubl.board.boardId from UserBoardLike ubl where ubl.user.userId = :userId)"
+  )
+  Slice<BoardView> findLikeBoardViews(@Param("userId") Long userId, Pageable pageable);
+
+  @Query(
+      BOARD_VIEW + "where u.userId in " +
+          "(select f.follower.userId from Follow f where f.following.userId = :userId) " +
+          "and (b.createdDate < :createdDate or (b.createdDate = :createdDate and b.boardId < :boardId)) " +
+          "order by b.createdDate desc, b.boardId desc"
+  )
+  List<BoardView> findUserFollowerBoardViewsBefore(@Param("userId") Long userId,
+      @Param("createdDate") LocalDateTime createdDate, @Param("boardId") Long boardId,
+      Pageable pageable);
+
+  @Query(
+      BOARD_VIEW + "where b.boardId in " +
+          "(select ubl.board.boardId from UserBoardLike ubl where ubl.user.userId = :userId) " +
+          "and (b.createdDate < :createdDate or (b.createdDate = :createdDate and b.boardId < :boardId)) " +
+          "order by b.createdDate desc, b.boardId desc"
+  )
+  List<BoardView> findLikeBoardViewsBefore(@Param("userId") Long userId,
+      @Param("createdDate") LocalDateTime createdDate, @Param("boardId") Long boardId,
+      Pageable pageable);
+
+  @Query(BOARD_VIEW + "where b.boardId in :boardIds")
+  List<BoardView> findBoardViewsByBoardIdIn(@Param("boardIds") List<Long> boardIds);
 }
@@ -0,0 +1,31 @@
+package F12.newsfeedproject.domain.board.service;
+
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 게시글 수의 근사값. 요청마다 COUNT 를 실행하지 않도록 주기적으로 갱신해 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardCountCache {
+
+  private final BoardRepository boardRepository;
+
+  private volatile Long approximateBoardCount;
+
+  @Scheduled(fixedDelayString = "${board.count.refresh-interval-ms}")
+  public void refresh() {
+    approximateBoardCount = boardRepository.count();
+    log.debug("approximate board count refreshed: {}", approximateBoardCount);
+  }
+
+  // 아직 한 번도 갱신되지 않았다면 null
+  public Long getApproximateBoardCount() {
+    return approximateBoardCount;
+  }
+}
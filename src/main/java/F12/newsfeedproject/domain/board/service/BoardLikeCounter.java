@@ -0,0 +1,52 @@
+package F12.newsfeedproject.domain.board.service;
+
+import F12.newsfeedproject.domain.board.event.BoardLikeCountsFlushedEvent;
+import F12.newsfeedproject.global.counter.BufferedCountUpdater;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글 좋아요 수 카운터.
+ * 좋아요/취소 시 메모리 버퍼에만 반영하고, 주기적으로 board.like_count 에 배치 UPDATE 로 모아서 반영한다.
+ * 인기 게시글에 좋아요가 몰려도 같은 행에 대한 락 경합이 요청마다 생기지 않는다.
+ * 반영한 뒤에는 이벤트를 보내서 캐시된 게시글 응답의 좋아요 수를 갱신하게 한다.
+ */
+@Component
+public class BoardLikeCounter {
+
+  private final BufferedCountUpdater updater;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public BoardLikeCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+    this.updater = new BufferedCountUpdater(jdbcTemplate, transactionTemplate, "board",
+        "board_id", "like_count");
+  }
+
+  public void increment(Long boardId) {
+    updater.addAfterCommit(boardId, 1);
+  }
+
+  public void decrement(Long boardId) {
+    updater.addAfterCommit(boardId, -1);
+  }
+
+  @Scheduled(fixedDelayString = "${board.like-count.flush-interval-ms}")
+  public void flush() {
+    Set<Long> boardIds = updater.flush();
+    if (!boardIds.isEmpty()) {
+      eventPublisher.publishEvent(new BoardLikeCountsFlushedEvent(boardIds));
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
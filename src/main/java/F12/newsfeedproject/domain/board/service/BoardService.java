@@ -1,12 +1,27 @@
 package F12.newsfeedproject.domain.board.service;
 
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.event.BoardCreatedEvent;
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
 import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.feed.timeline.TimelineEntry;
 import F12.newsfeedproject.global.exception.board.BoardNotFoundException;
+import F12.newsfeedproject.global.paging.Cursor;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,19 +30,44 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class BoardService {
 
+  private static final int STREAM_CLEAR_INTERVAL = 500;
+
   private final BoardRepository boardRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityManager entityManager;
 
   @Transactional
   public Board saveBoard(Board board) {
-    return boardRepository.save(board);
+    Board savedBoard = boardRepository.save(board);
+    eventPublisher.publishEvent(
+        new BoardCreatedEvent(savedBoard.getBoardId(), savedBoard.getUser().getUserId()));
+    return savedBoard;
+  }
+
+  public boolean existsByBoardId(Long boardId) {
+    return boardRepository.existsById(boardId);
   }
 
   public Board findByBoardId(Long boardId) {
     return boardRepository.findById(boardId).orElseThrow(BoardNotFoundException::new);
   }
 
-  public List<Board> getBoards() {
-    return boardRepository.findAllByOrderByCreatedDateDesc();
+  public Slice<BoardView> getBoards(Pageable pageable) {
+    return boardRepository.findAllBoardViews(pageable);
+  }
+
+  // 전체 게시글을 최신순으로 하나씩 넘겨준다. 영속성 컨텍스트를 주기적으로 비워 메모리 사용량을 일정하게 유지한다.
+  @Transactional(readOnly = true)
+  public void streamBoards(Consumer<Board> consumer) {
+    try (Stream<Board> boards = boardRepository.streamAllByOrderByCreatedDateDesc()) {
+      int count = 0;
+      for (Board board : (Iterable<Board>) boards::iterator) {
+        consumer.accept(board);
+        if (++count % STREAM_CLEAR_INTERVAL == 0) {
+          entityManager.clear();
+        }
+      }
+    }
   }
 
   @Transactional
@@ -35,9 +75,12 @@ public class BoardService {
     updateBoard.update(board);
   }
 
+  // 숨김 처리만 한다. 실제 삭제는 PurgeWorker 가 한다.
+  @Transactional
   public void deleteBoard(Long boardId) {
-    boardRepository.findById(boardId).orElseThrow(BoardNotFoundException::new);
-    boardRepository.deleteById(boardId);
+    Board board = boardRepository.findById(boardId).orElseThrow(BoardNotFoundException::new);
+    board.delete();
+    eventPublisher.publishEvent(new BoardDeletedEvent(boardId, board.getUser().getUserId()));
   }
 
   public Long getAuthorIdByBoardId(Long boardId) {
@@ -45,15 +88,53 @@ public class BoardService {
     return board.getUser().getUserId();
   }
 
-  public List<Board> findAllUserFollowerBoard(Long userId, Pageable pageable) {
-    return boardRepository.findAllUserFollowerBoard(userId, pageable).getContent();
+  public Slice<BoardView> findAllUserFollowerBoard(Long userId, Pageable pageable) {
+    return boardRepository.findUserFollowerBoardViews(userId, pageable);
   }
-  public List<Board> findAllLikeBoards(Long userId, Pageable pageable) {
-    return boardRepository.findAllLikeBoards(userId, pageable);
+
+  public Slice<BoardView> findAllLikeBoards(Long userId, Pageable pageable) {
+    return boardRepository.findLikeBoardViews(userId, pageable);
+  }
+
+  public List<BoardView> findAllUserFollowerBoardBefore(Long userId, Cursor cursor, int limit) {
+    return boardRepository.findUserFollowerBoardViewsBefore(userId, cursor.createdDate(),
+        cursor.id(), PageRequest.of(0, limit));
+  }
+
+  public List<BoardView> findAllLikeBoardsBefore(Long userId, Cursor cursor, int limit) {
+    return boardRepository.findLikeBoardViewsBefore(userId, cursor.createdDate(), cursor.id(),
+        PageRequest.of(0, limit));
   }
 
   public Board findByBoardIdWithUser(Long boardId) {
     return boardRepository.findByBoardIdWithUser(boardId).orElseThrow(BoardNotFoundException::new);
   }
+
+  // 작성자들의 최근 게시글 ID 목록 (최신순)
+  public List<TimelineEntry> findRecentTimelineEntries(List<Long> authorIds, int limit) {
+    return boardRepository.findRecentTimelineEntriesByUserIds(authorIds, PageRequest.of(0, limit));
+  }
+
+  public List<TimelineEntry> findRecentTimelineEntriesBefore(List<Long> authorIds, Long boardId,
+      int limit) {
+    return boardRepository.findRecentTimelineEntriesByUserIdsBefore(authorIds, boardId,
+        PageRequest.of(0, limit));
+  }
+
+  // 전달받은 ID 순서대로 게시글을 조회한다. 삭제된 게시글은 결과에서 빠진다.
+  public List<BoardView> findAllByBoardIdsInOrder(List<Long> boardIds) {
+    if (boardIds.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Long, Integer> order = new HashMap<>();
+    for (int i = 0; i < boardIds.size(); i++) {
+      order.put(boardIds.get(i), i);
+    }
+
+    List<BoardView> boards = new ArrayList<>(boardRepository.findBoardViewsByBoardIdIn(boardIds));
+    boards.sort(Comparator.comparing(board -> order.get(board.boardId())));
+    return boards;
+  }
 }
 
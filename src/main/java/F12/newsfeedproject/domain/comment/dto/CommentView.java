@@ -0,0 +1,15 @@
+package F12.newsfeedproject.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+// 댓글 목록 조회용 프로젝션. Comment, User, Board 엔티티를 만들지 않고 필요한 컬럼만 가져온다.
+public record CommentView(
+    Long commentId,
+    String commentContent,
+    Long userId,
+    String userName,
+    long likeCount,
+    LocalDateTime createDate
+) {
+
+}
@@ -5,17 +5,21 @@ import F12.newsfeedproject.domain.common.Timestamped;
 import F12.newsfeedproject.domain.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 
 @Entity
@@ -23,6 +27,9 @@ import org.springframework.data.annotation.CreatedDate;
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_comment_board_create_date", columnList = "board_id, createDate, commentId")
+})
 public class Comment extends Timestamped {
 
   @Id
@@ -32,14 +39,19 @@ public class Comment extends Timestamped {
   @Column(nullable = false)
   private String commentContent;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   private User user;
 
-  @ManyToOne
+  @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "board_id", nullable = false)
   private Board board;
 
+  // CommentLikeCounter 가 배치로만 갱신하므로 엔티티 변경 감지로는 덮어쓰지 않는다.
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long likeCount;
+
   @Column
   @CreatedDate
   private LocalDateTime createDate;
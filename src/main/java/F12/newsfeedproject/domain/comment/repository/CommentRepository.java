@@ -1,7 +1,31 @@
 package F12.newsfeedproject.domain.comment.repository;
 
+import F12.newsfeedproject.domain.comment.dto.CommentView;
 import F12.newsfeedproject.domain.comment.entity.Comment;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+  // (board_id, create_date, comment_id) 인덱스를 타도록 같은 순서로 비교, 정렬한다.
+  // 숨김 처리된 게시글의 댓글은 조회하지 않는다.
+  @Query(
+      "select new F12.newsfeedproject.domain.comment.dto.CommentView(" +
+          "c.commentId, c.commentContent, u.userId, u.userName, c.likeCount, c.createDate) " +
+          "from Comment c join c.board b left join c.user u " +
+          "where c.board.boardId = :boardId and b.deleted = false " +
+          "and (c.createDate < :createDate or (c.createDate = :createDate and c.commentId < :commentId)) " +
+          "order by c.createDate desc, c.commentId desc"
+  )
+  List<CommentView> findCommentViewsBefore(@Param("boardId") Long boardId,
+      @Param("createDate") LocalDateTime createDate, @Param("commentId") Long commentId,
+      Pageable pageable);
+
+  // 숨김 처리된 게시글의 댓글은 없는 것으로 본다.
+  @Query("select count(c) > 0 from Comment c join c.board b where c.commentId = :commentId and b.deleted = false")
+  boolean existsWithVisibleBoard(@Param("commentId") Long commentId);
 }
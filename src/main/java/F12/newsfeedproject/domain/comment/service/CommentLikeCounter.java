@@ -0,0 +1,42 @@
+package F12.newsfeedproject.domain.comment.service;
+
+import F12.newsfeedproject.global.counter.BufferedCountUpdater;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 댓글 좋아요 수 카운터.
+ * 좋아요/취소 시 메모리 버퍼에만 반영하고, 주기적으로 comment.like_count 에 배치 UPDATE 로 모아서 반영한다.
+ * 인기 댓글에 좋아요가 몰려도 같은 행에 대한 락 경합이 요청마다 생기지 않는다.
+ */
+@Component
+public class CommentLikeCounter {
+
+  private final BufferedCountUpdater updater;
+
+  public CommentLikeCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+    this.updater = new BufferedCountUpdater(jdbcTemplate, transactionTemplate, "comment",
+        "comment_id", "like_count");
+  }
+
+  public void increment(Long commentId) {
+    updater.addAfterCommit(commentId, 1);
+  }
+
+  public void decrement(Long commentId) {
+    updater.addAfterCommit(commentId, -1);
+  }
+
+  @Scheduled(fixedDelayString = "${comment.like-count.flush-interval-ms}")
+  public void flush() {
+    updater.flush();
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
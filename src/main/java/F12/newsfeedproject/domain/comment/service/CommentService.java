@@ -1,9 +1,13 @@
 package F12.newsfeedproject.domain.comment.service;
 
+    import F12.newsfeedproject.domain.comment.dto.CommentView;
     import F12.newsfeedproject.domain.comment.entity.Comment;
     import F12.newsfeedproject.domain.comment.repository.CommentRepository;
+    import F12.newsfeedproject.global.paging.Cursor;
+    import java.util.List;
     import java.util.Optional;
     import lombok.RequiredArgsConstructor;
+    import org.springframework.data.domain.PageRequest;
     import org.springframework.stereotype.Service;
 
 @Service
@@ -20,6 +24,16 @@ public class CommentService {
         return commentRepository.findById(commentId);
     }
 
+    // 커서보다 오래된 댓글을 최신순으로 limit 개까지 조회
+    public List<CommentView> findCommentViewsBefore(Long boardId, Cursor cursor, int limit) {
+        return commentRepository.findCommentViewsBefore(boardId, cursor.createdDate(), cursor.id(),
+                PageRequest.of(0, limit));
+    }
+
+    public boolean existsByCommentId(Long commentId) {
+        return commentRepository.existsWithVisibleBoard(commentId);
+    }
+
     public void deleteComment(Long commentId) {
         commentRepository.deleteById(commentId);
     }
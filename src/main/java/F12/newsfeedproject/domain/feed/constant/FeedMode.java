@@ -0,0 +1,12 @@
+package F12.newsfeedproject.domain.feed.constant;
+
+public enum FeedMode {
+  // 조회 시점에 팔로우 서브쿼리로 게시글을 가져온다.
+  PULL,
+  // 작성 시점에 팔로워들의 홈 타임라인에 게시글을 밀어 넣는다.
+  PUSH,
+  // PUSH 와 같지만 팔로워가 많은 작성자의 글은 밀어 넣지 않고 조회 시점에 합친다.
+  HYBRID,
+  // 작성자별 최근 글 목록을 메모리에 두고 조회 시점에 팔로우한 작성자들의 목록을 합친다.
+  MERGE
+}
@@ -0,0 +1,27 @@
+package F12.newsfeedproject.domain.feed.listener;
+
+import F12.newsfeedproject.domain.board.event.BoardCreatedEvent;
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
+import F12.newsfeedproject.domain.feed.service.AuthorBoardIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class AuthorBoardIndexListener {
+
+  private final AuthorBoardIndex authorBoardIndex;
+
+  // 적재된 목록에 배열 복사 한 번만 하므로 요청 스레드에서 바로 반영한다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBoardCreated(BoardCreatedEvent event) {
+    authorBoardIndex.onBoardCreated(event.authorId(), event.boardId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBoardDeleted(BoardDeletedEvent event) {
+    authorBoardIndex.onBoardDeleted(event.authorId(), event.boardId());
+  }
+}
@@ -0,0 +1,31 @@
+package F12.newsfeedproject.domain.feed.listener;
+
+import F12.newsfeedproject.domain.board.event.BoardCreatedEvent;
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
+import F12.newsfeedproject.domain.feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineFanoutListener {
+
+  private final FeedService feedService;
+
+  // 게시글이 커밋된 뒤 별도 스레드에서 팔로워 타임라인에 반영한다.
+  @Async("feedTaskExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBoardCreated(BoardCreatedEvent event) {
+    feedService.distribute(event.boardId(), event.authorId());
+  }
+
+  // 삭제된 게시글이 타임라인에 남아 페이지를 비우지 않도록 팔로워 타임라인에서 지운다.
+  @Async("feedTaskExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onBoardDeleted(BoardDeletedEvent event) {
+    feedService.withdraw(event.boardId(), event.authorId());
+  }
+}
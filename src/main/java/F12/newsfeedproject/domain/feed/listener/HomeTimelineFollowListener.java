@@ -0,0 +1,22 @@
+package F12.newsfeedproject.domain.feed.listener;
+
+import F12.newsfeedproject.domain.feed.service.FeedService;
+import F12.newsfeedproject.domain.follow.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineFollowListener {
+
+  private final FeedService feedService;
+
+  // 본인의 다음 조회에 바로 반영되도록 표시는 요청 스레드에서 하고, DB 조회와 정리는 별도 스레드에서 한다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFollowChanged(FollowChangedEvent event) {
+    feedService.markFollowChanged(event.userId(), event.targetId(), event.followed());
+    feedService.applyFollowChanged(event.userId(), event.followed());
+  }
+}
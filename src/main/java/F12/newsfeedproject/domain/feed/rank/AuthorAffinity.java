@@ -0,0 +1,44 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 한 사용자가 작성자별로 남긴 반응(좋아요, 댓글) 수. 작성자 ID 오름차순 배열에서 이진 탐색으로 찾는다.
+ */
+public class AuthorAffinity {
+
+  private static final AuthorAffinity EMPTY = new AuthorAffinity(new long[0], new float[0]);
+
+  private final long[] authorIds;
+
+  private final float[] weights;
+
+  private AuthorAffinity(long[] authorIds, float[] weights) {
+    this.authorIds = authorIds;
+    this.weights = weights;
+  }
+
+  public static AuthorAffinity empty() {
+    return EMPTY;
+  }
+
+  public static AuthorAffinity of(Map<Long, ? extends Number> weightsByAuthor) {
+    long[] authorIds = weightsByAuthor.keySet().stream().mapToLong(Long::longValue).sorted()
+        .toArray();
+    float[] weights = new float[authorIds.length];
+    for (int i = 0; i < authorIds.length; i++) {
+      weights[i] = weightsByAuthor.get(authorIds[i]).floatValue();
+    }
+    return new AuthorAffinity(authorIds, weights);
+  }
+
+  public float get(long authorId) {
+    int index = Arrays.binarySearch(authorIds, authorId);
+    return index >= 0 ? weights[index] : 0f;
+  }
+
+  public int size() {
+    return authorIds.length;
+  }
+}
@@ -0,0 +1,12 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+// 순위 계산 후보 게시글 한 개. createdAt 은 epoch 초
+public record BoardEngagement(
+    long boardId,
+    long authorId,
+    long createdAt,
+    long likeCount,
+    long commentCount
+) {
+
+}
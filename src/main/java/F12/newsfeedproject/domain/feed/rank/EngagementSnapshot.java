@@ -0,0 +1,106 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 최근 게시글들의 반응 속도를 미리 계산해 둔 읽기 전용 스냅샷.
+ * 게시글은 작성자 ID 순으로 묶여 있어서 팔로우한 작성자마다 후보 게시글 범위를 바로 찾을 수 있다.
+ * 요청 스레드에서는 배열만 읽으므로 잠금이나 객체 생성 없이 점수를 계산할 수 있다.
+ */
+public class EngagementSnapshot {
+
+  private static final EngagementSnapshot EMPTY = new EngagementSnapshot(new long[0], new int[]{0},
+      new long[0], new long[0], new float[0]);
+
+  // 게시글이 있는 작성자들 (오름차순). authorStart[i] 부터 authorStart[i + 1] - 1 까지가 i 번째 작성자의 게시글이다.
+  private final long[] authorIds;
+
+  private final int[] authorStart;
+
+  private final long[] boardIds;
+
+  private final long[] createdAt;
+
+  // 시간당 반응 수 (좋아요 + 가중치를 곱한 댓글)
+  private final float[] velocity;
+
+  private EngagementSnapshot(long[] authorIds, int[] authorStart, long[] boardIds,
+      long[] createdAt, float[] velocity) {
+    this.authorIds = authorIds;
+    this.authorStart = authorStart;
+    this.boardIds = boardIds;
+    this.createdAt = createdAt;
+    this.velocity = velocity;
+  }
+
+  public static EngagementSnapshot empty() {
+    return EMPTY;
+  }
+
+  // now 는 epoch 초. 반응 속도는 작성 후 지난 시간(최소 1시간)으로 나눈 값이다.
+  public static EngagementSnapshot of(List<BoardEngagement> boards, long now,
+      double commentWeight) {
+    BoardEngagement[] sorted = boards.toArray(new BoardEngagement[0]);
+    Arrays.sort(sorted, Comparator.comparingLong(BoardEngagement::authorId)
+        .thenComparing(Comparator.comparingLong(BoardEngagement::boardId).reversed()));
+
+    int size = sorted.length;
+    long[] boardIds = new long[size];
+    long[] createdAt = new long[size];
+    float[] velocity = new float[size];
+    long[] authorIds = new long[size];
+    int[] authorStart = new int[size + 1];
+    int authorCount = 0;
+
+    for (int i = 0; i < size; i++) {
+      BoardEngagement board = sorted[i];
+      if (i == 0 || board.authorId() != sorted[i - 1].authorId()) {
+        authorIds[authorCount] = board.authorId();
+        authorStart[authorCount++] = i;
+      }
+      boardIds[i] = board.boardId();
+      createdAt[i] = board.createdAt();
+      double ageHours = Math.max(1.0, (now - board.createdAt()) / 3600.0);
+      velocity[i] = (float) ((board.likeCount() + commentWeight * board.commentCount()) / ageHours);
+    }
+    authorStart[authorCount] = size;
+
+    return new EngagementSnapshot(Arrays.copyOf(authorIds, authorCount),
+        Arrays.copyOf(authorStart, authorCount + 1), boardIds, createdAt, velocity);
+  }
+
+  public int boardCount() {
+    return boardIds.length;
+  }
+
+  // 없는 작성자면 음수
+  public int indexOfAuthor(long authorId) {
+    return Arrays.binarySearch(authorIds, authorId);
+  }
+
+  public long authorIdAt(int authorIndex) {
+    return authorIds[authorIndex];
+  }
+
+  public int boardStart(int authorIndex) {
+    return authorStart[authorIndex];
+  }
+
+  public int boardEnd(int authorIndex) {
+    return authorStart[authorIndex + 1];
+  }
+
+  public long boardIdAt(int position) {
+    return boardIds[position];
+  }
+
+  public long createdAtAt(int position) {
+    return createdAt[position];
+  }
+
+  public float velocityAt(int position) {
+    return velocity[position];
+  }
+}
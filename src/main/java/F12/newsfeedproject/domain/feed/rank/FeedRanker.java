@@ -0,0 +1,126 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팔로우한 작성자들의 후보 게시글에 점수를 매겨 상위 k 개를 고른다.
+ * 점수 = 2^(-경과 시간 / halfLifeHours) * (1 + engagementWeight * ln(1 + 반응 속도))
+ *       * (1 + affinityWeight * ln(1 + 작성자에게 남긴 반응 수))
+ * 전체를 정렬하지 않고 크기 k 의 최소 힙에 점수가 높은 후보만 남긴다.
+ */
+public class FeedRanker {
+
+  private final double decayPerSecond;
+  private final double engagementWeight;
+  private final double affinityWeight;
+
+  public FeedRanker(double halfLifeHours, double engagementWeight, double affinityWeight) {
+    this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+    this.engagementWeight = engagementWeight;
+    this.affinityWeight = affinityWeight;
+  }
+
+  // now 는 epoch 초. 점수가 높은 순으로 게시글 ID 를 반환한다.
+  public List<Long> rank(EngagementSnapshot snapshot, long[] followeeIds,
+      AuthorAffinity affinity, long now, int k) {
+    if (k <= 0) {
+      return List.of();
+    }
+
+    double[] heapScores = new double[k];
+    long[] heapBoardIds = new long[k];
+    int heapSize = 0;
+
+    for (long followeeId : followeeIds) {
+      int authorIndex = snapshot.indexOfAuthor(followeeId);
+      if (authorIndex < 0) {
+        continue;
+      }
+
+      double authorBoost = 1 + affinityWeight * Math.log1p(affinity.get(followeeId));
+      for (int i = snapshot.boardStart(authorIndex); i < snapshot.boardEnd(authorIndex); i++) {
+        double score = score(snapshot, i, authorBoost, now);
+        if (heapSize < k) {
+          heapScores[heapSize] = score;
+          heapBoardIds[heapSize] = snapshot.boardIdAt(i);
+          siftUp(heapScores, heapBoardIds, heapSize++);
+        } else if (isHigher(score, snapshot.boardIdAt(i), heapScores[0], heapBoardIds[0])) {
+          heapScores[0] = score;
+          heapBoardIds[0] = snapshot.boardIdAt(i);
+          siftDown(heapScores, heapBoardIds, heapSize);
+        }
+      }
+    }
+
+    // 힙에서 가장 낮은 점수부터 꺼내 뒤에서부터 채운다.
+    long[] ranked = new long[heapSize];
+    for (int size = heapSize; size > 0; size--) {
+      ranked[size - 1] = heapBoardIds[0];
+      heapScores[0] = heapScores[size - 1];
+      heapBoardIds[0] = heapBoardIds[size - 1];
+      siftDown(heapScores, heapBoardIds, size - 1);
+    }
+    List<Long> result = new ArrayList<>(heapSize);
+    for (long boardId : ranked) {
+      result.add(boardId);
+    }
+    return result;
+  }
+
+  double score(EngagementSnapshot snapshot, int position, double authorBoost, long now) {
+    long ageSeconds = Math.max(0, now - snapshot.createdAtAt(position));
+    double recency = Math.exp(-decayPerSecond * ageSeconds);
+    double engagement = 1 + engagementWeight * Math.log1p(snapshot.velocityAt(position));
+    return recency * engagement * authorBoost;
+  }
+
+  // 점수가 같으면 최신 글(큰 ID)이 앞선다.
+  private static boolean isHigher(double score, long boardId, double otherScore, long otherBoardId) {
+    return score > otherScore || (score == otherScore && boardId > otherBoardId);
+  }
+
+  // 가장 낮은 후보가 위로 오는 힙
+  private static void siftUp(double[] scores, long[] boardIds, int index) {
+    double score = scores[index];
+    long boardId = boardIds[index];
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!isHigher(scores[parent], boardIds[parent], score, boardId)) {
+        break;
+      }
+      scores[index] = scores[parent];
+      boardIds[index] = boardIds[parent];
+      index = parent;
+    }
+    scores[index] = score;
+    boardIds[index] = boardId;
+  }
+
+  private static void siftDown(double[] scores, long[] boardIds, int size) {
+    if (size == 0) {
+      return;
+    }
+    int index = 0;
+    double score = scores[0];
+    long boardId = boardIds[0];
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        break;
+      }
+      if (child + 1 < size
+          && isHigher(scores[child], boardIds[child], scores[child + 1], boardIds[child + 1])) {
+        child++;
+      }
+      if (!isHigher(score, boardId, scores[child], boardIds[child])) {
+        break;
+      }
+      scores[index] = scores[child];
+      boardIds[index] = boardIds[child];
+      index = child;
+    }
+    scores[index] = score;
+    boardIds[index] = boardId;
+  }
+}
@@ -0,0 +1,101 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import F12.newsfeedproject.domain.board.repository.BoardJdbcRepository;
+import F12.newsfeedproject.domain.feed.timeline.AuthorBoardList;
+import F12.newsfeedproject.domain.feed.timeline.FeedMerger;
+import F12.newsfeedproject.domain.feed.timeline.MergedFeed;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작성자별 최근 게시글 ID 목록을 메모리에 유지한다. MERGE 모드의 팔로우 피드는 이 목록들을 합쳐서 만든다.
+ * 목록은 처음 필요할 때 여러 작성자를 한 번에 DB 에서 적재하고, 이후에는 글 작성, 삭제 이벤트로 갱신된다.
+ * 적재와 이벤트가 엇갈려 빠진 글이 있어도 expire-after-write 가 지나면 다시 적재되면서 맞춰진다.
+ * 전체 크기는 보관 중인 게시글 ID 수(maximum-weight) 로 제한한다.
+ */
+@Component
+public class AuthorBoardIndex {
+
+  // IN 절 하나에 넣는 작성자 수
+  private static final int LOAD_BATCH_SIZE = 500;
+
+  private final BoardJdbcRepository boardJdbcRepository;
+  private final int maxLength;
+
+  private final Cache<Long, AuthorBoardList> lists;
+
+  public AuthorBoardIndex(BoardJdbcRepository boardJdbcRepository,
+      MeterRegistry meterRegistry,
+      @Value("${feed.merge.author-max-length}") int maxLength,
+      @Value("${feed.merge.maximum-weight}") long maximumWeight,
+      @Value("${feed.merge.expire-after-write-ms}") long expireAfterWriteMs) {
+    this.boardJdbcRepository = boardJdbcRepository;
+    this.maxLength = maxLength;
+    // 목록이 나중에 커져도 무게는 적재할 때 한 번만 계산되므로 최대 길이로 잡는다.
+    this.lists = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((Long authorId, AuthorBoardList list) -> maxLength + 1)
+        .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, lists, "feed.merge.authors");
+  }
+
+  // authorIds 의 최근 글들을 합쳐 beforeBoardId 보다 오래된 글을 최신순으로 limit 개까지 고른다.
+  public MergedFeed merge(long[] authorIds, long beforeBoardId, int limit) {
+    if (authorIds.length == 0 || limit <= 0) {
+      return new MergedFeed(List.of(), false);
+    }
+
+    List<Long> keys = new ArrayList<>(authorIds.length);
+    for (long authorId : authorIds) {
+      keys.add(authorId);
+    }
+    Map<Long, AuthorBoardList> loaded = lists.getAll(keys, this::load);
+    return FeedMerger.merge(new ArrayList<>(loaded.values()), beforeBoardId, limit);
+  }
+
+  // 적재된 목록만 갱신한다. 적재되지 않은 작성자는 다음에 DB 에서 읽을 때 반영된다.
+  public void onBoardCreated(Long authorId, Long boardId) {
+    AuthorBoardList list = lists.getIfPresent(authorId);
+    if (list != null) {
+      list.add(boardId);
+    }
+  }
+
+  public void onBoardDeleted(Long authorId, Long boardId) {
+    AuthorBoardList list = lists.getIfPresent(authorId);
+    if (list != null) {
+      list.remove(boardId);
+    }
+  }
+
+  private Map<Long, AuthorBoardList> load(Set<? extends Long> authorIds) {
+    List<Long> ids = List.copyOf(authorIds);
+    Map<Long, List<Long>> recent = new HashMap<>();
+    for (int from = 0; from < ids.size(); from += LOAD_BATCH_SIZE) {
+      recent.putAll(boardJdbcRepository.findRecentBoardIdsByUserIds(
+          ids.subList(from, Math.min(ids.size(), from + LOAD_BATCH_SIZE)), maxLength));
+    }
+
+    Map<Long, AuthorBoardList> result = new HashMap<>();
+    for (Long authorId : authorIds) {
+      long[] boardIds = recent.getOrDefault(authorId, List.of()).stream()
+          .mapToLong(Long::longValue)
+          .toArray();
+      result.put(authorId, AuthorBoardList.of(boardIds, maxLength));
+    }
+    return result;
+  }
+}
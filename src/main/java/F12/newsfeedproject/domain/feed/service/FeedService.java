@@ -0,0 +1,302 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import F12.newsfeedproject.domain.board.dto.BoardView;
+import F12.newsfeedproject.domain.board.service.BoardService;
+import F12.newsfeedproject.domain.feed.constant.FeedMode;
+import F12.newsfeedproject.domain.feed.timeline.MergedFeed;
+import F12.newsfeedproject.domain.feed.timeline.TimelineEntry;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.global.paging.Cursor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class FeedService {
+
+  private final BoardService boardService;
+  private final HomeTimelineService homeTimelineService;
+  private final HighFollowerAuthorRegistry highFollowerAuthorRegistry;
+  private final AuthorBoardIndex authorBoardIndex;
+  private final FollowGraph followGraph;
+  private final FeedMode feedMode;
+  private final boolean shadowCompare;
+  private final DistributionSummary pulledAuthorsSummary;
+  private final Counter mergeFallbackCounter;
+  private final Counter shadowMismatchCounter;
+
+  public FeedService(BoardService boardService,
+      HomeTimelineService homeTimelineService,
+      HighFollowerAuthorRegistry highFollowerAuthorRegistry,
+      AuthorBoardIndex authorBoardIndex,
+      FollowGraph followGraph,
+      MeterRegistry meterRegistry,
+      @Value("${feed.mode}") FeedMode feedMode,
+      @Value("${feed.merge.shadow-compare}") boolean shadowCompare) {
+    this.boardService = boardService;
+    this.homeTimelineService = homeTimelineService;
+    this.highFollowerAuthorRegistry = highFollowerAuthorRegistry;
+    this.authorBoardIndex = authorBoardIndex;
+    this.followGraph = followGraph;
+    this.feedMode = feedMode;
+    this.shadowCompare = shadowCompare;
+    this.pulledAuthorsSummary = DistributionSummary.builder("feed.hybrid.pulled.authors")
+        .description("조회 시점에 합쳐진 작성자 수 (요청당)")
+        .register(meterRegistry);
+    this.mergeFallbackCounter = Counter.builder("feed.merge.fallback")
+        .description("메모리에 없는 오래된 글 때문에 SQL 로 이어서 읽은 조회 수")
+        .register(meterRegistry);
+    this.shadowMismatchCounter = Counter.builder("feed.merge.shadow.mismatch")
+        .description("MERGE 결과가 SQL 결과와 다른 조회 수")
+        .register(meterRegistry);
+  }
+
+  // 팔로우한 사용자들의 게시글을 최신순으로 조회
+  public Slice<BoardView> findFollowingFeed(Long userId, Pageable pageable) {
+    if (feedMode == FeedMode.PULL) {
+      return boardService.findAllUserFollowerBoard(userId, pageable);
+    }
+    if (feedMode == FeedMode.MERGE) {
+      return findMergedFeed(userId, pageable);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 한 개를 더 모은다.
+    int offset = (int) pageable.getOffset();
+    List<BoardView> boards = collectVisible(timelinePager(userId), Long.MAX_VALUE,
+        offset + pageable.getPageSize() + 1);
+    return toSlice(boards, pageable);
+  }
+
+  /**
+   * 커서 이후의 팔로우 피드를 최신순으로 limit 개까지 조회한다.
+   * 타임라인은 게시글 ID 순서로 정렬되어 있으므로 PUSH, HYBRID 모드에서는 커서의 ID 만 사용한다.
+   */
+  public List<BoardView> findFollowingFeedBefore(Long userId, Cursor cursor, int limit) {
+    if (feedMode == FeedMode.PULL) {
+      return boardService.findAllUserFollowerBoardBefore(userId, cursor, limit);
+    }
+    if (feedMode == FeedMode.MERGE) {
+      return findMergedFeedBefore(userId, cursor, limit);
+    }
+
+    return collectVisible(timelinePager(userId), cursor.id(), limit);
+  }
+
+  // 삭제된 게시글을 팔로워 타임라인에서 지운다.
+  public void withdraw(Long boardId, Long authorId) {
+    if (usesHomeTimeline()) {
+      homeTimelineService.remove(boardId, authorId);
+    }
+  }
+
+  // 새 게시글을 팔로워 타임라인에 반영
+  public void distribute(Long boardId, Long authorId) {
+    if (!usesHomeTimeline()) {
+      return;
+    }
+
+    if (feedMode == FeedMode.HYBRID && highFollowerAuthorRegistry.isHighFollowerAuthor(authorId)) {
+      return;
+    }
+
+    homeTimelineService.fanout(boardId, authorId);
+  }
+
+  /**
+   * 팔로우 변경을 요청한 사용자의 타임라인에 바로 표시한다. 커밋 후 요청 스레드에서 호출되므로 가벼운 작업만 한다.
+   * HYBRID 모드에서 팔로워가 많은 작성자의 글은 조회 시점에 합쳐지므로 타임라인에 넣지 않는다.
+   */
+  public void markFollowChanged(Long userId, Long authorId, boolean followed) {
+    if (!usesHomeTimeline()) {
+      return;
+    }
+
+    if (!followed) {
+      homeTimelineService.markUnfollowed(userId, authorId);
+    } else if (feedMode == FeedMode.PUSH
+        || !highFollowerAuthorRegistry.isHighFollowerAuthor(authorId)) {
+      homeTimelineService.markFollowed(userId, authorId);
+    }
+  }
+
+  // 표시해 둔 변경을 별도 스레드에서 반영한다. 팔로우는 최근 글을 채우고 언팔로우는 남은 글을 지운다.
+  @Async("feedTaskExecutor")
+  public void applyFollowChanged(Long userId, boolean followed) {
+    if (!usesHomeTimeline()) {
+      return;
+    }
+
+    if (followed) {
+      homeTimelineService.backfill(userId);
+    } else {
+      homeTimelineService.compact(userId);
+    }
+  }
+
+  public void rebuildFollowingFeed(Long userId) {
+    homeTimelineService.rebuild(userId);
+  }
+
+  // MERGE 모드에서는 팔로우 목록이 바로 병합 대상이 되므로 타임라인을 따로 관리하지 않는다.
+  private boolean usesHomeTimeline() {
+    return feedMode == FeedMode.PUSH || feedMode == FeedMode.HYBRID;
+  }
+
+  private Slice<BoardView> findMergedFeed(Long userId, Pageable pageable) {
+    int limit = (int) (pageable.getOffset() + pageable.getPageSize() + 1);
+    MergedPage merged = collectMerged(userId, Long.MAX_VALUE, limit);
+    if (merged.truncated()) {
+      mergeFallbackCounter.increment();
+      return boardService.findAllUserFollowerBoard(userId, pageable);
+    }
+    return toSlice(merged.boards(), pageable);
+  }
+
+  private List<BoardView> findMergedFeedBefore(Long userId, Cursor cursor, int limit) {
+    MergedPage merged = collectMerged(userId, cursor.id(), limit);
+    List<BoardView> boards = merged.boards();
+
+    if (merged.truncated()) {
+      // 메모리에 없는 오래된 글은 마지막으로 고른 글 다음부터 SQL 로 이어서 읽는다.
+      mergeFallbackCounter.increment();
+      Cursor next = boards.isEmpty() ? cursor : toCursor(boards.get(boards.size() - 1));
+      List<BoardView> result = new ArrayList<>(boards);
+      result.addAll(boardService.findAllUserFollowerBoardBefore(userId, next, limit - boards.size()));
+      boards = result;
+    }
+
+    if (shadowCompare) {
+      compareWithSql(userId, cursor, limit, boards);
+    }
+    return boards;
+  }
+
+  /**
+   * 팔로우한 작성자들의 최근 글을 합치면서 삭제되지 않은 게시글을 limit 개까지 모은다.
+   * 다 모으기 전에 메모리에 없는 오래된 글에 닿으면 truncated 를 true 로 반환한다.
+   */
+  private MergedPage collectMerged(Long userId, long beforeBoardId, int limit) {
+    long[] followeeIds = followGraph.followees(userId);
+    boolean[] truncated = {false};
+    List<BoardView> boards = collectVisible((before, count) -> {
+      MergedFeed merged = authorBoardIndex.merge(followeeIds, before, count);
+      truncated[0] = merged.truncated();
+      return merged.boardIds();
+    }, beforeBoardId, limit);
+    return new MergedPage(boards, truncated[0] && boards.size() < limit);
+  }
+
+  // 같은 조회를 SQL 로도 실행해서 결과가 다르면 기록한다. 두 경로를 비교할 때만 켠다.
+  private void compareWithSql(Long userId, Cursor cursor, int limit, List<BoardView> merged) {
+    List<Long> expected = boardService.findAllUserFollowerBoardBefore(userId, cursor, limit).stream()
+        .map(BoardView::boardId)
+        .toList();
+    List<Long> actual = merged.stream().map(BoardView::boardId).toList();
+    if (!expected.equals(actual)) {
+      shadowMismatchCounter.increment();
+      log.debug("merged feed of user {} differs from sql: {} vs {}", userId, actual, expected);
+    }
+  }
+
+  private static Cursor toCursor(BoardView board) {
+    return new Cursor(board.createdDate(), board.boardId());
+  }
+
+  // PUSH 는 타임라인만, HYBRID 는 타임라인과 팔로워가 많은 작성자의 최근 글을 합쳐서 ID 를 넘겨준다.
+  private BoardIdPager timelinePager(Long userId) {
+    if (feedMode == FeedMode.PUSH) {
+      return (beforeBoardId, count) -> homeTimelineService.getEntriesBefore(userId, beforeBoardId,
+          count).stream().map(TimelineEntry::boardId).toList();
+    }
+
+    List<Long> pulledAuthorIds = highFollowerAuthorRegistry.findFollowedHighFollowerAuthors(userId);
+    pulledAuthorsSummary.record(pulledAuthorIds.size());
+    return (beforeBoardId, count) -> {
+      List<TimelineEntry> pushed = homeTimelineService.getEntriesBefore(userId, beforeBoardId,
+          count);
+      List<TimelineEntry> pulled = pulledAuthorIds.isEmpty()
+          ? List.of()
+          : boardService.findRecentTimelineEntriesBefore(pulledAuthorIds, beforeBoardId, count);
+      return merge(pushed, pulled, 0, count);
+    };
+  }
+
+  /**
+   * ID 목록을 이어서 읽으면서 삭제되지 않은 게시글을 limit 개까지 모은다.
+   * 읽은 ID 중 삭제된 글이 있어도 그만큼 더 읽으므로, 더 오래된 글이 남아 있는데 페이지가 짧아지지 않는다.
+   */
+  private List<BoardView> collectVisible(BoardIdPager pager, long beforeBoardId, int limit) {
+    List<BoardView> result = new ArrayList<>(limit);
+    long before = beforeBoardId;
+    while (result.size() < limit) {
+      int count = limit - result.size();
+      List<Long> boardIds = pager.next(before, count);
+      result.addAll(boardService.findAllByBoardIdsInOrder(boardIds));
+      if (boardIds.size() < count) {
+        break;
+      }
+      before = boardIds.get(boardIds.size() - 1);
+    }
+    return result;
+  }
+
+  // offset + size + 1 개까지 모은 목록에서 요청한 페이지를 자른다.
+  private static Slice<BoardView> toSlice(List<BoardView> boards, Pageable pageable) {
+    int from = (int) Math.min(pageable.getOffset(), boards.size());
+    int to = (int) Math.min(boards.size(), pageable.getOffset() + pageable.getPageSize());
+    return new SliceImpl<>(boards.subList(from, to), pageable, boards.size() > to);
+  }
+
+  // 게시글 ID 내림차순인 두 목록을 중복 없이 합친 뒤 offset 부터 size 개를 고른다.
+  static List<Long> merge(List<TimelineEntry> left, List<TimelineEntry> right, long offset,
+      int size) {
+    List<Long> result = new ArrayList<>(size);
+    long skipped = 0;
+    int i = 0;
+    int j = 0;
+    long last = Long.MAX_VALUE;
+
+    while (result.size() < size && (i < left.size() || j < right.size())) {
+      long next;
+      if (j >= right.size()
+          || (i < left.size() && left.get(i).boardId() >= right.get(j).boardId())) {
+        next = left.get(i++).boardId();
+      } else {
+        next = right.get(j++).boardId();
+      }
+
+      if (next == last) {
+        continue;
+      }
+      last = next;
+
+      if (skipped < offset) {
+        skipped++;
+        continue;
+      }
+      result.add(next);
+    }
+    return result;
+  }
+
+  private record MergedPage(List<BoardView> boards, boolean truncated) {
+
+  }
+
+  // beforeBoardId 보다 오래된 게시글 ID 를 최신순으로 count 개까지 반환한다.
+  @FunctionalInterface
+  private interface BoardIdPager {
+
+    List<Long> next(long beforeBoardId, int count);
+  }
+}
@@ -0,0 +1,81 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import F12.newsfeedproject.domain.feed.constant.FeedMode;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * HYBRID 모드에서 팬아웃하지 않을(조회 시점에 합칠) 작성자 목록.
+ * 팔로워 수가 임계값을 넘는 사용자들을 주기적으로 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class HighFollowerAuthorRegistry {
+
+  private final FollowRepository followRepository;
+  private final HomeTimelineService homeTimelineService;
+  private final FollowGraph followGraph;
+  private final FeedMode feedMode;
+  private final long followerThreshold;
+
+  private volatile Set<Long> authorIds = Set.of();
+
+  public HighFollowerAuthorRegistry(FollowRepository followRepository,
+      HomeTimelineService homeTimelineService,
+      FollowGraph followGraph,
+      @Value("${feed.mode}") FeedMode feedMode,
+      @Value("${feed.hybrid.follower-threshold}") long followerThreshold) {
+    this.followRepository = followRepository;
+    this.homeTimelineService = homeTimelineService;
+    this.followGraph = followGraph;
+    this.feedMode = feedMode;
+    this.followerThreshold = followerThreshold;
+  }
+
+  @Scheduled(fixedDelayString = "${feed.hybrid.refresh-interval-ms}")
+  public void refresh() {
+    if (feedMode != FeedMode.HYBRID) {
+      return;
+    }
+
+    Set<Long> refreshed = Set.copyOf(
+        followRepository.findFollowerIdsHavingFollowingCountGreaterThan(followerThreshold));
+
+    Set<Long> demoted = new HashSet<>(authorIds);
+    demoted.removeAll(refreshed);
+    authorIds = refreshed;
+
+    // 임계값 아래로 내려간 작성자의 글은 더 이상 조회 시점에 합쳐지지 않으므로 타임라인에 채워 넣는다.
+    for (Long authorId : demoted) {
+      homeTimelineService.fanoutRecent(authorId);
+    }
+    log.info("high follower authors refreshed: {} (demoted {})", refreshed.size(), demoted.size());
+  }
+
+  public boolean isHighFollowerAuthor(Long authorId) {
+    return authorIds.contains(authorId);
+  }
+
+  // userId 가 팔로우하는 사용자 중 팔로워가 많은 작성자들
+  public List<Long> findFollowedHighFollowerAuthors(Long userId) {
+    Set<Long> current = authorIds;
+    if (current.isEmpty()) {
+      return List.of();
+    }
+    List<Long> result = new ArrayList<>();
+    for (long followeeId : followGraph.followees(userId)) {
+      if (current.contains(followeeId)) {
+        result.add(followeeId);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,332 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.feed.timeline.HomeTimeline;
+import F12.newsfeedproject.domain.feed.timeline.TimelineEntry;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.global.snapshot.SnapshotStore;
+import F12.newsfeedproject.global.snapshot.Snapshottable;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 홈 타임라인(팬아웃 대상)을 메모리에 유지한다.
+ * 타임라인은 처음 조회될 때 DB 에서 한 번 적재되고, 이후에는 새 게시글이 팬아웃으로 추가된다.
+ * 개수와 유휴 시간으로 제한해서, 오래 조회하지 않은 사용자의 타임라인은 버리고 다음 조회 때 다시 적재한다.
+ */
+@Slf4j
+@Service
+public class HomeTimelineService implements Snapshottable {
+
+  static final String SNAPSHOT_NAME = "home-timelines";
+
+  private static final int SNAPSHOT_MAGIC = 0x48544C31;
+
+  private static final int SNAPSHOT_VERSION = 1;
+
+  private final BoardRepository boardRepository;
+  private final FollowGraph followGraph;
+  private final JdbcTemplate jdbcTemplate;
+  private final SnapshotStore snapshotStore;
+  private final int maxLength;
+  private final int backfillSize;
+  private final long replayMarginMs;
+
+  private final ConcurrentMap<Long, HomeTimeline> timelines;
+
+  public HomeTimelineService(BoardRepository boardRepository,
+      FollowGraph followGraph,
+      JdbcTemplate jdbcTemplate,
+      SnapshotStore snapshotStore,
+      MeterRegistry meterRegistry,
+      @Value("${feed.timeline.max-length}") int maxLength,
+      @Value("${feed.timeline.backfill-size}") int backfillSize,
+      @Value("${feed.timeline.maximum-size}") long maximumSize,
+      @Value("${feed.timeline.expire-after-access-ms}") long expireAfterAccessMs,
+      @Value("${snapshot.replay-margin-ms}") long replayMarginMs) {
+    this.boardRepository = boardRepository;
+    this.followGraph = followGraph;
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotStore = snapshotStore;
+    this.maxLength = maxLength;
+    this.backfillSize = backfillSize;
+    this.replayMarginMs = replayMarginMs;
+
+    Cache<Long, HomeTimeline> cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "feed.home.timeline");
+    this.timelines = cache.asMap();
+  }
+
+  public List<TimelineEntry> getEntriesBefore(Long userId, Long boardId, int limit) {
+    return getOrLoad(userId).getEntriesBefore(boardId, limit);
+  }
+
+  // 이미 적재된 팔로워 타임라인에만 게시글을 추가한다. 적재되지 않은 타임라인은 조회 시점에 DB 에서 만들어진다.
+  public void fanout(Long boardId, Long authorId) {
+    long[] readerIds = followGraph.followers(authorId);
+
+    int pushed = 0;
+    for (long readerId : readerIds) {
+      HomeTimeline timeline = timelines.get(readerId);
+      if (timeline != null) {
+        timeline.push(boardId, authorId);
+        pushed++;
+      }
+    }
+    log.debug("board {} fanned out to {}/{} timelines", boardId, pushed, readerIds.length);
+  }
+
+  // 삭제된 게시글을 이미 적재된 팔로워 타임라인에서 지운다.
+  public void remove(Long boardId, Long authorId) {
+    for (long readerId : followGraph.followers(authorId)) {
+      HomeTimeline timeline = timelines.get(readerId);
+      if (timeline != null) {
+        timeline.remove(boardId);
+      }
+    }
+  }
+
+  // 작성자의 최근 게시글들을 팔로워 타임라인에 다시 밀어 넣는다.
+  public void fanoutRecent(Long authorId) {
+    List<TimelineEntry> entries = boardRepository.findRecentTimelineEntriesByUserIds(
+        List.of(authorId), PageRequest.of(0, maxLength));
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    for (long readerId : followGraph.followers(authorId)) {
+      HomeTimeline timeline = timelines.get(readerId);
+      if (timeline != null) {
+        timeline.pushAll(entries);
+      }
+    }
+  }
+
+  /**
+   * 팔로우한 작성자의 글이 다음 조회부터 보이도록 표시한다. 최근 글은 backfill 이나 다음 조회에서 채워진다.
+   * 적재되지 않은 타임라인은 조회 시점에 DB 에서 새 팔로우까지 반영해 만들어지므로 건드리지 않는다.
+   */
+  public void markFollowed(Long userId, Long authorId) {
+    HomeTimeline timeline = timelines.get(userId);
+    if (timeline != null) {
+      timeline.requestBackfill(authorId);
+    }
+  }
+
+  // 언팔로우한 작성자의 글을 다음 조회부터 건너뛴다. 실제 삭제는 compact 에서 한다.
+  public void markUnfollowed(Long userId, Long authorId) {
+    HomeTimeline timeline = timelines.get(userId);
+    if (timeline != null) {
+      timeline.exclude(authorId);
+    }
+  }
+
+  // 새로 팔로우한 작성자들의 최근 글을 타임라인에 합친다.
+  public void backfill(Long userId) {
+    HomeTimeline timeline = timelines.get(userId);
+    if (timeline != null) {
+      backfill(timeline);
+    }
+  }
+
+  public void compact(Long userId) {
+    HomeTimeline timeline = timelines.get(userId);
+    if (timeline != null) {
+      int removed = timeline.compact();
+      log.debug("{} entries compacted from timeline of user {}", removed, userId);
+    }
+  }
+
+  // 한 사용자의 타임라인을 버리고 DB 에서 처음부터 다시 만든다.
+  public void rebuild(Long userId) {
+    HomeTimeline timeline = new HomeTimeline(maxLength);
+    synchronized (timeline) {
+      timelines.put(userId, timeline);
+      load(userId, timeline);
+    }
+  }
+
+  public void evict(Long userId) {
+    timelines.remove(userId);
+  }
+
+  /**
+   * 적재된 타임라인들을 스냅샷 파일로 쓴다. 타임라인마다 그 타임라인의 모니터만 잡고 쓰므로 팬아웃을 오래 막지 않는다.
+   * 쓰기 전에 읽은 최대 board_id, follow_id 가 재시작할 때 DB 에서 다시 읽을 변경분의 기준이 된다.
+   */
+  @Override
+  public void writeSnapshot() throws IOException {
+    long boardHighWaterMark = jdbcTemplate.queryForObject(
+        "select coalesce(max(board_id), 0) from board", Long.class);
+    long followHighWaterMark = jdbcTemplate.queryForObject(
+        "select coalesce(max(follow_id), 0) from follow", Long.class);
+    long writtenAt = System.currentTimeMillis();
+    Map<Long, HomeTimeline> copy = new HashMap<>(timelines);
+
+    snapshotStore.write(SNAPSHOT_NAME, out -> {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeInt(SNAPSHOT_VERSION);
+      out.writeLong(boardHighWaterMark);
+      out.writeLong(followHighWaterMark);
+      out.writeLong(writtenAt);
+      out.writeInt(copy.size());
+      for (Map.Entry<Long, HomeTimeline> entry : copy.entrySet()) {
+        out.writeLong(entry.getKey());
+        entry.getValue().writeTo(out);
+      }
+    });
+  }
+
+  /**
+   * 스냅샷에서 타임라인들을 복원하고 스냅샷 이후의 변경분을 반영한다. 팔로우 그래프가 먼저 적재되어 있어야 한다.
+   * 스냅샷 이후의 게시글은 팔로워 타임라인에 다시 넣고, 새 팔로우는 backfill 로 채우고,
+   * 더 이상 팔로우하지 않는 작성자의 글은 제외한다. 삭제된 게시글은 조회할 때 걸러진다.
+   */
+  @Order(1)
+  @EventListener(ApplicationReadyEvent.class)
+  public void restore() {
+    long startedAt = System.nanoTime();
+    try {
+      ByteBuffer buffer = snapshotStore.read(SNAPSHOT_NAME);
+      if (buffer == null) {
+        return;
+      }
+      if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+        log.warn("ignoring home timeline snapshot with unknown format");
+        return;
+      }
+      long boardHighWaterMark = buffer.getLong();
+      long followHighWaterMark = buffer.getLong();
+      long writtenAt = buffer.getLong();
+
+      int count = buffer.getInt();
+      List<Long> restoredUserIds = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        long userId = buffer.getLong();
+        HomeTimeline timeline = HomeTimeline.readFrom(buffer, maxLength);
+        // 복원 중에 먼저 조회되어 DB 에서 만들어진 타임라인은 그대로 둔다.
+        if (timelines.putIfAbsent(userId, timeline) == null) {
+          restoredUserIds.add(userId);
+          excludeUnfollowed(userId, timeline);
+        }
+      }
+
+      int replayed = replayBoards(boardHighWaterMark, writtenAt - replayMarginMs);
+      int followed = replayFollows(followHighWaterMark, writtenAt - replayMarginMs);
+      log.info("{} home timelines restored from snapshot ({} boards replayed, {} follows), {} ms",
+          restoredUserIds.size(), replayed, followed, (System.nanoTime() - startedAt) / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      // 일부만 복원된 타임라인은 변경분이 빠져 있을 수 있으므로 모두 버리고 조회 시점에 DB 에서 만든다.
+      log.warn("failed to restore home timeline snapshot", e);
+      timelines.clear();
+    }
+  }
+
+  private void excludeUnfollowed(long userId, HomeTimeline timeline) {
+    long[] followeeIds = followGraph.followees(userId);
+    for (TimelineEntry entry : timeline.getEntries(0, timeline.size())) {
+      if (Arrays.binarySearch(followeeIds, entry.authorId()) < 0) {
+        timeline.exclude(entry.authorId());
+      }
+    }
+    timeline.compact();
+  }
+
+  /**
+   * 기준 board_id 이후의 게시글을 팔로워 타임라인에 넣는다.
+   * ID 는 커밋 전에 발급되므로 스냅샷 직전에 발급되고 직후에 커밋된 글은 기준보다 작을 수 있다.
+   * 그래서 스냅샷 시각에서 여유 시간을 뺀 시각 이후의 글도 다시 넣는다. push 는 같은 글을 두 번 넣지 않는다.
+   */
+  private int replayBoards(long highWaterMark, long since) {
+    int[] replayed = {0};
+    jdbcTemplate.query(
+        "select board_id, user_id from board where deleted = false "
+            + "and (board_id > ? or created_date >= ?) order by board_id",
+        rs -> {
+          fanout(rs.getLong(1), rs.getLong(2));
+          replayed[0]++;
+        },
+        highWaterMark, new Timestamp(since));
+    return replayed[0];
+  }
+
+  // 게시글과 같은 이유로 기준 follow_id 이후의 팔로우와 함께 여유 시간 안에 만들어진 팔로우도 다시 표시한다.
+  private int replayFollows(long highWaterMark, long since) {
+    int[] followed = {0};
+    jdbcTemplate.query(
+        "select following_id, follower_id from follow where follow_id > ? or created_date >= ?",
+        rs -> {
+          markFollowed(rs.getLong(1), rs.getLong(2));
+          followed[0]++;
+        },
+        highWaterMark, new Timestamp(since));
+    return followed[0];
+  }
+
+  private HomeTimeline getOrLoad(Long userId) {
+    HomeTimeline timeline = timelines.get(userId);
+    if (timeline != null) {
+      // 비동기 backfill 보다 본인의 조회가 먼저 오면 여기서 채워서 방금 팔로우한 작성자의 글이 바로 보이게 한다.
+      if (timeline.hasPendingBackfill()) {
+        backfill(timeline);
+      }
+      return timeline;
+    }
+
+    HomeTimeline created = new HomeTimeline(maxLength);
+    // 적재가 끝날 때까지 같은 타임라인에 대한 조회와 팬아웃은 모니터에서 대기한다.
+    synchronized (created) {
+      HomeTimeline existing = timelines.putIfAbsent(userId, created);
+      if (existing != null) {
+        return existing;
+      }
+      load(userId, created);
+    }
+    return created;
+  }
+
+  // 채우는 동안 같은 타임라인의 조회는 모니터에서 대기하므로, 채우기 전의 타임라인을 읽지 않는다.
+  private void backfill(HomeTimeline timeline) {
+    synchronized (timeline) {
+      for (long authorId : timeline.takePendingBackfill()) {
+        timeline.pushAll(boardRepository.findRecentTimelineEntriesByUserIds(List.of(authorId),
+            PageRequest.of(0, backfillSize)));
+      }
+    }
+  }
+
+  private void load(Long userId, HomeTimeline timeline) {
+    try {
+      List<TimelineEntry> entries = boardRepository.findFollowingTimelineEntries(userId,
+          PageRequest.of(0, maxLength));
+      timeline.pushAll(entries);
+    } catch (RuntimeException e) {
+      timelines.remove(userId, timeline);
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import F12.newsfeedproject.domain.board.repository.BoardJdbcRepository;
+import F12.newsfeedproject.domain.feed.rank.AuthorAffinity;
+import F12.newsfeedproject.domain.feed.rank.EngagementSnapshot;
+import F12.newsfeedproject.domain.feed.rank.FeedRanker;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 최신순 대신 점수순으로 정렬한 팔로우 피드.
+ * 요청 스레드에서는 미리 만들어 둔 반응 스냅샷과 사용자별 작성자 친밀도만 읽어서 점수를 매기고,
+ * DB 조회는 스냅샷 갱신(주기적)과 친밀도 적재에서만 하고, 친밀도는 별도 스레드에서 적재/갱신한다.
+ * 친밀도가 아직 적재되지 않은 사용자는 친밀도 없이 점수를 매기고, 갱신 중에는 이전 값을 그대로 쓴다.
+ * 스냅샷 갱신 주기 안에 작성된 글은 다음 갱신 때부터 후보가 된다.
+ */
+@Slf4j
+@Service
+public class RankedFeedService {
+
+  private final BoardJdbcRepository boardJdbcRepository;
+  private final FollowGraph followGraph;
+  private final FeedRanker feedRanker;
+  private final long candidateWindowHours;
+  private final double commentWeight;
+
+  private final AsyncLoadingCache<Long, AuthorAffinity> affinities;
+  private final ExecutorService affinityLoader = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "feed-affinity-loader");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final Timer rankTimer;
+
+  private volatile EngagementSnapshot snapshot = EngagementSnapshot.empty();
+
+  public RankedFeedService(BoardJdbcRepository boardJdbcRepository,
+      FollowGraph followGraph,
+      MeterRegistry meterRegistry,
+      @Value("${feed.ranked.candidate-window-hours}") long candidateWindowHours,
+      @Value("${feed.ranked.half-life-hours}") double halfLifeHours,
+      @Value("${feed.ranked.engagement-weight}") double engagementWeight,
+      @Value("${feed.ranked.affinity-weight}") double affinityWeight,
+      @Value("${feed.ranked.comment-weight}") double commentWeight,
+      @Value("${feed.ranked.affinity.maximum-size}") long affinityMaximumSize,
+      @Value("${feed.ranked.affinity.refresh-after-write-ms}") long affinityRefreshAfterWriteMs,
+      @Value("${feed.ranked.affinity.expire-after-write-ms}") long affinityExpireAfterWriteMs) {
+    this.boardJdbcRepository = boardJdbcRepository;
+    this.followGraph = followGraph;
+    this.feedRanker = new FeedRanker(halfLifeHours, engagementWeight, affinityWeight);
+    this.candidateWindowHours = candidateWindowHours;
+    this.commentWeight = commentWeight;
+    this.affinities = Caffeine.newBuilder()
+        .maximumSize(affinityMaximumSize)
+        .refreshAfterWrite(Duration.ofMillis(affinityRefreshAfterWriteMs))
+        .expireAfterWrite(Duration.ofMillis(affinityExpireAfterWriteMs))
+        .executor(affinityLoader)
+        .recordStats()
+        .buildAsync(this::loadAffinity);
+    this.rankTimer = Timer.builder("feed.ranked.rank")
+        .description("요청 스레드에서 후보를 모으고 점수를 매겨 상위 글을 고르는 시간")
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+
+    CaffeineCacheMetrics.monitor(meterRegistry, affinities.synchronous(), "feed.ranked.affinity");
+  }
+
+  // 점수가 높은 순으로 게시글 ID 를 size 개까지 반환한다.
+  public List<Long> findRankedBoardIds(Long userId, int size) {
+    return rankTimer.record(() -> {
+      long[] followeeIds = followGraph.followees(userId);
+      // 적재가 끝나지 않았으면 기다리지 않고 친밀도 없이 점수를 매긴다.
+      AuthorAffinity affinity = affinities.get(userId).getNow(AuthorAffinity.empty());
+      return feedRanker.rank(snapshot, followeeIds, affinity, Instant.now().getEpochSecond(), size);
+    });
+  }
+
+  @Scheduled(fixedDelayString = "${feed.ranked.refresh-interval-ms}")
+  public void refresh() {
+    long start = System.currentTimeMillis();
+    EngagementSnapshot refreshed = EngagementSnapshot.of(
+        boardJdbcRepository.findBoardEngagementsSince(
+            LocalDateTime.now().minusHours(candidateWindowHours)),
+        Instant.now().getEpochSecond(), commentWeight);
+    snapshot = refreshed;
+    log.debug("engagement snapshot refreshed: {} boards, {} ms", refreshed.boardCount(),
+        System.currentTimeMillis() - start);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    affinityLoader.shutdownNow();
+  }
+
+  private AuthorAffinity loadAffinity(Long userId) {
+    return AuthorAffinity.of(boardJdbcRepository.countInteractionsByAuthor(userId));
+  }
+}
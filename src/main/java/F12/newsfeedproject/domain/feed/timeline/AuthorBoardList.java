@@ -0,0 +1,111 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import java.util.Arrays;
+
+/**
+ * 작성자 한 명의 최근 게시글 ID 목록. 게시글 ID 내림차순(최신순)이며 최대 maxLength 개까지만 보관한다.
+ * 쓰기는 글을 쓰거나 지울 때만 일어나고 읽기는 피드 조회마다 일어나므로, 쓸 때마다 배열을 새로 만들고
+ * 읽는 쪽은 잠금 없이 그 배열을 그대로 읽는다.
+ */
+public class AuthorBoardList {
+
+  private final int maxLength;
+
+  // 읽기 전용. 바꿀 때는 새 배열로 교체한다.
+  private volatile long[] boardIds;
+
+  // 더 오래된 게시글이 DB 에만 남아 있을 수 있으면 true
+  private volatile boolean truncated;
+
+  private AuthorBoardList(long[] boardIds, boolean truncated, int maxLength) {
+    this.boardIds = boardIds;
+    this.truncated = truncated;
+    this.maxLength = maxLength;
+  }
+
+  // DB 에서 최신순으로 최대 maxLength 개를 읽어 만든다. 가득 찼으면 그보다 오래된 글이 있을 수 있다.
+  public static AuthorBoardList of(long[] descendingBoardIds, int maxLength) {
+    if (maxLength <= 0) {
+      throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+    }
+    boolean truncated = descendingBoardIds.length >= maxLength;
+    long[] boardIds = truncated ? Arrays.copyOf(descendingBoardIds, maxLength)
+        : descendingBoardIds.clone();
+    return new AuthorBoardList(boardIds, truncated, maxLength);
+  }
+
+  public long[] boardIds() {
+    return boardIds;
+  }
+
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+  public int size() {
+    return boardIds.length;
+  }
+
+  public synchronized void add(long boardId) {
+    long[] current = boardIds;
+    int index = search(current, boardId);
+    if (index >= 0) {
+      return;
+    }
+
+    int insertionPoint = -index - 1;
+    if (insertionPoint >= maxLength) {
+      return;
+    }
+
+    int newLength = Math.min(current.length + 1, maxLength);
+    long[] updated = new long[newLength];
+    System.arraycopy(current, 0, updated, 0, insertionPoint);
+    updated[insertionPoint] = boardId;
+    System.arraycopy(current, insertionPoint, updated, insertionPoint + 1,
+        newLength - insertionPoint - 1);
+
+    if (newLength == current.length) {
+      // 가장 오래된 글이 밀려났다.
+      truncated = true;
+    }
+    boardIds = updated;
+  }
+
+  public synchronized void remove(long boardId) {
+    long[] current = boardIds;
+    int index = search(current, boardId);
+    if (index < 0) {
+      return;
+    }
+
+    long[] updated = new long[current.length - 1];
+    System.arraycopy(current, 0, updated, 0, index);
+    System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+    boardIds = updated;
+  }
+
+  // boardId 보다 작은 첫 번째 위치. 내림차순 배열에 대한 이진 탐색이다.
+  public static int firstBefore(long[] descendingBoardIds, long boardId) {
+    int index = search(descendingBoardIds, boardId);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  // 반환 규칙은 Arrays.binarySearch 와 같다.
+  private static int search(long[] descendingBoardIds, long boardId) {
+    int low = 0;
+    int high = descendingBoardIds.length - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long midValue = descendingBoardIds[mid];
+      if (midValue > boardId) {
+        low = mid + 1;
+      } else if (midValue < boardId) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+}
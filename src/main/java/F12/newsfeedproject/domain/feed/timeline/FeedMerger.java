@@ -0,0 +1,101 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 작성자별 최근 게시글 목록들을 힙으로 합쳐 게시글 ID 내림차순으로 limit 개를 고른다.
+ * 힙에는 목록마다 아직 꺼내지 않은 가장 최신 글 하나씩만 들어 있으므로, 작성자가 k 명이면
+ * 글 하나를 꺼내는 데 O(log k) 가 들고 limit 개를 채우면 나머지 글은 보지 않는다.
+ */
+public final class FeedMerger {
+
+  private FeedMerger() {
+  }
+
+  public static MergedFeed merge(List<AuthorBoardList> lists, long beforeBoardId, int limit) {
+    int count = lists.size();
+    long[][] boardIds = new long[count][];
+    boolean[] truncated = new boolean[count];
+    int[] positions = new int[count];
+    int[] heap = new int[count];
+    int heapSize = 0;
+
+    for (int i = 0; i < count; i++) {
+      AuthorBoardList list = lists.get(i);
+      // 배열을 먼저 읽는다. 그 사이에 밀려난 글이 있으면 truncated 도 이미 true 로 보인다.
+      boardIds[i] = list.boardIds();
+      truncated[i] = list.isTruncated();
+      positions[i] = AuthorBoardList.firstBefore(boardIds[i], beforeBoardId);
+
+      if (positions[i] < boardIds[i].length) {
+        heap[heapSize] = i;
+        siftUp(heap, heapSize++, boardIds, positions);
+      } else if (truncated[i]) {
+        // 커서보다 오래된 이 작성자의 글이 메모리에 없으므로 처음부터 DB 에서 읽어야 한다.
+        return new MergedFeed(List.of(), true);
+      }
+    }
+
+    List<Long> result = new ArrayList<>(Math.max(0, limit));
+    while (heapSize > 0 && result.size() < limit) {
+      int top = heap[0];
+      result.add(boardIds[top][positions[top]++]);
+
+      if (positions[top] < boardIds[top].length) {
+        siftDown(heap, heapSize, boardIds, positions);
+      } else if (truncated[top]) {
+        // 이 작성자의 다음 글이 다른 작성자들의 글보다 최신일 수 있다.
+        return new MergedFeed(result, result.size() < limit);
+      } else {
+        heap[0] = heap[--heapSize];
+        siftDown(heap, heapSize, boardIds, positions);
+      }
+    }
+    return new MergedFeed(result, false);
+  }
+
+  private static long head(int list, long[][] boardIds, int[] positions) {
+    return boardIds[list][positions[list]];
+  }
+
+  // 최신 글(큰 ID)이 위로 오는 힙
+  private static void siftUp(int[] heap, int index, long[][] boardIds, int[] positions) {
+    int item = heap[index];
+    long value = head(item, boardIds, positions);
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (head(heap[parent], boardIds, positions) >= value) {
+        break;
+      }
+      heap[index] = heap[parent];
+      index = parent;
+    }
+    heap[index] = item;
+  }
+
+  private static void siftDown(int[] heap, int heapSize, long[][] boardIds, int[] positions) {
+    if (heapSize == 0) {
+      return;
+    }
+    int index = 0;
+    int item = heap[0];
+    long value = head(item, boardIds, positions);
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= heapSize) {
+        break;
+      }
+      if (child + 1 < heapSize
+          && head(heap[child + 1], boardIds, positions) > head(heap[child], boardIds, positions)) {
+        child++;
+      }
+      if (head(heap[child], boardIds, positions) <= value) {
+        break;
+      }
+      heap[index] = heap[child];
+      index = child;
+    }
+    heap[index] = item;
+  }
+}
@@ -0,0 +1,253 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import F12.newsfeedproject.global.util.SortedLongSet;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 한 명의 홈 타임라인.
+ * 게시글 ID 내림차순(최신순)으로 정렬되어 있으며 최대 maxLength 개까지만 보관한다.
+ * 언팔로우한 작성자의 글은 바로 지우지 않고 조회할 때 건너뛰다가 compact 에서 한 번에 지운다.
+ */
+public class HomeTimeline {
+
+  private static final int INITIAL_CAPACITY = 32;
+
+  private final int maxLength;
+
+  private long[] boardIds;
+
+  private long[] authorIds;
+
+  private int size;
+
+  // 언팔로우했지만 아직 compact 되지 않은 작성자들
+  private final SortedLongSet excludedAuthorIds = new SortedLongSet();
+
+  // 팔로우했지만 아직 최근 글을 채우지 않은 작성자들
+  private final SortedLongSet backfillAuthorIds = new SortedLongSet();
+
+  public HomeTimeline(int maxLength) {
+    if (maxLength <= 0) {
+      throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+    }
+    this.maxLength = maxLength;
+    int capacity = Math.min(maxLength, INITIAL_CAPACITY);
+    this.boardIds = new long[capacity];
+    this.authorIds = new long[capacity];
+  }
+
+  public synchronized void push(long boardId, long authorId) {
+    if (excludedAuthorIds.contains(authorId)) {
+      return;
+    }
+
+    int index = search(boardId);
+    if (index >= 0) {
+      return;
+    }
+
+    int insertionPoint = -index - 1;
+    if (insertionPoint >= maxLength) {
+      // 가득 찬 타임라인의 가장 오래된 글보다도 오래된 글은 버린다.
+      return;
+    }
+
+    ensureCapacity(Math.min(size + 1, maxLength));
+    int moveLength = Math.min(size, maxLength - 1) - insertionPoint;
+    System.arraycopy(boardIds, insertionPoint, boardIds, insertionPoint + 1, moveLength);
+    System.arraycopy(authorIds, insertionPoint, authorIds, insertionPoint + 1, moveLength);
+
+    boardIds[insertionPoint] = boardId;
+    authorIds[insertionPoint] = authorId;
+    size = Math.min(size + 1, maxLength);
+  }
+
+  public synchronized void pushAll(Collection<TimelineEntry> entries) {
+    for (TimelineEntry entry : entries) {
+      push(entry.boardId(), entry.authorId());
+    }
+  }
+
+  public synchronized List<Long> getBoardIds(long offset, int limit) {
+    List<Long> result = new ArrayList<>(Math.max(0, Math.min(limit, size)));
+    for (int i = skipVisible(0, offset); i < size && result.size() < limit; i++) {
+      if (isVisible(i)) {
+        result.add(boardIds[i]);
+      }
+    }
+    return result;
+  }
+
+  public synchronized List<TimelineEntry> getEntries(long offset, int limit) {
+    return collectEntries(skipVisible(0, offset), limit);
+  }
+
+  // boardId 보다 오래된(작은 ID) 항목들을 최신순으로 limit 개까지 반환한다.
+  public synchronized List<TimelineEntry> getEntriesBefore(long boardId, int limit) {
+    int index = search(boardId);
+    int from = index >= 0 ? index + 1 : -index - 1;
+    return collectEntries(from, limit);
+  }
+
+  // 삭제된 게시글을 지운다.
+  public synchronized boolean remove(long boardId) {
+    int index = search(boardId);
+    if (index < 0) {
+      return false;
+    }
+
+    int moveLength = size - index - 1;
+    System.arraycopy(boardIds, index + 1, boardIds, index, moveLength);
+    System.arraycopy(authorIds, index + 1, authorIds, index, moveLength);
+    size--;
+    return true;
+  }
+
+  // 언팔로우한 작성자의 글이 더 이상 보이지 않게 한다.
+  public synchronized void exclude(long authorId) {
+    excludedAuthorIds.add(authorId);
+    backfillAuthorIds.remove(authorId);
+  }
+
+  // 다시 팔로우한 작성자의 글이 보이게 하고, 최근 글을 채워야 할 작성자로 표시한다.
+  public synchronized void requestBackfill(long authorId) {
+    excludedAuthorIds.remove(authorId);
+    backfillAuthorIds.add(authorId);
+  }
+
+  public synchronized boolean hasPendingBackfill() {
+    return !backfillAuthorIds.isEmpty();
+  }
+
+  // 채워야 할 작성자들을 꺼낸다. 같은 작성자를 두 번 채우지 않도록 목록을 비운다.
+  public synchronized long[] takePendingBackfill() {
+    long[] authorIds = backfillAuthorIds.toArray();
+    backfillAuthorIds.clear();
+    return authorIds;
+  }
+
+  // 제외된 작성자의 글을 실제로 지우고 남은 글을 앞으로 당긴다.
+  public synchronized int compact() {
+    if (excludedAuthorIds.isEmpty()) {
+      return 0;
+    }
+
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (isVisible(i)) {
+        boardIds[kept] = boardIds[i];
+        authorIds[kept] = authorIds[i];
+        kept++;
+      }
+    }
+    int removed = size - kept;
+    size = kept;
+    excludedAuthorIds.clear();
+    return removed;
+  }
+
+  // 보이는 항목 수, boardIds, authorIds 순서로 쓴다. 제외된 작성자의 글은 쓰지 않는다.
+  public synchronized void writeTo(DataOutputStream out) throws IOException {
+    int visible = 0;
+    for (int i = 0; i < size; i++) {
+      if (isVisible(i)) {
+        visible++;
+      }
+    }
+    out.writeInt(visible);
+    for (int i = 0; i < size; i++) {
+      if (isVisible(i)) {
+        out.writeLong(boardIds[i]);
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (isVisible(i)) {
+        out.writeLong(authorIds[i]);
+      }
+    }
+  }
+
+  // writeTo 로 쓴 내용을 현재 위치부터 읽는다. maxLength 가 줄었으면 최신 글부터 maxLength 개만 남긴다.
+  public static HomeTimeline readFrom(ByteBuffer buffer, int maxLength) {
+    int count = buffer.getInt();
+    int kept = Math.min(count, maxLength);
+    HomeTimeline timeline = new HomeTimeline(maxLength);
+    timeline.boardIds = new long[Math.max(kept, Math.min(maxLength, INITIAL_CAPACITY))];
+    timeline.authorIds = new long[timeline.boardIds.length];
+    buffer.asLongBuffer().get(timeline.boardIds, 0, kept);
+    buffer.position(buffer.position() + Long.BYTES * count);
+    buffer.asLongBuffer().get(timeline.authorIds, 0, kept);
+    buffer.position(buffer.position() + Long.BYTES * count);
+    timeline.size = kept;
+    return timeline;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  private boolean isVisible(int index) {
+    return excludedAuthorIds.isEmpty() || !excludedAuthorIds.contains(authorIds[index]);
+  }
+
+  // from 부터 보이는 항목 count 개를 건너뛴 위치
+  private int skipVisible(int from, long count) {
+    int index = from;
+    for (long skipped = 0; index < size && skipped < count; index++) {
+      if (isVisible(index)) {
+        skipped++;
+      }
+    }
+    while (index < size && !isVisible(index)) {
+      index++;
+    }
+    return index;
+  }
+
+  private List<TimelineEntry> collectEntries(int from, int limit) {
+    List<TimelineEntry> result = new ArrayList<>(Math.max(0, Math.min(limit, size - from)));
+    for (int i = from; i < size && result.size() < limit; i++) {
+      if (isVisible(i)) {
+        result.add(new TimelineEntry(boardIds[i], authorIds[i]));
+      }
+    }
+    return result;
+  }
+
+  // 내림차순 배열에 대한 이진 탐색. 반환 규칙은 Arrays.binarySearch 와 같다.
+  private int search(long boardId) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long midValue = boardIds[mid];
+      if (midValue > boardId) {
+        low = mid + 1;
+      } else if (midValue < boardId) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void ensureCapacity(int required) {
+    if (required <= boardIds.length) {
+      return;
+    }
+    int newCapacity = Math.min(maxLength, Math.max(required, boardIds.length * 2));
+    boardIds = Arrays.copyOf(boardIds, newCapacity);
+    authorIds = Arrays.copyOf(authorIds, newCapacity);
+  }
+}
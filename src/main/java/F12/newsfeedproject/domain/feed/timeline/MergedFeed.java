@@ -0,0 +1,11 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import java.util.List;
+
+// truncated 가 true 이면 메모리에 없는 오래된 글 때문에 merge 를 중간에 멈췄으므로 나머지는 DB 에서 이어서 읽어야 한다.
+public record MergedFeed(
+    List<Long> boardIds,
+    boolean truncated
+) {
+
+}
@@ -0,0 +1,8 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+public record TimelineEntry(
+    Long boardId,
+    Long authorId
+) {
+
+}
@@ -0,0 +1,12 @@
+package F12.newsfeedproject.domain.follow.dto;
+
+// 팔로워/팔로잉 목록 조회용 프로젝션. followId 는 다음 페이지 커서로 쓴다.
+public record FollowUserView(
+    Long followId,
+    Long userId,
+    String userName,
+    String userImageUrl,
+    String userIntroduce
+) {
+
+}
@@ -1,28 +1,48 @@
 package F12.newsfeedproject.domain.follow.entity;
 
 import F12.newsfeedproject.domain.user.entity.User;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Getter
+@EntityListeners(AuditingEntityListener.class)
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_follow_following_follower", columnNames = {"following_id", "follower_id"})
+    },
+    indexes = {
+        @Index(name = "idx_follow_follower_following", columnList = "follower_id, following_id"),
+        @Index(name = "idx_follow_following_follow_id", columnList = "following_id, followId"),
+        @Index(name = "idx_follow_follower_follow_id", columnList = "follower_id, followId")
+    }
+)
 public class Follow {
 
+    // 네이티브 INSERT IGNORE 로 저장하므로 DB 의 auto_increment 로 ID 를 만든다.
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long followId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +53,11 @@ public class Follow {
     @JoinColumn(name = "following_id", nullable = false)
     private User following;
 
+    // 스냅샷 이후의 팔로우를 다시 반영할 때 ID 뿐 아니라 생성 시각으로도 찾는다.
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdDate;
+
     public Follow(User following, User follower) {
         this.following = following;
         this.follower = follower;
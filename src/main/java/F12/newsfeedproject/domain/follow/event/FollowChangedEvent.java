@@ -0,0 +1,10 @@
+package F12.newsfeedproject.domain.follow.event;
+
+// userId 가 targetId 를 팔로우(followed = true)하거나 취소했다.
+public record FollowChangedEvent(
+    Long userId,
+    Long targetId,
+    boolean followed
+) {
+
+}
@@ -0,0 +1,515 @@
+package F12.newsfeedproject.domain.follow.graph;
+
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import F12.newsfeedproject.global.snapshot.SnapshotStore;
+import F12.newsfeedproject.global.snapshot.Snapshottable;
+import F12.newsfeedproject.global.util.SortedLongSet;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 팔로우 관계를 메모리에 유지하는 그래프.
+ * 사용자마다 팔로우하는 사용자(followees)와 팔로워(followers)를 정렬된 long 배열로 보관한다.
+ * 애플리케이션이 뜰 때 follow 테이블에서 한 번 적재하고, 이후에는 팔로우/언팔로우가 커밋될 때 갱신한다.
+ * 적재가 끝나기 전에는 DB 에서 조회한다.
+ */
+@Slf4j
+@Component
+public class FollowGraph implements Snapshottable {
+
+  private static final int LOAD_FETCH_SIZE = 10000;
+
+  static final String SNAPSHOT_NAME = "follow-graph";
+
+  private static final int SNAPSHOT_MAGIC = 0x46475331;
+
+  private static final int SNAPSHOT_VERSION = 1;
+
+  private static final long CHECKSUM_MODULUS = 2147483647L;
+
+  // 관계마다 checksumOf 와 같은 값을 DB 에서 계산해 더한다.
+  private static final String CHECKSUM_SQL = "select count(*), coalesce(sum(mod("
+      + "mod(following_id * 31 + follower_id, 2147483647) * mod(follower_id * 37 + following_id, 2147483647), "
+      + "2147483647)), 0) from follow";
+
+  // 배열 헤더(16) + SortedLongSet 객체(24) + 맵 엔트리와 키(약 48)
+  private static final long SET_OVERHEAD_BYTES = 88;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FollowRepository followRepository;
+  private final SnapshotStore snapshotStore;
+
+  private final Map<Long, SortedLongSet> followees = new HashMap<>();
+  private final Map<Long, SortedLongSet> followers = new HashMap<>();
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private volatile boolean loaded;
+  private volatile long edgeCount;
+
+  public FollowGraph(JdbcTemplate jdbcTemplate, FollowRepository followRepository,
+      SnapshotStore snapshotStore, MeterRegistry meterRegistry) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.followRepository = followRepository;
+    this.snapshotStore = snapshotStore;
+
+    Gauge.builder("follow.graph.edges", this, FollowGraph::getEdgeCount)
+        .description("메모리에 적재된 팔로우 관계 수")
+        .register(meterRegistry);
+    Gauge.builder("follow.graph.bytes.per.edge", this, FollowGraph::getBytesPerEdge)
+        .description("팔로우 관계 하나당 추정 메모리 (양방향 포함)")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 스냅샷이 있으면 스냅샷과 그 이후의 변경분으로, 없으면 follow 테이블 전체로 적재한다.
+   * 적재하는 동안 쓰기 락을 잡고 있으므로, 적재 중에 커밋된 팔로우/언팔로우는 적재가 끝난 뒤에 반영된다.
+   * 홈 타임라인 복원이 이 그래프를 쓰므로 먼저 실행한다.
+   */
+  @Order(0)
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    long startedAt = System.nanoTime();
+    lock.writeLock().lock();
+    try {
+      if (restore()) {
+        edgeCount = countEdges();
+        loaded = true;
+        log.info("follow graph restored from snapshot: {} edges, {} ms", edgeCount,
+            (System.nanoTime() - startedAt) / 1_000_000);
+        return;
+      }
+
+      JdbcTemplate loader = new JdbcTemplate(jdbcTemplate.getDataSource());
+      loader.setFetchSize(LOAD_FETCH_SIZE);
+
+      // 정렬된 순서로 읽으면 배열 끝에 이어 붙이기만 하면 된다.
+      loader.query("select following_id, follower_id from follow "
+              + "order by following_id, follower_id",
+          rs -> {
+            add(followees, rs.getLong(1), rs.getLong(2));
+          });
+      loader.query("select follower_id, following_id from follow "
+              + "order by follower_id, following_id",
+          rs -> {
+            add(followers, rs.getLong(1), rs.getLong(2));
+          });
+      edgeCount = countEdges();
+      loaded = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    log.info("follow graph loaded: {} edges, {} bytes/edge, {} ms", edgeCount,
+        String.format("%.1f", getBytesPerEdge()), (System.nanoTime() - startedAt) / 1_000_000);
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  // userId 가 targetId 를 팔로우하고 있으면 true
+  public boolean isFollowing(Long userId, Long targetId) {
+    if (!loaded) {
+      return followRepository.existsByFollowingIdAndFollowerId(userId, targetId);
+    }
+
+    lock.readLock().lock();
+    try {
+      SortedLongSet set = followees.get(userId);
+      return set != null && set.contains(targetId);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // userId 가 팔로우하는 사용자들 (ID 오름차순)
+  public long[] followees(Long userId) {
+    if (!loaded) {
+      return toArray(followRepository.findFollowerIdsByFollowingId(userId));
+    }
+    return read(followees, userId);
+  }
+
+  // userId 를 팔로우하는 사용자들 (ID 오름차순)
+  public long[] followers(Long userId) {
+    if (!loaded) {
+      return toArray(followRepository.findFollowingIdsByFollowerId(userId));
+    }
+    return read(followers, userId);
+  }
+
+  // userId 와 서로 팔로우하는 사용자들 (ID 오름차순)
+  public long[] mutuals(Long userId) {
+    if (!loaded) {
+      return SortedLongSet.intersect(followees(userId), followers(userId));
+    }
+
+    lock.readLock().lock();
+    try {
+      SortedLongSet followeeSet = followees.get(userId);
+      SortedLongSet followerSet = followers.get(userId);
+      if (followeeSet == null || followerSet == null) {
+        return new long[0];
+      }
+      return followeeSet.intersect(followerSet);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // targetIds 중 userId 가 팔로우하는 사용자들 (ID 오름차순)
+  public long[] followeesAmong(Long userId, SortedLongSet targetIds) {
+    if (!loaded) {
+      return toArray(followRepository.findFollowerIdsByFollowingIdAndFollowerIdIn(userId,
+          boxed(targetIds)));
+    }
+    return intersect(followees, userId, targetIds);
+  }
+
+  // targetIds 중 userId 를 팔로우하는 사용자들 (ID 오름차순)
+  public long[] followersAmong(Long userId, SortedLongSet targetIds) {
+    if (!loaded) {
+      return toArray(followRepository.findFollowingIdsByFollowerIdAndFollowingIdIn(userId,
+          boxed(targetIds)));
+    }
+    return intersect(followers, userId, targetIds);
+  }
+
+  public int followeeCount(Long userId) {
+    return loaded ? size(followees, userId) : followees(userId).length;
+  }
+
+  public int followerCount(Long userId) {
+    return loaded ? size(followers, userId) : followers(userId).length;
+  }
+
+  public void onFollowed(Long userId, Long targetId) {
+    afterCommit(() -> {
+      lock.writeLock().lock();
+      try {
+        if (add(followees, userId, targetId)) {
+          add(followers, targetId, userId);
+          edgeCount++;
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  public void onUnfollowed(Long userId, Long targetId) {
+    afterCommit(() -> {
+      lock.writeLock().lock();
+      try {
+        if (remove(followees, userId, targetId)) {
+          remove(followers, targetId, userId);
+          edgeCount--;
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  // 탈퇴한 사용자의 관계를 모두 지운다.
+  public void onUserDeleted(Long userId) {
+    afterCommit(() -> {
+      lock.writeLock().lock();
+      try {
+        SortedLongSet removedFollowees = followees.remove(userId);
+        if (removedFollowees != null) {
+          for (long targetId : removedFollowees.toArray()) {
+            remove(followers, targetId, userId);
+          }
+          edgeCount -= removedFollowees.size();
+        }
+        SortedLongSet removedFollowers = followers.remove(userId);
+        if (removedFollowers != null) {
+          for (long followerId : removedFollowers.toArray()) {
+            remove(followees, followerId, userId);
+          }
+          edgeCount -= removedFollowers.size();
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    });
+  }
+
+  /**
+   * 현재 그래프를 CSR 형식으로 복사한다. 복사하는 동안만 읽기 락을 잡으며,
+   * 이후의 팔로우/언팔로우는 스냅샷에 반영되지 않는다.
+   */
+  public FollowGraphSnapshot snapshot() {
+    lock.readLock().lock();
+    try {
+      long[] allIds = new long[followees.size() + followers.size()];
+      int count = 0;
+      for (Long userId : followees.keySet()) {
+        allIds[count++] = userId;
+      }
+      for (Long userId : followers.keySet()) {
+        allIds[count++] = userId;
+      }
+      long[] userIds = SortedLongSet.of(allIds).toArray();
+
+      int[] offsets = new int[userIds.length + 1];
+      int[] targets = new int[(int) edgeCount];
+      int position = 0;
+      for (int i = 0; i < userIds.length; i++) {
+        offsets[i] = position;
+        SortedLongSet set = followees.get(userIds[i]);
+        if (set == null) {
+          continue;
+        }
+        for (long targetId : set.toArray()) {
+          targets[position++] = Arrays.binarySearch(userIds, targetId);
+        }
+      }
+      offsets[userIds.length] = position;
+      return new FollowGraphSnapshot(userIds, offsets, targets);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 현재 그래프를 스냅샷 파일로 쓴다. 그래프를 복사하는 동안만 읽기 락을 잡고 파일은 락 밖에서 쓴다.
+   * 복사하기 전에 읽은 최대 follow_id 가 재시작할 때 DB 에서 다시 읽을 변경분의 기준이 된다.
+   */
+  @Override
+  public void writeSnapshot() throws IOException {
+    if (!loaded) {
+      return;
+    }
+
+    long highWaterMark = jdbcTemplate.queryForObject(
+        "select coalesce(max(follow_id), 0) from follow", Long.class);
+    FollowGraphSnapshot snapshot = snapshot();
+    snapshotStore.write(SNAPSHOT_NAME, out -> {
+      out.writeInt(SNAPSHOT_MAGIC);
+      out.writeInt(SNAPSHOT_VERSION);
+      out.writeLong(highWaterMark);
+      snapshot.writeTo(out);
+    });
+  }
+
+  public long getEdgeCount() {
+    return edgeCount;
+  }
+
+  // 양방향 배열과 집합 객체를 합한 메모리를 관계 수로 나눈 값
+  public double getBytesPerEdge() {
+    lock.readLock().lock();
+    try {
+      if (edgeCount == 0) {
+        return 0;
+      }
+      return (double) (estimateBytes(followees) + estimateBytes(followers)) / edgeCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private long[] read(Map<Long, SortedLongSet> adjacency, Long userId) {
+    lock.readLock().lock();
+    try {
+      SortedLongSet set = adjacency.get(userId);
+      return set == null ? new long[0] : set.toArray();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private long[] intersect(Map<Long, SortedLongSet> adjacency, Long userId,
+      SortedLongSet targetIds) {
+    lock.readLock().lock();
+    try {
+      SortedLongSet set = adjacency.get(userId);
+      return set == null ? new long[0] : targetIds.intersect(set);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 스냅샷을 읽고 기준 follow_id 이후에 추가된 관계를 더한다.
+   * 언팔로우나 탈퇴로 지워진 관계와 스냅샷 직후에 커밋된 작은 ID 의 관계는 변경분으로 알 수 없으므로,
+   * 결과 관계 수나 체크섬이 DB 와 다르면 버리고 전체를 적재한다.
+   */
+  private boolean restore() {
+    try {
+      ByteBuffer buffer = snapshotStore.read(SNAPSHOT_NAME);
+      if (buffer == null) {
+        return false;
+      }
+      if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+        log.warn("ignoring follow graph snapshot with unknown format");
+        return false;
+      }
+      long highWaterMark = buffer.getLong();
+      FollowGraphSnapshot snapshot = FollowGraphSnapshot.readFrom(buffer);
+
+      fill(snapshot);
+      long[] added = {0};
+      jdbcTemplate.query("select following_id, follower_id from follow where follow_id > ?",
+          rs -> {
+            if (add(followees, rs.getLong(1), rs.getLong(2))) {
+              add(followers, rs.getLong(2), rs.getLong(1));
+              added[0]++;
+            }
+          },
+          highWaterMark);
+
+      long[] expected = jdbcTemplate.queryForObject(CHECKSUM_SQL,
+          (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+      long checksum = checksum();
+      if (snapshot.edgeCount() + added[0] != expected[0] || checksum != expected[1]) {
+        log.info("follow graph snapshot is stale ({} + {} edges, {} in db, checksum {} vs {}), "
+                + "loading from db",
+            snapshot.edgeCount(), added[0], expected[0], checksum, expected[1]);
+        followees.clear();
+        followers.clear();
+        return false;
+      }
+      return true;
+    } catch (IOException | RuntimeException e) {
+      log.warn("failed to restore follow graph snapshot, loading from db", e);
+      followees.clear();
+      followers.clear();
+      return false;
+    }
+  }
+
+  // CSR 스냅샷에서 양방향 인접 집합을 만든다. 역방향은 대상별 개수를 먼저 세어 한 번에 채운다.
+  private void fill(FollowGraphSnapshot snapshot) {
+    int userCount = snapshot.userCount();
+    int[] followerCounts = new int[userCount];
+    for (int i = 0; i < userCount; i++) {
+      int start = snapshot.followeeStart(i);
+      int end = snapshot.followeeEnd(i);
+      if (start == end) {
+        continue;
+      }
+      long[] targetIds = new long[end - start];
+      for (int j = start; j < end; j++) {
+        int target = snapshot.followeeAt(j);
+        targetIds[j - start] = snapshot.userIdAt(target);
+        followerCounts[target]++;
+      }
+      followees.put(snapshot.userIdAt(i), SortedLongSet.of(targetIds));
+    }
+
+    long[][] followerIds = new long[userCount][];
+    int[] filled = new int[userCount];
+    for (int i = 0; i < userCount; i++) {
+      for (int j = snapshot.followeeStart(i); j < snapshot.followeeEnd(i); j++) {
+        int target = snapshot.followeeAt(j);
+        if (followerIds[target] == null) {
+          followerIds[target] = new long[followerCounts[target]];
+        }
+        followerIds[target][filled[target]++] = snapshot.userIdAt(i);
+      }
+    }
+    for (int i = 0; i < userCount; i++) {
+      if (followerIds[i] != null) {
+        followers.put(snapshot.userIdAt(i), SortedLongSet.of(followerIds[i]));
+      }
+    }
+  }
+
+  private int size(Map<Long, SortedLongSet> adjacency, Long userId) {
+    lock.readLock().lock();
+    try {
+      SortedLongSet set = adjacency.get(userId);
+      return set == null ? 0 : set.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static boolean add(Map<Long, SortedLongSet> adjacency, long from, long to) {
+    return adjacency.computeIfAbsent(from, key -> new SortedLongSet()).add(to);
+  }
+
+  private static boolean remove(Map<Long, SortedLongSet> adjacency, long from, long to) {
+    SortedLongSet set = adjacency.get(from);
+    if (set == null || !set.remove(to)) {
+      return false;
+    }
+    if (set.isEmpty()) {
+      adjacency.remove(from);
+    }
+    return true;
+  }
+
+  private long countEdges() {
+    long count = 0;
+    for (SortedLongSet set : followees.values()) {
+      count += set.size();
+    }
+    return count;
+  }
+
+  // 관계마다 checksumOf 를 더한 값. 관계 수가 같아도 관계가 바뀌었으면 대부분 달라진다.
+  private long checksum() {
+    long sum = 0;
+    for (Map.Entry<Long, SortedLongSet> entry : followees.entrySet()) {
+      for (long followerId : entry.getValue().toArray()) {
+        sum += checksumOf(entry.getKey(), followerId);
+      }
+    }
+    return sum;
+  }
+
+  static long checksumOf(long followingId, long followerId) {
+    long left = (followingId * 31 + followerId) % CHECKSUM_MODULUS;
+    long right = (followerId * 37 + followingId) % CHECKSUM_MODULUS;
+    return left * right % CHECKSUM_MODULUS;
+  }
+
+  private static long estimateBytes(Map<Long, SortedLongSet> adjacency) {
+    long bytes = 0;
+    for (SortedLongSet set : adjacency.values()) {
+      bytes += SET_OVERHEAD_BYTES + 8L * set.capacity();
+    }
+    return bytes;
+  }
+
+  private static List<Long> boxed(SortedLongSet ids) {
+    return Arrays.stream(ids.toArray()).boxed().toList();
+  }
+
+  private static long[] toArray(List<Long> ids) {
+    return ids.stream().mapToLong(Long::longValue).sorted().toArray();
+  }
+
+  // 트랜잭션이 롤백되면 그래프에도 반영하지 않는다.
+  private static void afterCommit(Runnable runnable) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runnable.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runnable.run();
+      }
+    });
+  }
+}
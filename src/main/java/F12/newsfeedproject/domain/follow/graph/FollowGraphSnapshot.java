@@ -0,0 +1,86 @@
+package F12.newsfeedproject.domain.follow.graph;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 팔로우 그래프의 읽기 전용 스냅샷 (CSR 형식).
+ * 사용자는 ID 오름차순으로 0 부터 번호를 매기고, i 번 사용자가 팔로우하는 사용자들의 번호는
+ * targets[offsets[i]] 부터 targets[offsets[i + 1] - 1] 까지 오름차순으로 들어 있다.
+ */
+public class FollowGraphSnapshot {
+
+  private final long[] userIds;
+
+  private final int[] offsets;
+
+  private final int[] targets;
+
+  public FollowGraphSnapshot(long[] userIds, int[] offsets, int[] targets) {
+    this.userIds = userIds;
+    this.offsets = offsets;
+    this.targets = targets;
+  }
+
+  public int userCount() {
+    return userIds.length;
+  }
+
+  public long edgeCount() {
+    return targets.length;
+  }
+
+  public long userIdAt(int index) {
+    return userIds[index];
+  }
+
+  // 없는 사용자면 음수
+  public int indexOf(long userId) {
+    return Arrays.binarySearch(userIds, userId);
+  }
+
+  public int followeeStart(int index) {
+    return offsets[index];
+  }
+
+  public int followeeEnd(int index) {
+    return offsets[index + 1];
+  }
+
+  public int followeeAt(int position) {
+    return targets[position];
+  }
+
+  // 사용자 수, 관계 수, userIds, offsets, targets 순서로 쓴다.
+  public void writeTo(DataOutputStream out) throws IOException {
+    out.writeInt(userIds.length);
+    out.writeInt(targets.length);
+    for (long userId : userIds) {
+      out.writeLong(userId);
+    }
+    for (int offset : offsets) {
+      out.writeInt(offset);
+    }
+    for (int target : targets) {
+      out.writeInt(target);
+    }
+  }
+
+  // writeTo 로 쓴 내용을 현재 위치부터 읽는다.
+  public static FollowGraphSnapshot readFrom(ByteBuffer buffer) {
+    int userCount = buffer.getInt();
+    int edgeCount = buffer.getInt();
+    long[] userIds = new long[userCount];
+    int[] offsets = new int[userCount + 1];
+    int[] targets = new int[edgeCount];
+    buffer.asLongBuffer().get(userIds);
+    buffer.position(buffer.position() + Long.BYTES * userCount);
+    buffer.asIntBuffer().get(offsets);
+    buffer.position(buffer.position() + Integer.BYTES * (userCount + 1));
+    buffer.asIntBuffer().get(targets);
+    buffer.position(buffer.position() + Integer.BYTES * edgeCount);
+    return new FollowGraphSnapshot(userIds, offsets, targets);
+  }
+}
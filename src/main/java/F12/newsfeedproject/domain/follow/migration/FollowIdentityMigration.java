@@ -0,0 +1,30 @@
+package F12.newsfeedproject.domain.follow.migration;
+
+import F12.newsfeedproject.global.migration.SchemaMigration;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * follow_id 를 follow_seq 시퀀스에서 auto_increment 로 바꾸고 (following_id, follower_id) 유니크 키를 추가한다.
+ * 팔로우는 ID 를 넣지 않는 네이티브 INSERT IGNORE 로 저장하므로, 바꾸지 않으면 ID 0 인 행이 한 번 들어간 뒤
+ * 이후의 팔로우가 모두 중복 키로 무시된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowIdentityMigration implements SchemaMigration {
+
+    private final SchemaMigrationSupport support;
+
+    @Override
+    public String name() {
+        return "001-follow-identity";
+    }
+
+    @Override
+    public void migrate() {
+        support.ensureUniqueKey("follow", "follow_id", "uk_follow_following_follower",
+                "following_id", "follower_id");
+        support.ensureAutoIncrement("follow", "follow_id");
+    }
+}
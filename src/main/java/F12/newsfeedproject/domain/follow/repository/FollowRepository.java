@@ -1,11 +1,88 @@
 package F12.newsfeedproject.domain.follow.repository;
 
+import F12.newsfeedproject.domain.follow.dto.FollowUserView;
 import F12.newsfeedproject.domain.follow.entity.Follow;
-import F12.newsfeedproject.domain.user.entity.User;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
-    Optional<Follow> findByFollowingAndFollower(User following, User follower);
+    @Query("select count(f) > 0 from Follow f " +
+        "where f.following.userId = :followingId and f.follower.userId = :followerId")
+    boolean existsByFollowingIdAndFollowerId(@Param("followingId") Long followingId,
+        @Param("followerId") Long followerId);
+
+    // followingId 사용자가 팔로우하는 사용자들의 ID
+    @Query("select f.follower.userId from Follow f where f.following.userId = :followingId")
+    List<Long> findFollowerIdsByFollowingId(@Param("followingId") Long followingId);
+
+    // (following_id, follower_id) 유니크 제약으로 이미 있는 팔로우는 무시된다. 추가된 행 수를 반환한다.
+    // 탈퇴한 사용자는 팔로우할 수 없다.
+    @Modifying
+    @Query(
+        value = "insert ignore into follow (following_id, follower_id, created_date) "
+            + "select :followingId, u.user_id, current_timestamp from users u "
+            + "where u.user_id = :followerId and u.deleted = false",
+        nativeQuery = true
+    )
+    int insertIgnore(@Param("followingId") Long followingId, @Param("followerId") Long followerId);
+
+    @Modifying
+    @Query("delete from Follow f " +
+        "where f.following.userId = :followingId and f.follower.userId = :followerId")
+    int deleteByFollowingIdAndFollowerId(@Param("followingId") Long followingId,
+        @Param("followerId") Long followerId);
+
+    // followerId 사용자를 팔로우하고 있는 사용자들의 ID
+    @Query("select f.following.userId from Follow f where f.follower.userId = :followerId")
+    List<Long> findFollowingIdsByFollowerId(@Param("followerId") Long followerId);
+
+    // followingId 사용자가 팔로우하는 사용자 중 followerIds 에 속한 사용자들의 ID
+    @Query("select f.follower.userId from Follow f " +
+        "where f.following.userId = :followingId and f.follower.userId in :followerIds")
+    List<Long> findFollowerIdsByFollowingIdAndFollowerIdIn(@Param("followingId") Long followingId,
+        @Param("followerIds") Collection<Long> followerIds);
+
+    // followerId 사용자를 팔로우하는 사용자 중 followingIds 에 속한 사용자들의 ID
+    @Query("select f.following.userId from Follow f " +
+        "where f.follower.userId = :followerId and f.following.userId in :followingIds")
+    List<Long> findFollowingIdsByFollowerIdAndFollowingIdIn(@Param("followerId") Long followerId,
+        @Param("followingIds") Collection<Long> followingIds);
+
+    // userId 가 팔로우하는 사용자 중 followerIds 에 속한 사용자들. 사용자 ID 내림차순
+    @Query("select new F12.newsfeedproject.domain.follow.dto.FollowUserView(" +
+        "f.followId, u.userId, u.userName, u.userImageUrl, u.userIntroduce) " +
+        "from Follow f join f.follower u " +
+        "where f.following.userId = :userId and u.userId in :followerIds " +
+        "order by u.userId desc")
+    List<FollowUserView> findFollowingViewsByFollowerIdIn(@Param("userId") Long userId,
+        @Param("followerIds") Collection<Long> followerIds);
+
+    // 팔로워 수가 threshold 를 넘는 사용자들의 ID
+    @Query("select f.follower.userId from Follow f " +
+        "group by f.follower.userId having count(f) > :threshold")
+    List<Long> findFollowerIdsHavingFollowingCountGreaterThan(@Param("threshold") long threshold);
+
+    // userId 를 팔로우하는 사용자들. (follower_id, follow_id) 인덱스로 정렬 없이 읽는다.
+    @Query("select new F12.newsfeedproject.domain.follow.dto.FollowUserView(" +
+        "f.followId, u.userId, u.userName, u.userImageUrl, u.userIntroduce) " +
+        "from Follow f join f.following u " +
+        "where f.follower.userId = :userId and f.followId < :followId " +
+        "order by f.followId desc")
+    List<FollowUserView> findFollowerViewsBefore(@Param("userId") Long userId,
+        @Param("followId") Long followId, Pageable pageable);
+
+    // userId 가 팔로우하는 사용자들. (following_id, follow_id) 인덱스로 정렬 없이 읽는다.
+    @Query("select new F12.newsfeedproject.domain.follow.dto.FollowUserView(" +
+        "f.followId, u.userId, u.userName, u.userImageUrl, u.userIntroduce) " +
+        "from Follow f join f.follower u " +
+        "where f.following.userId = :userId and f.followId < :followId " +
+        "order by f.followId desc")
+    List<FollowUserView> findFollowingViewsBefore(@Param("userId") Long userId,
+        @Param("followId") Long followId, Pageable pageable);
 }
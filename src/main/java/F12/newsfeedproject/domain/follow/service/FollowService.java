@@ -1,13 +1,16 @@
 package F12.newsfeedproject.domain.follow.service;
 
-import F12.newsfeedproject.domain.follow.entity.Follow;
+import F12.newsfeedproject.domain.follow.dto.FollowUserView;
+import F12.newsfeedproject.domain.follow.event.FollowChangedEvent;
 import F12.newsfeedproject.domain.follow.repository.FollowRepository;
-import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.domain.user.service.UserService;
 import jakarta.transaction.Transactional;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -16,20 +19,43 @@ import org.springframework.stereotype.Service;
 public class FollowService {
 
     private final FollowRepository followRepository;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 팔로우가 새로 추가되었으면 true
     @Transactional
-    public Follow saveFollow(Follow follow) {
-        return followRepository.save(follow);
+    public boolean follow(Long userId, Long targetId) {
+        if (followRepository.insertIgnore(userId, targetId) == 0) {
+            return false;
+        }
+        userService.addFollowCounts(userId, targetId, 1);
+        eventPublisher.publishEvent(new FollowChangedEvent(userId, targetId, true));
+        return true;
     }
 
-    public Optional<Follow> findByFollowingAndFollower(User following, User follower) {
-        return followRepository.findByFollowingAndFollower(following, follower);
+    // 팔로우가 실제로 취소되었으면 true
+    @Transactional
+    public boolean unfollow(Long userId, Long targetId) {
+        if (followRepository.deleteByFollowingIdAndFollowerId(userId, targetId) == 0) {
+            return false;
+        }
+        userService.addFollowCounts(userId, targetId, -1);
+        eventPublisher.publishEvent(new FollowChangedEvent(userId, targetId, false));
+        return true;
     }
 
-    @Transactional
-    public void deleteFollow(Follow follow) {
-        followRepository.delete(follow);
+    // userId 를 팔로우하는 사용자들을 최근에 팔로우한 순서로 조회
+    public List<FollowUserView> findFollowersBefore(Long userId, Long followId, int limit) {
+        return followRepository.findFollowerViewsBefore(userId, followId, PageRequest.of(0, limit));
     }
 
+    // userId 가 팔로우하는 사용자들을 최근에 팔로우한 순서로 조회
+    public List<FollowUserView> findFollowingsBefore(Long userId, Long followId, int limit) {
+        return followRepository.findFollowingViewsBefore(userId, followId, PageRequest.of(0, limit));
+    }
 
+    // userId 가 팔로우하는 사용자 중 followerIds 에 속한 사용자들 (사용자 ID 내림차순)
+    public List<FollowUserView> findFollowingsAmong(Long userId, Collection<Long> followerIds) {
+        return followRepository.findFollowingViewsByFollowerIdIn(userId, followerIds);
+    }
 }
@@ -0,0 +1,8 @@
+package F12.newsfeedproject.domain.purge.constant;
+
+public enum PurgeStatus {
+  PENDING,
+  RUNNING,
+  DONE,
+  FAILED
+}
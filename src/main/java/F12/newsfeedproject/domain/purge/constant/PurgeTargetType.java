@@ -0,0 +1,6 @@
+package F12.newsfeedproject.domain.purge.constant;
+
+public enum PurgeTargetType {
+  BOARD,
+  USER
+}
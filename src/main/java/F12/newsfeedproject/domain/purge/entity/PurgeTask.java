@@ -0,0 +1,98 @@
+package F12.newsfeedproject.domain.purge.entity;
+
+import F12.newsfeedproject.domain.common.Timestamped;
+import F12.newsfeedproject.domain.purge.constant.PurgeStatus;
+import F12.newsfeedproject.domain.purge.constant.PurgeTargetType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 삭제된 게시글/계정에 딸린 데이터를 나눠서 지우는 작업.
+ * step 은 지금 진행 중인 삭제 단계이고, 단계별 청크를 지울 때마다 같은 트랜잭션에서 진행 상황을 저장한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_purge_task_status", columnList = "status, purgeTaskId")
+})
+public class PurgeTask extends Timestamped {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.AUTO)
+  private Long purgeTaskId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private PurgeTargetType targetType;
+
+  @Column(nullable = false)
+  private Long targetId;
+
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private PurgeStatus status;
+
+  private int step;
+
+  private long deletedRows;
+
+  private int attempts;
+
+  // 작업 중인 워커가 마지막으로 진행한 시각. 오래 갱신되지 않으면 다른 워커가 이어받는다.
+  private LocalDateTime heartbeat;
+
+  // 작업을 선점한 워커가 선점할 때마다 새로 정하는 값. 다른 워커가 이어받으면 이전 워커는 더 진행하지 않는다.
+  private String owner;
+
+  private String lastError;
+
+  public static PurgeTask of(PurgeTargetType targetType, Long targetId) {
+    return PurgeTask.builder()
+        .targetType(targetType)
+        .targetId(targetId)
+        .status(PurgeStatus.PENDING)
+        .build();
+  }
+
+  // 청크 하나를 지운 결과를 반영한다. 더 지울 것이 없으면 다음 단계로 넘어간다.
+  public void progress(int deleted, boolean stepFinished, LocalDateTime now) {
+    deletedRows += deleted;
+    if (stepFinished) {
+      step++;
+    }
+    heartbeat = now;
+  }
+
+  public boolean isOwnedBy(String owner) {
+    return status == PurgeStatus.RUNNING && owner.equals(this.owner);
+  }
+
+  public void complete() {
+    status = PurgeStatus.DONE;
+  }
+
+  // 단계는 모두 여러 번 실행해도 같은 결과이므로 처음 단계부터 다시 시도한다.
+  public void retry(String error, int maxAttempts) {
+    attempts++;
+    step = 0;
+    lastError = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+    status = attempts >= maxAttempts ? PurgeStatus.FAILED : PurgeStatus.PENDING;
+    owner = null;
+  }
+}
@@ -0,0 +1,188 @@
+package F12.newsfeedproject.domain.purge.repository;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 삭제 작업의 단계별 청크 삭제 쿼리.
+ * 모든 메서드는 최대 limit 개의 행만 지우고 실제로 지운 행 수를 반환하므로, limit 보다 적게 지워지면 그 단계가 끝난 것이다.
+ * 각 쿼리는 여러 번 실행해도 결과가 같다.
+ * 수를 줄이는 단계는 지울 행을 잠가서 읽으므로, 같은 행의 수를 두 번 줄이지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurgeJdbcRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 게시글
+
+  public int deleteCommentLikesOfBoard(Long boardId, int limit) {
+    return jdbcTemplate.update(
+        "delete from user_comment_like where comment_id in "
+            + "(select comment_id from comment where board_id = ?) limit ?", boardId, limit);
+  }
+
+  public int deleteCommentsOfBoard(Long boardId, int limit) {
+    return jdbcTemplate.update("delete from comment where board_id = ? limit ?", boardId, limit);
+  }
+
+  public int deleteBoardLikesOfBoard(Long boardId, int limit) {
+    return jdbcTemplate.update("delete from user_board_like where board_id = ? limit ?", boardId,
+        limit);
+  }
+
+  public int deleteBoard(Long boardId, int limit) {
+    return jdbcTemplate.update("delete from board where board_id = ? and deleted = true", boardId);
+  }
+
+  // 계정
+
+  // 숨긴 게시글 ID 를 반환한다.
+  public List<Long> hideBoardsOfUser(Long userId, int limit) {
+    List<Long> boardIds = jdbcTemplate.queryForList(
+        "select board_id from board where user_id = ? and deleted = false order by board_id limit ? for update",
+        Long.class, userId, limit);
+    if (boardIds.isEmpty()) {
+      return boardIds;
+    }
+
+    jdbcTemplate.update(
+        "update board set deleted = true where board_id in (" + placeholders(boardIds.size()) + ")",
+        boardIds.toArray());
+    return boardIds;
+  }
+
+  // 사용자가 누른 게시글 좋아요를 지우면서 남아 있는 게시글의 좋아요 수도 함께 줄인다.
+  public int cancelBoardLikesOfUser(Long userId, int limit) {
+    List<Long> boardIds = jdbcTemplate.queryForList(
+        "select board_id from user_board_like where user_id = ? order by board_id limit ? for update",
+        Long.class, userId, limit);
+    if (boardIds.isEmpty()) {
+      return 0;
+    }
+
+    String in = placeholders(boardIds.size());
+    jdbcTemplate.update("update board set like_count = like_count - 1 where board_id in (" + in + ")",
+        boardIds.toArray());
+    return jdbcTemplate.update(
+        "delete from user_board_like where user_id = ? and board_id in (" + in + ")",
+        prepend(userId, boardIds));
+  }
+
+  public int cancelCommentLikesOfUser(Long userId, int limit) {
+    List<Long> commentIds = jdbcTemplate.queryForList(
+        "select comment_id from user_comment_like where user_id = ? order by comment_id limit ? for update",
+        Long.class, userId, limit);
+    if (commentIds.isEmpty()) {
+      return 0;
+    }
+
+    String in = placeholders(commentIds.size());
+    jdbcTemplate.update(
+        "update comment set like_count = like_count - 1 where comment_id in (" + in + ")",
+        commentIds.toArray());
+    return jdbcTemplate.update(
+        "delete from user_comment_like where user_id = ? and comment_id in (" + in + ")",
+        prepend(userId, commentIds));
+  }
+
+  public int deleteCommentLikesOnCommentsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update(
+        "delete from user_comment_like where comment_id in "
+            + "(select comment_id from comment where user_id = ?) limit ?", userId, limit);
+  }
+
+  public int deleteCommentsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update("delete from comment where user_id = ? limit ?", userId, limit);
+  }
+
+  public int deleteCommentLikesOnBoardsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update(
+        "delete from user_comment_like where comment_id in "
+            + "(select c.comment_id from comment c join board b on c.board_id = b.board_id "
+            + "where b.user_id = ?) limit ?", userId, limit);
+  }
+
+  public int deleteCommentsOnBoardsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update(
+        "delete from comment where board_id in (select board_id from board where user_id = ?) limit ?",
+        userId, limit);
+  }
+
+  public int deleteBoardLikesOnBoardsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update(
+        "delete from user_board_like where board_id in "
+            + "(select board_id from board where user_id = ?) limit ?", userId, limit);
+  }
+
+  public int deleteBoardsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update("delete from board where user_id = ? limit ?", userId, limit);
+  }
+
+  // 사용자가 팔로우하던 관계를 지우면서 상대의 팔로워 수를 줄인다.
+  public int deleteFollowingsOfUser(Long userId, int limit) {
+    List<Long> targetIds = jdbcTemplate.queryForList(
+        "select follower_id from follow where following_id = ? order by follower_id limit ? for update",
+        Long.class, userId, limit);
+    if (targetIds.isEmpty()) {
+      return 0;
+    }
+
+    String in = placeholders(targetIds.size());
+    jdbcTemplate.update(
+        "update users set follower_count = follower_count - 1 where user_id in (" + in + ")",
+        targetIds.toArray());
+    return jdbcTemplate.update(
+        "delete from follow where following_id = ? and follower_id in (" + in + ")",
+        prepend(userId, targetIds));
+  }
+
+  // 사용자를 팔로우하던 관계를 지우면서 상대의 팔로잉 수를 줄인다.
+  public int deleteFollowersOfUser(Long userId, int limit) {
+    List<Long> followerIds = jdbcTemplate.queryForList(
+        "select following_id from follow where follower_id = ? order by following_id limit ? for update",
+        Long.class, userId, limit);
+    if (followerIds.isEmpty()) {
+      return 0;
+    }
+
+    String in = placeholders(followerIds.size());
+    jdbcTemplate.update(
+        "update users set following_count = following_count - 1 where user_id in (" + in + ")",
+        followerIds.toArray());
+    return jdbcTemplate.update(
+        "delete from follow where follower_id = ? and following_id in (" + in + ")",
+        prepend(userId, followerIds));
+  }
+
+  public int deleteRecommendationsOfUser(Long userId, int limit) {
+    return jdbcTemplate.update("delete from follow_recommendation where user_id = ? limit ?",
+        userId, limit);
+  }
+
+  public int deleteRecommendationsOfCandidate(Long userId, int limit) {
+    return jdbcTemplate.update("delete from follow_recommendation where candidate_id = ? limit ?",
+        userId, limit);
+  }
+
+  public int deleteUser(Long userId, int limit) {
+    return jdbcTemplate.update("delete from users where user_id = ? and deleted = true", userId);
+  }
+
+  private static String placeholders(int count) {
+    return String.join(", ", Collections.nCopies(count, "?"));
+  }
+
+  private static Object[] prepend(Long first, List<Long> rest) {
+    Object[] args = new Object[rest.size() + 1];
+    args[0] = first;
+    for (int i = 0; i < rest.size(); i++) {
+      args[i + 1] = rest.get(i);
+    }
+    return args;
+  }
+}
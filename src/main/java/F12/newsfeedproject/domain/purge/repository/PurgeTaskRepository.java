@@ -0,0 +1,43 @@
+package F12.newsfeedproject.domain.purge.repository;
+
+import F12.newsfeedproject.domain.purge.constant.PurgeStatus;
+import F12.newsfeedproject.domain.purge.entity.PurgeTask;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PurgeTaskRepository extends JpaRepository<PurgeTask, Long> {
+
+  // 대기 중이거나, 실행 중이었지만 워커가 멈춘 것으로 보이는 작업
+  @Query(
+      "select t.purgeTaskId from PurgeTask t " +
+          "where t.status = :pending or (t.status = :running and t.heartbeat < :staleBefore) " +
+          "order by t.purgeTaskId"
+  )
+  List<Long> findRunnableTaskIds(@Param("pending") PurgeStatus pending,
+      @Param("running") PurgeStatus running, @Param("staleBefore") LocalDateTime staleBefore,
+      Pageable pageable);
+
+  // 여러 인스턴스가 같은 작업을 동시에 가져가지 않도록 조건부 UPDATE 로 선점한다.
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update PurgeTask t set t.status = :running, t.heartbeat = :now, t.owner = :owner " +
+          "where t.purgeTaskId = :purgeTaskId " +
+          "and (t.status = :pending or (t.status = :running and t.heartbeat < :staleBefore))"
+  )
+  int claim(@Param("purgeTaskId") Long purgeTaskId, @Param("pending") PurgeStatus pending,
+      @Param("running") PurgeStatus running, @Param("now") LocalDateTime now,
+      @Param("staleBefore") LocalDateTime staleBefore, @Param("owner") String owner);
+
+  // 청크를 지우는 동안 작업 행을 잠가서, 이어받으려는 워커의 선점이 진행 중인 청크가 끝날 때까지 기다리게 한다.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select t from PurgeTask t where t.purgeTaskId = :purgeTaskId")
+  Optional<PurgeTask> findByIdForUpdate(@Param("purgeTaskId") Long purgeTaskId);
+}
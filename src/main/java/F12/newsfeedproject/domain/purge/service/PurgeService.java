@@ -0,0 +1,25 @@
+package F12.newsfeedproject.domain.purge.service;
+
+import F12.newsfeedproject.domain.purge.constant.PurgeTargetType;
+import F12.newsfeedproject.domain.purge.entity.PurgeTask;
+import F12.newsfeedproject.domain.purge.repository.PurgeTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 삭제 작업 등록. 호출한 쪽의 트랜잭션에서 저장되므로 숨김 처리가 커밋될 때만 작업도 함께 남는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurgeService {
+
+  private final PurgeTaskRepository purgeTaskRepository;
+
+  public PurgeTask requestBoardPurge(Long boardId) {
+    return purgeTaskRepository.save(PurgeTask.of(PurgeTargetType.BOARD, boardId));
+  }
+
+  public PurgeTask requestUserPurge(Long userId) {
+    return purgeTaskRepository.save(PurgeTask.of(PurgeTargetType.USER, userId));
+  }
+}
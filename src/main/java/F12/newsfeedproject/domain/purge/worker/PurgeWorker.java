@@ -0,0 +1,207 @@
+package F12.newsfeedproject.domain.purge.worker;
+
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
+import F12.newsfeedproject.domain.purge.constant.PurgeStatus;
+import F12.newsfeedproject.domain.purge.constant.PurgeTargetType;
+import F12.newsfeedproject.domain.purge.entity.PurgeTask;
+import F12.newsfeedproject.domain.purge.repository.PurgeJdbcRepository;
+import F12.newsfeedproject.domain.purge.repository.PurgeTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 작업을 단계별로 chunkSize 개씩 지운다.
+ * 청크마다 별도 트랜잭션으로 지우고 진행 상황을 저장하며, 청크 사이에 chunkPauseMs 만큼 쉬어서 DB 부하를 제한한다.
+ * 스케줄러 스레드를 막지 않도록 전용 스레드 하나에서 실행한다.
+ */
+@Slf4j
+@Component
+public class PurgeWorker {
+
+  private static final int TASKS_PER_POLL = 10;
+
+  private final PurgeTaskRepository purgeTaskRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final long chunkPauseMs;
+  private final int maxAttempts;
+  private final long leaseMs;
+
+  private final Map<PurgeTargetType, List<PurgeStep>> steps;
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "purge-worker");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private final AtomicBoolean busy = new AtomicBoolean();
+  private volatile boolean running = true;
+
+  private final Counter deletedRowsCounter;
+
+  public PurgeWorker(PurgeTaskRepository purgeTaskRepository,
+      PurgeJdbcRepository purgeJdbcRepository,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${purge.chunk-size}") int chunkSize,
+      @Value("${purge.chunk-pause-ms}") long chunkPauseMs,
+      @Value("${purge.max-attempts}") int maxAttempts,
+      @Value("${purge.lease-ms}") long leaseMs) {
+    this.purgeTaskRepository = purgeTaskRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.chunkSize = chunkSize;
+    this.chunkPauseMs = chunkPauseMs;
+    this.maxAttempts = maxAttempts;
+    this.leaseMs = leaseMs;
+
+    // 외래 키를 참조하는 쪽부터 지운다.
+    this.steps = Map.of(
+        PurgeTargetType.BOARD, List.of(
+            purgeJdbcRepository::deleteCommentLikesOfBoard,
+            purgeJdbcRepository::deleteCommentsOfBoard,
+            purgeJdbcRepository::deleteBoardLikesOfBoard,
+            purgeJdbcRepository::deleteBoard),
+        PurgeTargetType.USER, List.of(
+            (userId, limit) -> {
+              List<Long> boardIds = purgeJdbcRepository.hideBoardsOfUser(userId, limit);
+              // 숨긴 게시글이 타임라인과 작성자 인덱스에서도 빠지도록 커밋 후 삭제 이벤트를 보낸다.
+              boardIds.forEach(
+                  boardId -> eventPublisher.publishEvent(new BoardDeletedEvent(boardId, userId)));
+              return boardIds.size();
+            },
+            purgeJdbcRepository::cancelBoardLikesOfUser,
+            purgeJdbcRepository::cancelCommentLikesOfUser,
+            purgeJdbcRepository::deleteCommentLikesOnCommentsOfUser,
+            purgeJdbcRepository::deleteCommentsOfUser,
+            purgeJdbcRepository::deleteCommentLikesOnBoardsOfUser,
+            purgeJdbcRepository::deleteCommentsOnBoardsOfUser,
+            purgeJdbcRepository::deleteBoardLikesOnBoardsOfUser,
+            purgeJdbcRepository::deleteBoardsOfUser,
+            purgeJdbcRepository::deleteFollowingsOfUser,
+            purgeJdbcRepository::deleteFollowersOfUser,
+            purgeJdbcRepository::deleteRecommendationsOfUser,
+            purgeJdbcRepository::deleteRecommendationsOfCandidate,
+            purgeJdbcRepository::deleteUser));
+
+    this.deletedRowsCounter = Counter.builder("purge.rows.deleted")
+        .description("삭제 작업으로 지워진 행 수")
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${purge.poll-interval-ms}")
+  public void poll() {
+    if (running && busy.compareAndSet(false, true)) {
+      executor.execute(() -> {
+        try {
+          runPendingTasks();
+        } finally {
+          busy.set(false);
+        }
+      });
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    executor.shutdown();
+    if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("purge worker did not finish in time");
+    }
+  }
+
+  void runPendingTasks() {
+    List<Long> taskIds = purgeTaskRepository.findRunnableTaskIds(PurgeStatus.PENDING,
+        PurgeStatus.RUNNING, LocalDateTime.now().minusNanos(leaseMs * 1_000_000),
+        PageRequest.of(0, TASKS_PER_POLL));
+
+    for (Long taskId : taskIds) {
+      if (!running) {
+        return;
+      }
+      String owner = UUID.randomUUID().toString();
+      if (claim(taskId, owner)) {
+        run(taskId, owner);
+      }
+    }
+  }
+
+  private boolean claim(Long taskId, String owner) {
+    LocalDateTime now = LocalDateTime.now();
+    Integer claimed = transactionTemplate.execute(status -> purgeTaskRepository.claim(taskId,
+        PurgeStatus.PENDING, PurgeStatus.RUNNING, now, now.minusNanos(leaseMs * 1_000_000),
+        owner));
+    return claimed != null && claimed > 0;
+  }
+
+  private void run(Long taskId, String owner) {
+    try {
+      while (running && Boolean.TRUE.equals(
+          transactionTemplate.execute(status -> purgeChunk(taskId, owner)))) {
+        pause();
+      }
+    } catch (RuntimeException e) {
+      log.warn("purge task {} failed, will be retried", taskId, e);
+      transactionTemplate.executeWithoutResult(status -> purgeTaskRepository.findByIdForUpdate(taskId)
+          .filter(task -> task.isOwnedBy(owner))
+          .ifPresent(task -> task.retry(e.getMessage(), maxAttempts)));
+    }
+  }
+
+  // 청크 하나를 지우고 진행 상황을 저장한다. 더 할 일이 남아 있으면 true
+  // 다른 워커가 작업을 이어받았으면 같은 단계를 두 번 실행하지 않도록 멈춘다.
+  boolean purgeChunk(Long taskId, String owner) {
+    PurgeTask task = purgeTaskRepository.findByIdForUpdate(taskId).orElse(null);
+    if (task == null || !task.isOwnedBy(owner)) {
+      return false;
+    }
+
+    List<PurgeStep> taskSteps = steps.get(task.getTargetType());
+    if (task.getStep() >= taskSteps.size()) {
+      task.complete();
+      log.info("purge task {} ({} {}) done, {} rows deleted", taskId, task.getTargetType(),
+          task.getTargetId(), task.getDeletedRows());
+      return false;
+    }
+
+    int deleted = taskSteps.get(task.getStep()).purge(task.getTargetId(), chunkSize);
+    task.progress(deleted, deleted < chunkSize, LocalDateTime.now());
+    deletedRowsCounter.increment(deleted);
+    return true;
+  }
+
+  private void pause() {
+    if (chunkPauseMs <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(chunkPauseMs);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  @FunctionalInterface
+  interface PurgeStep {
+
+    int purge(Long targetId, int limit);
+  }
+}
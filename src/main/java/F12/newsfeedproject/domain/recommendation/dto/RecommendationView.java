@@ -0,0 +1,12 @@
+package F12.newsfeedproject.domain.recommendation.dto;
+
+// 추천 목록 조회용 프로젝션
+public record RecommendationView(
+    Long userId,
+    String userName,
+    String userImageUrl,
+    String userIntroduce,
+    int mutualCount
+) {
+
+}
@@ -0,0 +1,48 @@
+package F12.newsfeedproject.domain.recommendation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 팔로우 추천 결과. RecommendationJob 이 사용자 단위로 통째로 바꿔 쓴다.
+ * 배치로 다시 계산되는 파생 데이터이므로 users 에 외래 키를 걸지 않는다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_follow_recommendation_user_rank", columnList = "userId, ranking"),
+    @Index(name = "idx_follow_recommendation_candidate", columnList = "candidateId")
+})
+public class FollowRecommendation {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long followRecommendationId;
+
+  @Column(nullable = false)
+  private Long userId;
+
+  @Column(nullable = false)
+  private Long candidateId;
+
+  // 함께 아는 사람 수
+  @Column(nullable = false)
+  private int mutualCount;
+
+  // 0 부터 시작하는 추천 순위
+  @Column(nullable = false)
+  private int ranking;
+}
@@ -0,0 +1,8 @@
+package F12.newsfeedproject.domain.recommendation.job;
+
+public record Candidate(
+    long candidateId,
+    int mutualCount
+) {
+
+}
@@ -0,0 +1,133 @@
+package F12.newsfeedproject.domain.recommendation.job;
+
+import F12.newsfeedproject.domain.follow.graph.FollowGraphSnapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongFunction;
+
+/**
+ * 내가 팔로우하는 사람들이 팔로우하는 사람(2촌)을 함께 아는 사람 수 순으로 고른다.
+ * 나 자신과 이미 팔로우하는 사람은 제외하고, 수가 같으면 사용자 ID 가 작은 쪽이 앞선다.
+ */
+public final class MutualFollowRanker {
+
+  static final Comparator<Candidate> RANKING = Comparator
+      .comparingInt(Candidate::mutualCount).reversed()
+      .thenComparingLong(Candidate::candidateId);
+
+  // 이미 팔로우하는 사용자 표시
+  private static final int EXCLUDED = -1;
+
+  private MutualFollowRanker() {
+  }
+
+  /**
+   * 스냅샷의 userIndex 번 사용자에 대한 추천. 한 스레드가 여러 사용자를 계산할 때 Scratch 를 재사용한다.
+   */
+  public static List<Candidate> rank(FollowGraphSnapshot snapshot, int userIndex, int limit,
+      Scratch scratch) {
+    int[] counts = scratch.counts;
+    int[] touched = scratch.touched;
+    int touchedSize = 0;
+
+    int start = snapshot.followeeStart(userIndex);
+    int end = snapshot.followeeEnd(userIndex);
+
+    counts[userIndex] = EXCLUDED;
+    touched[touchedSize++] = userIndex;
+    for (int i = start; i < end; i++) {
+      int followee = snapshot.followeeAt(i);
+      if (counts[followee] != EXCLUDED) {
+        counts[followee] = EXCLUDED;
+        touched[touchedSize++] = followee;
+      }
+    }
+
+    for (int i = start; i < end; i++) {
+      int followee = snapshot.followeeAt(i);
+      for (int j = snapshot.followeeStart(followee); j < snapshot.followeeEnd(followee); j++) {
+        int candidate = snapshot.followeeAt(j);
+        int count = counts[candidate];
+        if (count == EXCLUDED) {
+          continue;
+        }
+        if (count == 0) {
+          touched[touchedSize++] = candidate;
+        }
+        counts[candidate] = count + 1;
+      }
+    }
+
+    PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+    for (int i = 0; i < touchedSize; i++) {
+      int index = touched[i];
+      if (counts[index] > 0) {
+        offer(top, new Candidate(snapshot.userIdAt(index), counts[index]), limit);
+      }
+      counts[index] = 0;
+    }
+    return sorted(top);
+  }
+
+  /**
+   * 스냅샷 없이 현재 그래프에서 한 사용자의 추천을 계산한다. 변경된 사용자 몇 명만 다시 계산할 때 쓴다.
+   */
+  public static List<Candidate> rank(long userId, LongFunction<long[]> followees, int limit) {
+    long[] direct = followees.apply(userId);
+    Map<Long, int[]> counts = new HashMap<>();
+    for (long followee : direct) {
+      for (long candidate : followees.apply(followee)) {
+        if (candidate != userId && !contains(direct, candidate)) {
+          counts.computeIfAbsent(candidate, id -> new int[1])[0]++;
+        }
+      }
+    }
+
+    PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+    counts.forEach((candidate, count) -> offer(top, new Candidate(candidate, count[0]), limit));
+    return sorted(top);
+  }
+
+  // 상위 limit 개만 남긴다. 큐의 머리에는 가장 순위가 낮은 후보가 있다.
+  private static void offer(PriorityQueue<Candidate> top, Candidate candidate, int limit) {
+    if (limit <= 0) {
+      return;
+    }
+    if (top.size() < limit) {
+      top.add(candidate);
+    } else if (RANKING.compare(candidate, top.peek()) < 0) {
+      top.poll();
+      top.add(candidate);
+    }
+  }
+
+  private static List<Candidate> sorted(PriorityQueue<Candidate> top) {
+    List<Candidate> result = new ArrayList<>(top);
+    result.sort(RANKING);
+    return result;
+  }
+
+  private static boolean contains(long[] sortedIds, long id) {
+    return Arrays.binarySearch(sortedIds, id) >= 0;
+  }
+
+  /**
+   * 사용자 수만큼의 작업 배열. 계산이 끝나면 counts 는 다시 0 으로 돌아간다.
+   */
+  public static class Scratch {
+
+    private final int[] counts;
+
+    private final int[] touched;
+
+    public Scratch(int userCount) {
+      this.counts = new int[userCount];
+      this.touched = new int[userCount];
+    }
+  }
+}
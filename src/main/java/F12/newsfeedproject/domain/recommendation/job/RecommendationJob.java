@@ -0,0 +1,189 @@
+package F12.newsfeedproject.domain.recommendation.job;
+
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.domain.follow.graph.FollowGraphSnapshot;
+import F12.newsfeedproject.domain.recommendation.repository.FollowRecommendationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 팔로우 추천을 계산해 follow_recommendation 에 저장한다.
+ * 전체 계산은 팔로우 그래프 스냅샷을 사용자 범위로 나눠 전용 ForkJoinPool 에서 병렬로 처리하고,
+ * 그 사이에는 팔로우 관계가 바뀐 사용자만 현재 그래프에서 다시 계산한다.
+ * 다시 계산할 사용자가 max-dirty-users 를 넘으면 더 표시하지 않고 다음 전체 계산에 맡긴다.
+ */
+@Slf4j
+@Component
+public class RecommendationJob {
+
+  // 범위 하나에서 계산한 결과를 한 트랜잭션으로 저장한다.
+  private static final int MIN_USERS_PER_TASK = 256;
+
+  private final FollowGraph followGraph;
+  private final FollowRecommendationJdbcRepository recommendationJdbcRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxPerUser;
+  private final int maxDirtyUsers;
+  private final ForkJoinPool pool;
+
+  private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean busy = new AtomicBoolean();
+  private volatile boolean running = true;
+
+  private final Timer fullRefreshTimer;
+  private final Counter dirtyDroppedCounter;
+
+  public RecommendationJob(FollowGraph followGraph,
+      FollowRecommendationJdbcRepository recommendationJdbcRepository,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${recommendation.max-per-user}") int maxPerUser,
+      @Value("${recommendation.parallelism}") int parallelism,
+      @Value("${recommendation.max-dirty-users}") int maxDirtyUsers) {
+    this.followGraph = followGraph;
+    this.recommendationJdbcRepository = recommendationJdbcRepository;
+    this.transactionTemplate = transactionTemplate;
+    this.maxPerUser = maxPerUser;
+    this.maxDirtyUsers = maxDirtyUsers;
+    this.pool = new ForkJoinPool(Math.max(1, parallelism), pool -> {
+      var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("recommendation-" + thread.getPoolIndex());
+      thread.setDaemon(true);
+      return thread;
+    }, null, false);
+    this.fullRefreshTimer = Timer.builder("recommendation.full.refresh")
+        .description("전체 추천 계산 시간")
+        .register(meterRegistry);
+    this.dirtyDroppedCounter = Counter.builder("recommendation.dirty.dropped")
+        .description("다시 계산할 사용자가 너무 많아 전체 계산에 맡긴 표시 수")
+        .register(meterRegistry);
+  }
+
+  public void markDirty(Long userId) {
+    if (dirtyUserIds.size() >= maxDirtyUsers) {
+      dirtyDroppedCounter.increment();
+      return;
+    }
+    dirtyUserIds.add(userId);
+  }
+
+  @Scheduled(fixedDelayString = "${recommendation.full-refresh-interval-ms}",
+      initialDelayString = "${recommendation.full-refresh-interval-ms}")
+  public void scheduleFullRefresh() {
+    submit(this::refreshAll);
+  }
+
+  @Scheduled(fixedDelayString = "${recommendation.incremental-interval-ms}")
+  public void scheduleIncrementalRefresh() {
+    if (!dirtyUserIds.isEmpty()) {
+      submit(this::refreshDirty);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    pool.shutdown();
+    if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("recommendation job did not finish in time");
+    }
+  }
+
+  // 전체 계산과 변경분 계산은 한 번에 하나만 실행한다.
+  private void submit(Runnable job) {
+    if (running && followGraph.isLoaded() && busy.compareAndSet(false, true)) {
+      pool.execute(() -> {
+        try {
+          job.run();
+        } catch (RuntimeException e) {
+          log.error("recommendation job failed", e);
+        } finally {
+          busy.set(false);
+        }
+      });
+    }
+  }
+
+  void refreshAll() {
+    long start = System.nanoTime();
+    // 변경 표시는 지우지 않는다. 스냅샷에 없는 사용자(팔로우 관계가 모두 없어진 사용자)는 변경분 계산에서 지워진다.
+    FollowGraphSnapshot snapshot = followGraph.snapshot();
+    int parallelism = pool.getParallelism();
+    int threshold = Math.max(MIN_USERS_PER_TASK, snapshot.userCount() / (parallelism * 8));
+    pool.invoke(new RangeTask(snapshot, 0, snapshot.userCount(), threshold));
+
+    long elapsed = System.nanoTime() - start;
+    fullRefreshTimer.record(elapsed, TimeUnit.NANOSECONDS);
+    log.info("recommendations refreshed: {} users, {} edges, {} ms", snapshot.userCount(),
+        snapshot.edgeCount(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+  }
+
+  void refreshDirty() {
+    List<Long> userIds = new ArrayList<>(dirtyUserIds);
+    dirtyUserIds.removeAll(userIds);
+    for (Long userId : userIds) {
+      List<Candidate> candidates = MutualFollowRanker.rank(userId, followGraph::followees,
+          maxPerUser);
+      transactionTemplate.executeWithoutResult(
+          status -> recommendationJdbcRepository.replace(userId, candidates));
+    }
+    log.debug("recommendations refreshed for {} changed users", userIds.size());
+  }
+
+  private class RangeTask extends RecursiveAction {
+
+    private final FollowGraphSnapshot snapshot;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    RangeTask(FollowGraphSnapshot snapshot, int from, int to, int threshold) {
+      this.snapshot = snapshot;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > threshold) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new RangeTask(snapshot, from, mid, threshold),
+            new RangeTask(snapshot, mid, to, threshold));
+        return;
+      }
+
+      MutualFollowRanker.Scratch scratch = new MutualFollowRanker.Scratch(snapshot.userCount());
+      List<Long> userIds = new ArrayList<>();
+      List<List<Candidate>> results = new ArrayList<>();
+      for (int i = from; i < to; i++) {
+        userIds.add(snapshot.userIdAt(i));
+        // 아무도 팔로우하지 않는 사용자는 추천이 없으므로 이전에 저장된 추천을 지운다.
+        results.add(snapshot.followeeStart(i) == snapshot.followeeEnd(i)
+            ? List.of()
+            : MutualFollowRanker.rank(snapshot, i, maxPerUser, scratch));
+      }
+
+      transactionTemplate.executeWithoutResult(status -> {
+        for (int i = 0; i < userIds.size(); i++) {
+          recommendationJdbcRepository.replace(userIds.get(i), results.get(i));
+        }
+      });
+    }
+  }
+}
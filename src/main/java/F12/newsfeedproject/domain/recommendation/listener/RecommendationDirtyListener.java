@@ -0,0 +1,38 @@
+package F12.newsfeedproject.domain.recommendation.listener;
+
+import F12.newsfeedproject.domain.follow.event.FollowChangedEvent;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.domain.recommendation.job.RecommendationJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class RecommendationDirtyListener {
+
+  private final FollowGraph followGraph;
+  private final RecommendationJob recommendationJob;
+  private final long followerThreshold;
+
+  public RecommendationDirtyListener(FollowGraph followGraph,
+      RecommendationJob recommendationJob,
+      @Value("${feed.hybrid.follower-threshold}") long followerThreshold) {
+    this.followGraph = followGraph;
+    this.recommendationJob = recommendationJob;
+    this.followerThreshold = followerThreshold;
+  }
+
+  // 팔로우한 사람 본인과, 그 사람을 팔로우해서 2촌이 바뀐 사용자들을 다시 계산 대상으로 표시한다.
+  // 팔로워가 많은 사용자의 팔로워들은 전체 계산에 맡긴다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onFollowChanged(FollowChangedEvent event) {
+    recommendationJob.markDirty(event.userId());
+    if (followGraph.followerCount(event.userId()) > followerThreshold) {
+      return;
+    }
+    for (long followerId : followGraph.followers(event.userId())) {
+      recommendationJob.markDirty(followerId);
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package F12.newsfeedproject.domain.recommendation.repository;
+
+import F12.newsfeedproject.domain.recommendation.job.Candidate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FollowRecommendationJdbcRepository {
+
+  private static final String DELETE_SQL = "delete from follow_recommendation where user_id = ?";
+
+  private static final String INSERT_SQL =
+      "insert into follow_recommendation (user_id, candidate_id, mutual_count, ranking) "
+          + "values (?, ?, ?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 사용자의 추천 결과를 통째로 바꾼다. 호출하는 쪽의 트랜잭션 안에서 실행해야 한다.
+  public void replace(long userId, List<Candidate> candidates) {
+    jdbcTemplate.update(DELETE_SQL, userId);
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    int[] ranking = {0};
+    jdbcTemplate.batchUpdate(INSERT_SQL, candidates, candidates.size(), (ps, candidate) -> {
+      ps.setLong(1, userId);
+      ps.setLong(2, candidate.candidateId());
+      ps.setInt(3, candidate.mutualCount());
+      ps.setInt(4, ranking[0]++);
+    });
+  }
+}
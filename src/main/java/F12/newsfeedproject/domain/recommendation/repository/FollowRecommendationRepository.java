@@ -0,0 +1,22 @@
+package F12.newsfeedproject.domain.recommendation.repository;
+
+import F12.newsfeedproject.domain.recommendation.dto.RecommendationView;
+import F12.newsfeedproject.domain.recommendation.entity.FollowRecommendation;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FollowRecommendationRepository extends JpaRepository<FollowRecommendation, Long> {
+
+  // 탈퇴한 사용자는 추천하지 않는다.
+  @Query(
+      "select new F12.newsfeedproject.domain.recommendation.dto.RecommendationView(" +
+          "u.userId, u.userName, u.userImageUrl, u.userIntroduce, r.mutualCount) " +
+          "from FollowRecommendation r join User u on u.userId = r.candidateId " +
+          "where r.userId = :userId and u.deleted = false " +
+          "order by r.ranking"
+  )
+  List<RecommendationView> findViewsByUserId(@Param("userId") Long userId, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package F12.newsfeedproject.domain.recommendation.service;
+
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.domain.recommendation.dto.RecommendationView;
+import F12.newsfeedproject.domain.recommendation.repository.FollowRecommendationRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecommendationService {
+
+  private final FollowRecommendationRepository followRecommendationRepository;
+  private final FollowGraph followGraph;
+
+  // 저장된 추천 중 계산 이후에 팔로우한 사용자는 빼고 limit 개까지 반환한다.
+  public List<RecommendationView> findRecommendations(Long userId, int limit) {
+    return followRecommendationRepository.findViewsByUserId(userId, PageRequest.of(0, limit))
+        .stream()
+        .filter(view -> !followGraph.isFollowing(userId, view.userId()))
+        .toList();
+  }
+}
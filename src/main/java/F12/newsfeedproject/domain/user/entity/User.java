@@ -14,6 +14,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -48,6 +49,20 @@ public class User {
 
   private String refreshToken;
 
+  // 팔로우/언팔로우와 같은 트랜잭션에서 UPDATE 문으로만 갱신하므로 엔티티 변경 감지로는 덮어쓰지 않는다.
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long followerCount;
+
+  @ColumnDefault("0")
+  @Column(nullable = false, updatable = false)
+  private long followingCount;
+
+  // 탈퇴한 계정. PurgeWorker 가 관련 데이터를 모두 지운 뒤 행을 삭제한다.
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted;
+
   public void updateRefreshToken(String refreshToken) {
     this.refreshToken = refreshToken;
   }
@@ -60,4 +75,9 @@ public class User {
   public void logout() {
     refreshToken = null;
   }
+
+  public void delete() {
+    deleted = true;
+    refreshToken = null;
+  }
 }
@@ -0,0 +1,30 @@
+package F12.newsfeedproject.domain.user.migration;
+
+import F12.newsfeedproject.global.migration.SchemaMigration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새로 생긴 follower_count, following_count 를 기존 follow 행 수로 채운다.
+ * 팔로우/언팔로우와 탈퇴 처리는 증감만 반영하므로, 채우지 않으면 기존 사용자의 수가 0 에서 시작해 음수가 될 수 있다.
+ * follow 의 중복 행을 지운 뒤에 실행되도록 이름 순서를 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserFollowCountMigration implements SchemaMigration {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public String name() {
+    return "003-user-follow-counts";
+  }
+
+  @Override
+  public void migrate() {
+    jdbcTemplate.update("update users u set "
+        + "following_count = (select count(*) from follow f where f.following_id = u.user_id), "
+        + "follower_count = (select count(*) from follow f where f.follower_id = u.user_id)");
+  }
+}
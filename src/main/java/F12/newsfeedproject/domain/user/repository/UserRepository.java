@@ -3,10 +3,21 @@ package F12.newsfeedproject.domain.user.repository;
 import F12.newsfeedproject.domain.user.entity.User;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
   Optional<User> findByUserName(String userName);
 
   Optional<User> findByUserEmail(String userEmail);
+
+  @Modifying
+  @Query("update User u set u.followerCount = u.followerCount + :delta where u.userId = :userId")
+  int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+  @Modifying
+  @Query("update User u set u.followingCount = u.followingCount + :delta where u.userId = :userId")
+  int addFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
 }
@@ -3,6 +3,8 @@ package F12.newsfeedproject.domain.user.service;
 import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.domain.user.repository.UserRepository;
 import F12.newsfeedproject.global.exception.user.UserNotFoundException;
+import F12.newsfeedproject.global.security.DeletedUserRegistry;
+import F12.newsfeedproject.global.security.UserPrincipalCache;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
   private final UserRepository userRepository;
+  private final UserPrincipalCache userPrincipalCache;
+  private final DeletedUserRegistry deletedUserRegistry;
 
   public User saveUser(User user) {
     return userRepository.save(user);
@@ -30,19 +34,51 @@ public class UserService {
     return userRepository.findById(userId);
   }
 
+  // 연관관계 설정에만 쓰이는 프록시. 실제 조회는 필드에 접근할 때 일어난다.
+  public User getReferenceById(Long userId) {
+    return userRepository.getReferenceById(userId);
+  }
+
+  /**
+   * 팔로우 수를 갱신한다. userId 가 targetId 를 팔로우하면 delta 는 1, 취소하면 -1 이다.
+   * 두 사용자가 서로를 동시에 팔로우해도 교착 상태가 생기지 않도록 항상 ID 순서로 갱신한다.
+   */
+  @Transactional
+  public void addFollowCounts(Long userId, Long targetId, long delta) {
+    if (userId < targetId) {
+      userRepository.addFollowingCount(userId, delta);
+      userRepository.addFollowerCount(targetId, delta);
+    } else {
+      userRepository.addFollowerCount(targetId, delta);
+      userRepository.addFollowingCount(userId, delta);
+    }
+  }
+
   @Transactional
   public void updateRefreshToken(String refreshToken, Long userId) {
     User findUser = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
     findUser.updateRefreshToken(refreshToken);
+    userPrincipalCache.evict(findUser.getUserName());
   }
 
   public void updateUser(User findUser, User modifyUser) {
     findUser.updateUser(modifyUser);
+    userPrincipalCache.evict(findUser.getUserName());
+  }
+
+  // 탈퇴 처리. 로그인과 토큰 재발급을 막고, 관련 데이터는 삭제 작업으로 나중에 지운다.
+  @Transactional
+  public void deleteUser(Long userId) {
+    User findUser = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
+    findUser.delete();
+    userPrincipalCache.evict(findUser.getUserName());
+    deletedUserRegistry.markDeleted(userId);
   }
 
   @Transactional
   public void logoutUser(Long userId) {
     User findUser = userRepository.findById(userId).orElseThrow(UserNotFoundException::new);
     findUser.logout();
+    userPrincipalCache.evict(findUser.getUserName());
   }
 }
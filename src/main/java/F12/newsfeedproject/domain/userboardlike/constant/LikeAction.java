@@ -0,0 +1,6 @@
+package F12.newsfeedproject.domain.userboardlike.constant;
+
+public enum LikeAction {
+  LIKE, // 좋아요
+  UNLIKE // 좋아요 취소
+}
@@ -0,0 +1,28 @@
+package F12.newsfeedproject.domain.userboardlike.migration;
+
+import F12.newsfeedproject.global.migration.SchemaMigration;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_board_like_id 를 auto_increment 로 바꾼다.
+ * 좋아요는 ID 를 넣지 않는 네이티브 INSERT IGNORE 로 저장하므로, 바꾸지 않으면 ID 0 인 행이 한 번 들어간 뒤
+ * 이후의 좋아요가 모두 중복 키로 무시된다. (user_id, board_id) 유니크 키는 004-board-like-count 에서 추가한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBoardLikeIdentityMigration implements SchemaMigration {
+
+  private final SchemaMigrationSupport support;
+
+  @Override
+  public String name() {
+    return "005-user-board-like-identity";
+  }
+
+  @Override
+  public void migrate() {
+    support.ensureAutoIncrement("user_board_like", "user_board_like_id");
+  }
+}
@@ -0,0 +1,15 @@
+package F12.newsfeedproject.domain.userboardlike.pipeline;
+
+import F12.newsfeedproject.domain.userboardlike.constant.LikeAction;
+
+public record LikeEvent(Long userId, Long boardId, LikeAction action) {
+
+  // 같은 (사용자, 게시글) 에 대한 이벤트인지 구분하는 키
+  public LikeKey key() {
+    return new LikeKey(userId, boardId);
+  }
+
+  public record LikeKey(Long userId, Long boardId) {
+
+  }
+}
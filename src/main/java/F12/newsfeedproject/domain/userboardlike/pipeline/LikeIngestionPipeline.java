@@ -0,0 +1,267 @@
+package F12.newsfeedproject.domain.userboardlike.pipeline;
+
+import F12.newsfeedproject.domain.board.service.BoardLikeCounter;
+import F12.newsfeedproject.domain.userboardlike.constant.LikeAction;
+import F12.newsfeedproject.domain.userboardlike.pipeline.LikeEvent.LikeKey;
+import F12.newsfeedproject.domain.userboardlike.repository.UserBoardLikeJdbcRepository;
+import F12.newsfeedproject.domain.userboardlike.service.LikedBoardIndex;
+import F12.newsfeedproject.global.exception.like.LikeRequestBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요/취소 요청을 큐에 모았다가 배치로 저장하는 파이프라인.
+ * <p>
+ * 같은 (사용자, 게시글) 의 이벤트는 항상 같은 writer 큐로 보내 순서를 지키고, 한 번의 배치 안에서는 마지막 이벤트만 남긴다.
+ * 좋아요와 취소는 모두 멱등이므로 좋아요 → 취소 쌍은 취소 하나로 줄어들고, 원래 좋아요가 없었다면 아무것도 바뀌지 않는다.
+ * 큐가 가득 차면 offer 가 false 를 반환하고 호출한 쪽에서 바로 저장한다.
+ * 단, 같은 키의 이벤트가 아직 저장되지 않았으면 순서가 뒤바뀌지 않도록 바로 저장하지 않고 다시 시도하게 한다.
+ */
+@Slf4j
+@Component
+public class LikeIngestionPipeline {
+
+  private final UserBoardLikeJdbcRepository userBoardLikeJdbcRepository;
+  private final BoardLikeCounter boardLikeCounter;
+  private final LikedBoardIndex likedBoardIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int batchSize;
+  private final long windowMs;
+
+  private final List<BlockingQueue<LikeEvent>> queues = new ArrayList<>();
+  // 키별로 아직 저장되지 않은 이벤트 수
+  private final Map<LikeKey, Integer> pending = new ConcurrentHashMap<>();
+  private final ExecutorService writers;
+  private volatile boolean running;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer flushTimer;
+  private final Counter rejectedCounter;
+
+  public LikeIngestionPipeline(UserBoardLikeJdbcRepository userBoardLikeJdbcRepository,
+      BoardLikeCounter boardLikeCounter,
+      LikedBoardIndex likedBoardIndex,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${like.pipeline.enabled}") boolean enabled,
+      @Value("${like.pipeline.writers}") int writerCount,
+      @Value("${like.pipeline.queue-capacity}") int queueCapacity,
+      @Value("${like.pipeline.batch-size}") int batchSize,
+      @Value("${like.pipeline.window-ms}") long windowMs) {
+    this.userBoardLikeJdbcRepository = userBoardLikeJdbcRepository;
+    this.boardLikeCounter = boardLikeCounter;
+    this.likedBoardIndex = likedBoardIndex;
+    this.transactionTemplate = transactionTemplate;
+    this.enabled = enabled;
+    this.batchSize = batchSize;
+    this.windowMs = windowMs;
+
+    this.batchSizeSummary = DistributionSummary.builder("like.pipeline.batch.size")
+        .description("배치 한 번에 저장된 이벤트 수 (병합 후)")
+        .register(meterRegistry);
+    this.flushTimer = Timer.builder("like.pipeline.flush.latency")
+        .description("배치 저장에 걸린 시간")
+        .register(meterRegistry);
+    this.rejectedCounter = Counter.builder("like.pipeline.rejected")
+        .description("큐가 가득 차서 받지 못한 이벤트 수")
+        .register(meterRegistry);
+    Gauge.builder("like.pipeline.queue.depth", queues,
+            qs -> qs.stream().mapToInt(BlockingQueue::size).sum())
+        .description("저장을 기다리는 이벤트 수")
+        .register(meterRegistry);
+
+    if (!enabled) {
+      this.writers = null;
+      return;
+    }
+
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.writers = Executors.newFixedThreadPool(writerCount, runnable -> {
+      Thread thread = new Thread(runnable, "like-writer-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.running = true;
+    for (int i = 0; i < writerCount; i++) {
+      BlockingQueue<LikeEvent> queue = new ArrayBlockingQueue<>(
+          Math.max(1, queueCapacity / writerCount));
+      queues.add(queue);
+      writers.execute(() -> runWriter(queue));
+    }
+  }
+
+  /**
+   * 이벤트를 큐에 넣는다. 파이프라인이 꺼져 있거나 큐가 가득 차면 false 를 반환하고, 호출한 쪽에서 바로 저장한다.
+   * 같은 키의 이벤트가 아직 저장되지 않았다면 바로 저장한 결과가 나중에 덮어써지므로,
+   * false 대신 LikeRequestBusyException 을 던져 다시 시도하게 한다.
+   */
+  public boolean offer(LikeEvent event) {
+    if (!enabled) {
+      return false;
+    }
+    if (!running) {
+      rejectIfPending(event.key());
+      return false;
+    }
+
+    BlockingQueue<LikeEvent> queue = queues.get(Math.floorMod(event.key().hashCode(), queues.size()));
+    boolean queuedBefore = pending.merge(event.key(), 1, Integer::sum) > 1;
+    if (queue.offer(event)) {
+      return true;
+    }
+    release(event.key());
+    rejectedCounter.increment();
+    if (queuedBefore) {
+      throw new LikeRequestBusyException();
+    }
+    return false;
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    if (writers == null) {
+      return;
+    }
+    running = false;
+    writers.shutdown();
+    if (!writers.awaitTermination(10, TimeUnit.SECONDS)) {
+      log.warn("like writers did not finish in time");
+    }
+  }
+
+  private void runWriter(BlockingQueue<LikeEvent> queue) {
+    List<LikeEvent> batch = new ArrayList<>(batchSize);
+    while (running || !queue.isEmpty()) {
+      try {
+        collect(queue, batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      }
+
+      if (!batch.isEmpty()) {
+        write(coalesce(batch));
+        batch.forEach(event -> release(event.key()));
+        batch.clear();
+      }
+    }
+  }
+
+  // 첫 이벤트가 들어온 뒤 windowMs 동안, 또는 batchSize 개가 찰 때까지 모은다.
+  private void collect(BlockingQueue<LikeEvent> queue, List<LikeEvent> batch)
+      throws InterruptedException {
+    LikeEvent first = queue.poll(windowMs, TimeUnit.MILLISECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+    while (batch.size() < batchSize) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        break;
+      }
+      LikeEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        break;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void write(Collection<LikeEvent> events) {
+    List<LikeKey> likes = new ArrayList<>();
+    List<LikeKey> unlikes = new ArrayList<>();
+    for (LikeEvent event : events) {
+      (event.action() == LikeAction.LIKE ? likes : unlikes).add(event.key());
+    }
+
+    batchSizeSummary.record(events.size());
+    flushTimer.record(() -> {
+      try {
+        transactionTemplate.executeWithoutResult(status -> {
+          applyCounts(likes, userBoardLikeJdbcRepository.insertIgnoreAll(likes), 1);
+          applyCounts(unlikes, userBoardLikeJdbcRepository.deleteAll(unlikes), -1);
+        });
+      } catch (RuntimeException e) {
+        // 게시글이 삭제된 경우 등 한 건의 실패로 배치 전체가 롤백되면 한 건씩 다시 저장한다.
+        log.warn("like batch failed, retrying {} events one by one", events.size(), e);
+        events.forEach(this::writeOne);
+      }
+    });
+  }
+
+  private void writeOne(LikeEvent event) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        List<LikeKey> keys = List.of(event.key());
+        if (event.action() == LikeAction.LIKE) {
+          applyCounts(keys, userBoardLikeJdbcRepository.insertIgnoreAll(keys), 1);
+        } else {
+          applyCounts(keys, userBoardLikeJdbcRepository.deleteAll(keys), -1);
+        }
+      });
+    } catch (RuntimeException e) {
+      log.warn("like event dropped: {}", event, e);
+    }
+  }
+
+  // 실제로 행이 바뀐 경우에만 좋아요 수와 좋아요 인덱스에 반영한다. (커밋 후 반영)
+  private void applyCounts(List<LikeKey> keys, int[] updateCounts, int delta) {
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] > 0) {
+        LikeKey key = keys.get(i);
+        if (delta > 0) {
+          boardLikeCounter.increment(key.boardId());
+          likedBoardIndex.onLiked(key.userId(), key.boardId());
+        } else {
+          boardLikeCounter.decrement(key.boardId());
+          likedBoardIndex.onUnliked(key.userId(), key.boardId());
+        }
+      }
+    }
+  }
+
+  private void rejectIfPending(LikeKey key) {
+    if (pending.containsKey(key)) {
+      rejectedCounter.increment();
+      throw new LikeRequestBusyException();
+    }
+  }
+
+  private void release(LikeKey key) {
+    pending.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+  }
+
+  // 같은 (사용자, 게시글) 에 대해서는 마지막 이벤트만 남긴다.
+  static Collection<LikeEvent> coalesce(List<LikeEvent> events) {
+    Map<LikeKey, LikeEvent> latest = new LinkedHashMap<>();
+    for (LikeEvent event : events) {
+      latest.remove(event.key());
+      latest.put(event.key(), event);
+    }
+    return latest.values();
+  }
+}
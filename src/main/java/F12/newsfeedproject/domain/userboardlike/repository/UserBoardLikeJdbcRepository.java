@@ -0,0 +1,43 @@
+package F12.newsfeedproject.domain.userboardlike.repository;
+
+import F12.newsfeedproject.domain.userboardlike.pipeline.LikeEvent.LikeKey;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요를 JDBC 배치로 저장한다. 각 결과는 행마다 실제로 변경된 행 수이다.
+ * (MySQL 의 rewriteBatchedStatements 를 켜면 행별 결과를 알 수 없으므로 켜지 않는다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBoardLikeJdbcRepository {
+
+  private static final String INSERT_IGNORE_SQL =
+      "insert ignore into user_board_like (user_id, board_id) "
+          + "select ?, b.board_id from board b where b.board_id = ? and b.deleted = false";
+
+  private static final String DELETE_SQL =
+      "delete from user_board_like where user_id = ? and board_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public int[] insertIgnoreAll(List<LikeKey> keys) {
+    return batchUpdate(INSERT_IGNORE_SQL, keys);
+  }
+
+  public int[] deleteAll(List<LikeKey> keys) {
+    return batchUpdate(DELETE_SQL, keys);
+  }
+
+  private int[] batchUpdate(String sql, List<LikeKey> keys) {
+    if (keys.isEmpty()) {
+      return new int[0];
+    }
+    return jdbcTemplate.batchUpdate(sql, keys, keys.size(), (ps, key) -> {
+      ps.setLong(1, key.userId());
+      ps.setLong(2, key.boardId());
+    })[0];
+  }
+}
@@ -1,15 +1,32 @@
 package F12.newsfeedproject.domain.userboardlike.repository;
 
-import F12.newsfeedproject.domain.board.entity.Board;
-import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.domain.userboardlike.entity.UserBoardLike;
-import java.util.Optional;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserBoardLikeRepository extends JpaRepository<UserBoardLike, Long> {
 
-  Optional<UserBoardLike> findByUserAndBoard(User user, Board board);
+  @Query("select ubl.board.boardId from UserBoardLike ubl where ubl.user.userId = :userId")
+  List<Long> findBoardIdsByUserId(@Param("userId") Long userId);
 
-  void deleteByUserAndBoard(User user, Board board);
+  // (user_id, board_id) 유니크 제약으로 이미 있는 좋아요는 무시된다. 추가된 행 수를 반환한다.
+  // 숨김 처리된 게시글에는 추가하지 않는다. 외래 키는 숨김 처리된 행으로도 만족되므로 직접 거른다.
+  @Modifying
+  @Query(
+      value = "insert ignore into user_board_like (user_id, board_id) "
+          + "select :userId, b.board_id from board b where b.board_id = :boardId and b.deleted = false",
+      nativeQuery = true
+  )
+  int insertIgnore(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
+  @Modifying
+  @Query(
+      "delete from UserBoardLike ubl " +
+          "where ubl.user.userId = :userId and ubl.board.boardId = :boardId"
+  )
+  int deleteByUserIdAndBoardId(@Param("userId") Long userId, @Param("boardId") Long boardId);
 
 }
@@ -0,0 +1,104 @@
+package F12.newsfeedproject.domain.userboardlike.service;
+
+import F12.newsfeedproject.domain.userboardlike.repository.UserBoardLikeRepository;
+import F12.newsfeedproject.global.util.SortedLongSet;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별로 좋아요한 게시글 ID 집합을 메모리에 유지해서 "이 게시글들 중 내가 좋아요한 것" 을 한 번에 알려준다.
+ * 집합은 처음 조회될 때 DB 에서 적재되고, 이후에는 좋아요 저장 경로에서 커밋 후에 갱신된다.
+ * 전체 크기는 보관 중인 게시글 ID 수(maximum-weight) 로 제한한다.
+ */
+@Component
+public class LikedBoardIndex {
+
+  private final UserBoardLikeRepository userBoardLikeRepository;
+
+  private final Cache<Long, SortedLongSet> likedBoardIds;
+
+  public LikedBoardIndex(UserBoardLikeRepository userBoardLikeRepository,
+      MeterRegistry meterRegistry,
+      @Value("${like.index.maximum-weight}") long maximumWeight,
+      @Value("${like.index.expire-after-write-ms}") long expireAfterWriteMs) {
+    this.userBoardLikeRepository = userBoardLikeRepository;
+    this.likedBoardIds = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((Long userId, SortedLongSet boardIds) -> boardIds.size() + 1)
+        .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, likedBoardIds, "like.index");
+  }
+
+  // boardIds 중 userId 가 좋아요한 게시글 ID 들
+  public Set<Long> findLikedBoardIds(Long userId, Collection<Long> boardIds) {
+    if (boardIds.isEmpty()) {
+      return Set.of();
+    }
+
+    SortedLongSet liked = likedBoardIds.get(userId, this::load);
+    Set<Long> result = new HashSet<>();
+    synchronized (liked) {
+      for (Long boardId : boardIds) {
+        if (liked.contains(boardId)) {
+          result.add(boardId);
+        }
+      }
+    }
+    return result;
+  }
+
+  public void onLiked(Long userId, Long boardId) {
+    afterCommit(() -> update(userId, boardId, true));
+  }
+
+  public void onUnliked(Long userId, Long boardId) {
+    afterCommit(() -> update(userId, boardId, false));
+  }
+
+  private SortedLongSet load(Long userId) {
+    List<Long> boardIds = userBoardLikeRepository.findBoardIdsByUserId(userId);
+    return SortedLongSet.of(boardIds.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  // 이미 적재된 사용자만 갱신한다. 적재 중이라면 적재가 끝날 때까지 기다렸다가 반영된다.
+  private void update(Long userId, Long boardId, boolean liked) {
+    likedBoardIds.asMap().computeIfPresent(userId, (key, boardIds) -> {
+      synchronized (boardIds) {
+        if (liked) {
+          boardIds.add(boardId);
+        } else {
+          boardIds.remove(boardId);
+        }
+      }
+      return boardIds;
+    });
+  }
+
+  private void afterCommit(Runnable runnable) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      runnable.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        runnable.run();
+      }
+    });
+  }
+}
@@ -1,11 +1,7 @@
 package F12.newsfeedproject.domain.userboardlike.service;
 
-import F12.newsfeedproject.domain.board.entity.Board;
-import F12.newsfeedproject.domain.user.entity.User;
-import F12.newsfeedproject.domain.userboardlike.entity.UserBoardLike;
 import F12.newsfeedproject.domain.userboardlike.repository.UserBoardLikeRepository;
 import jakarta.transaction.Transactional;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,17 +11,15 @@ public class UserBoardLikeService {
 
   private final UserBoardLikeRepository userBoardLikeRepository;
 
+  // 좋아요가 새로 추가되었으면 true
   @Transactional
-  public void saveUserBoardLike(UserBoardLike userBoardLike) {
-    userBoardLikeRepository.save(userBoardLike);
+  public boolean likeBoard(Long userId, Long boardId) {
+    return userBoardLikeRepository.insertIgnore(userId, boardId) > 0;
   }
 
+  // 좋아요가 실제로 취소되었으면 true
   @Transactional
-  public void deleteById(Long id) {
-    userBoardLikeRepository.deleteById(id);
-  }
-
-  public Optional<UserBoardLike> findByUserAndBoard(User user, Board board) {
-    return userBoardLikeRepository.findByUserAndBoard(user, board);
+  public boolean unlikeBoard(Long userId, Long boardId) {
+    return userBoardLikeRepository.deleteByUserIdAndBoardId(userId, boardId) > 0;
   }
 }
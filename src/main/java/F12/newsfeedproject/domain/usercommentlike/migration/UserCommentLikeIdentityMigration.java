@@ -0,0 +1,34 @@
+package F12.newsfeedproject.domain.usercommentlike.migration;
+
+import F12.newsfeedproject.global.migration.SchemaMigration;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_comment_like_id 를 auto_increment 로 바꾸고 (user_id, comment_id) 유니크 키를 추가한 뒤,
+ * 새로 생긴 comment.like_count 를 기존 좋아요 행 수로 채운다.
+ * CommentLikeCounter 는 증감만 반영하므로 채우지 않으면 기존 댓글의 좋아요 수가 0 에서 시작한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCommentLikeIdentityMigration implements SchemaMigration {
+
+    private final SchemaMigrationSupport support;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "002-user-comment-like-identity";
+    }
+
+    @Override
+    public void migrate() {
+        support.ensureUniqueKey("user_comment_like", "user_comment_like_id",
+                "uk_user_comment_like_user_comment", "user_id", "comment_id");
+        support.ensureAutoIncrement("user_comment_like", "user_comment_like_id");
+        jdbcTemplate.update("update comment c set like_count = "
+                + "(select count(*) from user_comment_like l where l.comment_id = c.comment_id)");
+    }
+}
@@ -2,6 +2,31 @@ package F12.newsfeedproject.domain.usercommentlike.repository;
 
 import F12.newsfeedproject.domain.usercommentlike.entity.UserCommentLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserCommentLikeRepository extends JpaRepository<UserCommentLike, Long> {
+
+  // (user_id, comment_id) 유니크 제약으로 이미 있는 좋아요는 무시된다. 추가된 행 수를 반환한다.
+  // 숨김 처리된 게시글의 댓글에는 추가하지 않는다.
+  @Modifying
+  @Query(
+      value = "insert ignore into user_comment_like (user_id, comment_id) "
+          + "select :userId, c.comment_id from comment c join board b on b.board_id = c.board_id "
+          + "where c.comment_id = :commentId and b.deleted = false",
+      nativeQuery = true
+  )
+  int insertIgnore(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+  @Modifying
+  @Query(
+      "delete from UserCommentLike ucl " +
+          "where ucl.user.userId = :userId and ucl.comment.commentId = :commentId"
+  )
+  int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+  @Modifying
+  @Query("delete from UserCommentLike ucl where ucl.comment.commentId = :commentId")
+  int deleteAllByCommentId(@Param("commentId") Long commentId);
 }
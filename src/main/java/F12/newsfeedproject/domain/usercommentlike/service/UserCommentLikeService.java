@@ -2,6 +2,7 @@ package F12.newsfeedproject.domain.usercommentlike.service;
 
 import F12.newsfeedproject.domain.usercommentlike.entity.UserCommentLike;
 import F12.newsfeedproject.domain.usercommentlike.repository.UserCommentLikeRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,4 +19,22 @@ public class UserCommentLikeService {
     public UserCommentLike findByUserCommentLikeId(Long userCommentLikeId) {
         return userCommentLikeRepository.findById(userCommentLikeId).orElseThrow(IllegalArgumentException::new);
     }
+
+    // 댓글을 지우기 전에 댓글에 달린 좋아요를 한 번에 지운다.
+    @Transactional
+    public void deleteAllByCommentId(Long commentId) {
+        userCommentLikeRepository.deleteAllByCommentId(commentId);
+    }
+
+    // 좋아요가 새로 추가되었으면 true
+    @Transactional
+    public boolean likeComment(Long userId, Long commentId) {
+        return userCommentLikeRepository.insertIgnore(userId, commentId) > 0;
+    }
+
+    // 좋아요가 실제로 취소되었으면 true
+    @Transactional
+    public boolean unlikeComment(Long userId, Long commentId) {
+        return userCommentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) > 0;
+    }
 }
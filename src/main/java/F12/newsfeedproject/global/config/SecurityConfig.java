@@ -5,6 +5,7 @@ import F12.newsfeedproject.global.jwt.ExceptionHandlerFilter;
 import F12.newsfeedproject.global.jwt.JwtAuthenticationFilter;
 import F12.newsfeedproject.global.jwt.JwtAuthorizationFilter;
 import F12.newsfeedproject.global.jwt.JwtManager;
+import F12.newsfeedproject.global.security.DeletedUserRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,6 +30,8 @@ public class SecurityConfig {
 
   private final UserDetailsService userDetailsService;
 
+  private final DeletedUserRegistry deletedUserRegistry;
+
   private final UserService userService;
 
   private final AuthenticationConfiguration authenticationConfiguration;
@@ -59,7 +62,7 @@ public class SecurityConfig {
 
   @Bean
   public JwtAuthorizationFilter jwtAuthorizationFilter() {
-    return new JwtAuthorizationFilter(jwtManager, userDetailsService);
+    return new JwtAuthorizationFilter(jwtManager, userDetailsService, deletedUserRegistry);
   }
 
   @Bean
@@ -0,0 +1,76 @@
+package F12.newsfeedproject.global.counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 테이블의 카운트 컬럼에 대한 증감을 메모리 버퍼에 모았다가 배치 UPDATE 로 한 번에 반영한다.
+ * 증감은 요청 트랜잭션이 커밋된 뒤에만 버퍼에 들어가고, 반영은 한 트랜잭션으로 실행되어
+ * 중간에 실패하면 전부 롤백한 뒤 버퍼로 되돌려 놓는다.
+ */
+@Slf4j
+public class BufferedCountUpdater {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final String table;
+  private final String updateSql;
+
+  private final StripedCounterBuffer buffer = new StripedCounterBuffer();
+
+  public BufferedCountUpdater(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+      String table, String idColumn, String countColumn) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = transactionTemplate;
+    this.table = table;
+    this.updateSql = "update " + table + " set " + countColumn + " = " + countColumn + " + ? "
+        + "where " + idColumn + " = ?";
+  }
+
+  // 트랜잭션이 롤백되면 카운터에도 반영하지 않는다.
+  public void addAfterCommit(Long id, long delta) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      buffer.add(id, delta);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        buffer.add(id, delta);
+      }
+    });
+  }
+
+  // 반영한 ID 들을 반환한다. 반영하지 못했으면 빈 집합을 반환한다.
+  public Set<Long> flush() {
+    Map<Long, Long> deltas = buffer.drain();
+    if (deltas.isEmpty()) {
+      return Set.of();
+    }
+
+    // 여러 인스턴스가 동시에 반영할 때 교착 상태가 생기지 않도록 항상 ID 순서로 갱신한다.
+    List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+    deltas.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(entry -> batchArgs.add(new Object[]{entry.getValue(), entry.getKey()}));
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> jdbcTemplate.batchUpdate(updateSql, batchArgs));
+      log.debug("{} counts flushed: {}", table, deltas.size());
+      return deltas.keySet();
+    } catch (RuntimeException e) {
+      buffer.restore(deltas);
+      log.warn("failed to flush {} counts, {} rows will be retried", table, deltas.size(), e);
+      return Set.of();
+    }
+  }
+}
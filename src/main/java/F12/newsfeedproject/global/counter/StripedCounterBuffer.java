@@ -0,0 +1,66 @@
+package F12.newsfeedproject.global.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ID 별 증감량을 메모리에 모아 두는 버퍼.
+ * 같은 ID 에 대한 동시 증감은 LongAdder 의 셀로 나뉘어 처리되므로 한 곳에 경합이 몰리지 않는다.
+ * 모인 증감량은 drain 으로 꺼내어 한 번에 반영한다.
+ */
+public class StripedCounterBuffer {
+
+  private final ConcurrentMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+  public void add(long id, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    LongAdder adder = counters.computeIfAbsent(id, key -> new LongAdder());
+    adder.add(delta);
+    if (counters.get(id) != adder) {
+      // 더하는 사이에 drain 이 빈 항목으로 보고 제거했다. 제거된 adder 에 남은 값을 회수해 새 adder 에 다시 더한다.
+      // drain 과 회수 모두 셀 단위 getAndSet 으로 꺼내므로 같은 값이 두 번 반영되지 않는다.
+      add(id, adder.sumThenReset());
+    }
+  }
+
+  public long get(long id) {
+    LongAdder adder = counters.get(id);
+    return adder == null ? 0 : adder.sum();
+  }
+
+  /**
+   * 지금까지 모인 증감량을 꺼내고 0 으로 되돌린다. 증감량이 0 인 항목은 버퍼에서 제거한다.
+   * 제거한 뒤에 그 adder 에 더해진 값은 add 가 회수하므로 유실되지 않는다.
+   */
+  public Map<Long, Long> drain() {
+    Map<Long, Long> deltas = new HashMap<>();
+    for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+      Long id = entry.getKey();
+      LongAdder adder = entry.getValue();
+
+      long delta = adder.sumThenReset();
+      if (delta == 0 && counters.remove(id, adder)) {
+        // 제거 직전에 더해진 값은 다음 drain 에서 반영되도록 되돌려 놓는다.
+        delta = adder.sumThenReset();
+      }
+      if (delta != 0) {
+        deltas.put(id, delta);
+      }
+    }
+    return deltas;
+  }
+
+  // 반영에 실패한 증감량을 다시 버퍼에 넣는다.
+  public void restore(Map<Long, Long> deltas) {
+    deltas.forEach(this::add);
+  }
+
+  public int size() {
+    return counters.size();
+  }
+}
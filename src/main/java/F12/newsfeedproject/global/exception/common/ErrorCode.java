@@ -25,6 +25,7 @@ public enum ErrorCode {
   // 팔로우
   NOT_FOUND_FOLLOW_EXCEPTION(401, "팔로우 내역을 찾을 수 없습니다."),
   DUPLICATED_FOLLOW_EXCEPTION(401, "팔로우 내역이 이미 존재합니다."),
+  TOO_MANY_RELATIONSHIP_TARGETS_EXCEPTION(400, "한 번에 조회할 수 있는 사용자 수를 넘었습니다."),
 
   // Comment
   REJECTED_EXCUTION_EXCEPTION(401,"작성자만 수정할 수 있습니다."),
@@ -33,9 +34,13 @@ public enum ErrorCode {
   // 좋아요
   NOT_FOUND_LIKE_EXCEPTION(401, "좋아요 내역을 찾을 수 없습니다."),
   DUPLICATED_LIKE_EXCEPTION(401, "좋아요 내역이 이미 존재합니다."),
+  LIKE_REQUEST_BUSY_EXCEPTION(503, "같은 게시글에 대한 좋아요 요청이 처리 중입니다. 잠시 후 다시 시도해 주세요."),
   
   // 게시글
-  BOARD_NOT_FOUND_EXCEPTION(401, "게시글을 찾을 수 없습니다.");
+  BOARD_NOT_FOUND_EXCEPTION(401, "게시글을 찾을 수 없습니다."),
+
+  // 페이지네이션
+  INVALID_CURSOR_EXCEPTION(400, "잘못된 커서입니다.");
   private final int status;
 
   private final String message;
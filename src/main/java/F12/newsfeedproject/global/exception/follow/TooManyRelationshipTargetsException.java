@@ -0,0 +1,10 @@
+package F12.newsfeedproject.global.exception.follow;
+
+import F12.newsfeedproject.global.exception.common.BusinessException;
+import F12.newsfeedproject.global.exception.common.ErrorCode;
+
+public class TooManyRelationshipTargetsException extends BusinessException {
+    public TooManyRelationshipTargetsException() {
+        super(ErrorCode.TOO_MANY_RELATIONSHIP_TARGETS_EXCEPTION);
+    }
+}
@@ -0,0 +1,10 @@
+package F12.newsfeedproject.global.exception.like;
+
+import F12.newsfeedproject.global.exception.common.BusinessException;
+import F12.newsfeedproject.global.exception.common.ErrorCode;
+
+public class LikeRequestBusyException extends BusinessException {
+    public LikeRequestBusyException() {
+        super(ErrorCode.LIKE_REQUEST_BUSY_EXCEPTION);
+    }
+}
@@ -0,0 +1,11 @@
+package F12.newsfeedproject.global.exception.paging;
+
+import F12.newsfeedproject.global.exception.common.BusinessException;
+import F12.newsfeedproject.global.exception.common.ErrorCode;
+
+public class InvalidCursorException extends BusinessException {
+
+  public InvalidCursorException(Throwable cause) {
+    super(ErrorCode.INVALID_CURSOR_EXCEPTION, cause);
+  }
+}
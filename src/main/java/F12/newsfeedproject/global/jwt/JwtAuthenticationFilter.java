@@ -68,7 +68,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
     Long userId = loginUser.getUserId();
     String userName = loginUser.getUserName();
 
-    String accessToken = jwtManager.createAccessToken(userName);
+    String accessToken = jwtManager.createAccessToken(userId, userName, loginUser.getUserRole());
     String refreshToken = jwtManager.createRefreshToken(userName);
 
     saveRefreshToken(refreshToken, userId);
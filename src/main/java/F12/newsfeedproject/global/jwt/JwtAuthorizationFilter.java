@@ -2,6 +2,8 @@ package F12.newsfeedproject.global.jwt;
 
 import F12.newsfeedproject.global.exception.jwt.FailedAuthenticationException;
 import F12.newsfeedproject.global.exception.jwt.NoJwtException;
+import F12.newsfeedproject.global.security.DeletedUserRegistry;
+import F12.newsfeedproject.global.security.UserDetailsImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +28,7 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
   private final JwtManager jwtManager;
   private final UserDetailsService userDetailsService;
+  private final DeletedUserRegistry deletedUserRegistry;
 
   @Override
   protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res,
@@ -38,12 +41,10 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     }
 
     if (jwt != null) {
-      jwtManager.validateToken(jwt);
-
-      String memberName = jwtManager.getUserNameFromToken(jwt);
+      VerifiedToken verifiedToken = jwtManager.verify(jwt);
 
       try {
-        setAuthentication(memberName);
+        setAuthentication(verifiedToken);
       } catch (UsernameNotFoundException e) {
         throw new FailedAuthenticationException(e);
       }
@@ -52,18 +53,26 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
     filterChain.doFilter(req, res);
   }
 
-  public void setAuthentication(String username) {
+  public void setAuthentication(VerifiedToken verifiedToken) {
 
     SecurityContext context = SecurityContextHolder.createEmptyContext();
-    Authentication authentication = createAuthentication(username);
+    Authentication authentication = createAuthentication(verifiedToken);
     context.setAuthentication(authentication);
 
     SecurityContextHolder.setContext(context);
   }
 
-  private Authentication createAuthentication(String username) {
+  // 사용자 정보가 담긴 토큰이면 DB 를 조회하지 않고 클레임으로 principal 을 만든다. 탈퇴한 사용자의 토큰은 거부한다.
+  private Authentication createAuthentication(VerifiedToken verifiedToken) {
+
+    if (verifiedToken.isSelfContained() && deletedUserRegistry.isDeleted(verifiedToken.userId())) {
+      throw new FailedAuthenticationException();
+    }
 
-    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    UserDetails userDetails = verifiedToken.isSelfContained()
+        ? new UserDetailsImpl(verifiedToken.userId(), verifiedToken.subject(),
+        verifiedToken.userRole())
+        : userDetailsService.loadUserByUsername(verifiedToken.subject());
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
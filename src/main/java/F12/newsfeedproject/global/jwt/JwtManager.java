@@ -1,17 +1,29 @@
 package F12.newsfeedproject.global.jwt;
 
+import F12.newsfeedproject.domain.user.constant.UserRole;
 import F12.newsfeedproject.global.exception.jwt.ExpiredJwtTokenException;
 import F12.newsfeedproject.global.exception.jwt.InvalidJwtSignatureException;
 import F12.newsfeedproject.global.exception.jwt.InvalidJwtTokenException;
 import F12.newsfeedproject.global.exception.jwt.UnsupportedJwtTokenException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,21 +33,36 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class JwtManager {
 
+  private static final String USER_ID_CLAIM = "uid";
+  private static final String USER_ROLE_CLAIM = "role";
+
   private final long accessTime;
   private final long refreshTime;
   private final Key key;
   private final String issuer;
+  private final boolean selfContained;
+  private final JwtParser jwtParser;
+  // 이미 검증한 토큰 (키: 토큰의 SHA-256 해시). 토큰이 만료되는 시각에 함께 만료된다.
+  private final Cache<String, VerifiedToken> verifiedTokens;
 
   public JwtManager(@Value("${jwt.token.issuer}") String issuer,
       @Value("${jwt.token.secret}") String secret,
       @Value("${jwt.token.access-time}") long accessTime,
-      @Value("${jwt.token.refresh-time}") long refreshTime) {
+      @Value("${jwt.token.refresh-time}") long refreshTime,
+      @Value("${jwt.token.verified-cache-size}") long verifiedCacheSize,
+      @Value("${jwt.token.self-contained}") boolean selfContained) {
 
     byte[] keyBytes = Decoders.BASE64.decode(secret);
     this.key = Keys.hmacShaKeyFor(keyBytes);
     this.issuer = issuer;
     this.accessTime = accessTime;
     this.refreshTime = refreshTime;
+    this.selfContained = selfContained;
+    this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    this.verifiedTokens = Caffeine.newBuilder()
+        .maximumSize(verifiedCacheSize)
+        .expireAfter(new VerifiedTokenExpiry())
+        .build();
   }
 
   public String createAccessToken(String userName) {
@@ -53,6 +80,30 @@ public class JwtManager {
         .compact();
   }
 
+  /**
+   * self-contained 설정이 켜져 있으면 사용자 ID 와 권한을 클레임으로 담아, 인가 시 사용자 조회가 필요 없는 토큰을 만든다.
+   */
+  public String createAccessToken(Long userId, String userName, UserRole userRole) {
+    if (!selfContained) {
+      return createAccessToken(userName);
+    }
+
+    long nowTime = new Date().getTime();
+    Date issuedAt = new Date();
+    Date expiration = new Date(nowTime + accessTime);
+
+    return Jwts.builder()
+        .setIssuer(issuer)
+        .setSubject(userName)
+        .setAudience(TokenType.ACCESS.toString())
+        .claim(USER_ID_CLAIM, userId)
+        .claim(USER_ROLE_CLAIM, userRole.name())
+        .setExpiration(expiration)
+        .setIssuedAt(issuedAt)
+        .signWith(key, SignatureAlgorithm.HS512)
+        .compact();
+  }
+
   public String createRefreshToken(String userName) {
     long nowTime = new Date().getTime();
     Date issuedAt = new Date();
@@ -68,19 +119,40 @@ public class JwtManager {
         .compact();
   }
 
+  /**
+   * 토큰의 서명과 만료 시간을 한 번만 검증하고 클레임을 돌려준다. 검증된 토큰은 만료될 때까지 캐시된다.
+   */
+  public VerifiedToken verify(String token) {
+    String tokenHash = hash(token);
+    VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+    if (cached != null && cached.expiration().isAfter(Instant.now())) {
+      return cached;
+    }
+
+    VerifiedToken verifiedToken = parse(token);
+    verifiedTokens.put(tokenHash, verifiedToken);
+    return verifiedToken;
+  }
+
   public String getUserNameFromToken(String token) {
-    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
-        .getSubject();
+    return verify(token).subject();
   }
 
   public String getTokenTypeFromToken(String token) {
-    return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody()
-        .getAudience();
+    return verify(token).audience();
   }
 
   public void validateToken(String token) {
+    verify(token);
+  }
+
+  private VerifiedToken parse(String token) {
     try {
-      Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+      String userRole = claims.get(USER_ROLE_CLAIM, String.class);
+      return new VerifiedToken(claims.getSubject(), claims.getAudience(),
+          claims.getExpiration().toInstant(), claims.get(USER_ID_CLAIM, Long.class),
+          userRole == null ? null : UserRole.valueOf(userRole));
     } catch (SecurityException | MalformedJwtException e) {
       throw new InvalidJwtSignatureException(e);
     } catch (ExpiredJwtException e) {
@@ -91,4 +163,35 @@ public class JwtManager {
       throw new InvalidJwtTokenException(e);
     }
   }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      Duration remaining = Duration.between(Instant.now(), value.expiration());
+      return remaining.isNegative() ? 0 : remaining.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, VerifiedToken value, long currentTime,
+        long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
@@ -0,0 +1,26 @@
+package F12.newsfeedproject.global.jwt;
+
+import F12.newsfeedproject.domain.user.constant.UserRole;
+import java.time.Instant;
+
+/**
+ * 서명과 만료 시간 검증을 마친 토큰의 클레임.
+ * userId, userRole 은 사용자 정보를 담아 발급된 액세스 토큰에만 있다.
+ */
+public record VerifiedToken(
+    String subject,
+    String audience,
+    Instant expiration,
+    Long userId,
+    UserRole userRole
+) {
+
+  // DB 조회 없이 principal 을 만들 수 있는 토큰인지
+  public boolean isSelfContained() {
+    return userId != null && userRole != null;
+  }
+
+  public boolean isTypeOf(TokenType tokenType) {
+    return tokenType.toString().equals(audience);
+  }
+}
@@ -0,0 +1,13 @@
+package F12.newsfeedproject.global.migration;
+
+/**
+ * ddl-auto 로는 바뀌지 않는 기존 스키마와 데이터를 고치는 작업.
+ * 이름 순서로 한 번만 실행되며, 중간에 실패해도 다시 실행할 수 있도록 작성한다.
+ */
+public interface SchemaMigration {
+
+  // 적용 기록에 남는 이름. 배포한 뒤에는 바꾸지 않는다.
+  String name();
+
+  void migrate();
+}
@@ -0,0 +1,50 @@
+package F12.newsfeedproject.global.migration;
+
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아직 적용하지 않은 SchemaMigration 을 이름 순서로 실행하고 schema_migration 에 기록한다.
+ * 모든 빈이 만들어진 뒤(ddl-auto 가 끝난 뒤), 웹 서버가 요청을 받고 적재 작업이 시작되기 전에 실행된다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrationRunner implements SmartInitializingSingleton {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final List<SchemaMigration> migrations;
+
+  public SchemaMigrationRunner(JdbcTemplate jdbcTemplate, List<SchemaMigration> migrations) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.migrations = migrations;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    jdbcTemplate.execute("create table if not exists schema_migration ("
+        + "name varchar(100) not null primary key, applied_date timestamp not null)");
+    Set<String> applied = new HashSet<>(
+        jdbcTemplate.queryForList("select name from schema_migration", String.class));
+
+    migrations.stream()
+        .sorted(Comparator.comparing(SchemaMigration::name))
+        .filter(migration -> !applied.contains(migration.name()))
+        .forEach(this::apply);
+  }
+
+  private void apply(SchemaMigration migration) {
+    long startedAt = System.nanoTime();
+    migration.migrate();
+    jdbcTemplate.update("insert into schema_migration (name, applied_date) values (?, ?)",
+        migration.name(), new Timestamp(System.currentTimeMillis()));
+    log.info("schema migration {} applied, {} ms", migration.name(),
+        (System.nanoTime() - startedAt) / 1_000_000);
+  }
+}
@@ -0,0 +1,106 @@
+package F12.newsfeedproject.global.migration;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SchemaMigration 에서 쓰는 공통 작업. 이미 적용된 상태면 아무것도 하지 않으므로 여러 번 실행해도 된다.
+ * 스키마는 JDBC 메타데이터로 확인하므로 MySQL 과 테스트용 H2 에서 모두 동작한다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrationSupport {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public SchemaMigrationSupport(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * 시퀀스로 ID 를 받던 컬럼을 auto_increment 로 바꾼다. 네이티브 INSERT 가 ID 를 넣지 않기 때문이다.
+   * 이미 ID 0 으로 들어간 행이 있으면 먼저 새 ID 를 준다. 그대로 두면 바꾸는 중에 ID 가 다시 매겨지며 충돌할 수 있다.
+   */
+  public void ensureAutoIncrement(String table, String idColumn) {
+    if (isAutoIncrement(table, idColumn)) {
+      return;
+    }
+
+    jdbcTemplate.update("update " + table + " set " + idColumn + " = (select next_id from "
+        + "(select coalesce(max(" + idColumn + "), 0) + 1 as next_id from " + table + ") m) "
+        + "where " + idColumn + " = 0");
+    jdbcTemplate.execute(
+        "alter table " + table + " modify " + idColumn + " bigint not null auto_increment");
+    log.info("{}.{} changed to auto_increment", table, idColumn);
+  }
+
+  /**
+   * 같은 컬럼들의 유니크 키가 없으면 중복 행을 지우고(가장 작은 ID 만 남긴다) 유니크 키를 추가한다.
+   */
+  public void ensureUniqueKey(String table, String idColumn, String keyName, String... columns) {
+    if (hasUniqueKey(table, columns)) {
+      return;
+    }
+
+    String columnList = String.join(", ", columns);
+    int deleted = jdbcTemplate.update("delete from " + table + " where " + idColumn + " not in "
+        + "(select keep_id from (select min(" + idColumn + ") as keep_id from " + table
+        + " group by " + columnList + ") k)");
+    jdbcTemplate.execute("alter table " + table + " add constraint " + keyName
+        + " unique (" + columnList + ")");
+    log.info("unique key {} added to {}, {} duplicate rows deleted", keyName, table, deleted);
+  }
+
+  public boolean isAutoIncrement(String table, String column) {
+    return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(),
+          identifier(metaData, table), identifier(metaData, column))) {
+        return columns.next() && "YES".equals(columns.getString("IS_AUTOINCREMENT"));
+      }
+    }));
+  }
+
+  // 인덱스 이름은 DB 마다 다르게 만들어질 수 있으므로 컬럼 구성으로 찾는다.
+  public boolean hasUniqueKey(String table, String... columns) {
+    Set<String> expected = new HashSet<>();
+    for (String column : columns) {
+      expected.add(column.toLowerCase());
+    }
+
+    return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      DatabaseMetaData metaData = connection.getMetaData();
+      Map<String, Set<String>> uniqueIndexes = new HashMap<>();
+      try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(),
+          connection.getSchema(), identifier(metaData, table), true, false)) {
+        while (indexes.next()) {
+          String column = indexes.getString("COLUMN_NAME");
+          if (column != null) {
+            uniqueIndexes.computeIfAbsent(indexes.getString("INDEX_NAME"), key -> new HashSet<>())
+                .add(column.toLowerCase());
+          }
+        }
+      }
+      return uniqueIndexes.containsValue(expected);
+    }));
+  }
+
+  private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+    if (metaData.storesUpperCaseIdentifiers()) {
+      return name.toUpperCase();
+    }
+    if (metaData.storesLowerCaseIdentifiers()) {
+      return name.toLowerCase();
+    }
+    return name;
+  }
+}
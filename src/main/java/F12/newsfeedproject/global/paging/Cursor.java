@@ -0,0 +1,66 @@
+package F12.newsfeedproject.global.paging;
+
+import F12.newsfeedproject.global.exception.paging.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서. (생성일시, ID) 를 클라이언트에게는 불투명한 문자열로 주고받는다.
+ */
+public record Cursor(
+    LocalDateTime createdDate,
+    Long id
+) {
+
+  private static final String DELIMITER = "_";
+
+  // 첫 페이지 조회용 커서. 어떤 데이터보다도 뒤(최신)에 위치한다.
+  private static final Cursor FIRST = new Cursor(LocalDateTime.of(9999, 12, 31, 0, 0), Long.MAX_VALUE);
+
+  public static Cursor first() {
+    return FIRST;
+  }
+
+  public String encode() {
+    String raw = createdDate + DELIMITER + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  // ID 만으로 정렬되는 목록의 커서
+  public static String encodeId(Long id) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+  }
+
+  // 비어 있으면 첫 페이지용으로 어떤 ID 보다도 큰 값을 반환한다.
+  public static Long decodeId(String token) {
+    if (token == null || token.isBlank()) {
+      return Long.MAX_VALUE;
+    }
+
+    try {
+      return Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException(e);
+    }
+  }
+
+  // 비어 있으면 첫 페이지 커서를 반환한다.
+  public static Cursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return FIRST;
+    }
+
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int delimiterIndex = raw.lastIndexOf(DELIMITER);
+      return new Cursor(LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+          Long.parseLong(raw.substring(delimiterIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new InvalidCursorException(e);
+    }
+  }
+}
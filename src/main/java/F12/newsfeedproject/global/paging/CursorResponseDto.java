@@ -0,0 +1,37 @@
+package F12.newsfeedproject.global.paging;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorResponseDto<T>(
+    List<T> content,
+    String nextCursor
+) {
+
+  /**
+   * limit + 1 개까지 조회한 결과로 응답을 만든다.
+   * 결과가 size 보다 많으면 다음 페이지가 있는 것으로 보고 마지막 요소로 커서를 만든다.
+   */
+  public static <E, T> CursorResponseDto<T> of(List<E> fetched, int size,
+      Function<E, T> mapper, Function<E, Cursor> cursorExtractor) {
+    boolean hasNext = fetched.size() > size;
+    List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+    List<T> content = page.stream().map(mapper).toList();
+    String nextCursor = hasNext ? cursorExtractor.apply(page.get(page.size() - 1)).encode() : null;
+
+    return new CursorResponseDto<>(content, nextCursor);
+  }
+
+  // ID 만으로 정렬되는 목록. 마지막 요소의 ID 로 커서를 만든다.
+  public static <E, T> CursorResponseDto<T> ofId(List<E> fetched, int size,
+      Function<E, T> mapper, Function<E, Long> idExtractor) {
+    boolean hasNext = fetched.size() > size;
+    List<E> page = hasNext ? fetched.subList(0, size) : fetched;
+
+    List<T> content = page.stream().map(mapper).toList();
+    String nextCursor = hasNext ? Cursor.encodeId(idExtractor.apply(page.get(page.size() - 1))) : null;
+
+    return new CursorResponseDto<>(content, nextCursor);
+  }
+}
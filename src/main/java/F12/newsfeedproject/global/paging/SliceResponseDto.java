@@ -0,0 +1,33 @@
+package F12.newsfeedproject.global.paging;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Slice;
+
+/**
+ * COUNT 쿼리 없이 다음 페이지 존재 여부만 알려주는 페이지 응답.
+ * approximateTotal 은 백그라운드에서 갱신되는 근사값이며 제공되지 않으면 null 이다.
+ */
+public record SliceResponseDto<T>(
+    List<T> content,
+    int page,
+    int size,
+    boolean hasNext,
+    Long approximateTotal
+) {
+
+  public static <E, T> SliceResponseDto<T> of(Slice<E> slice, Function<E, T> mapper) {
+    return of(slice, mapper, null);
+  }
+
+  public static <E, T> SliceResponseDto<T> of(Slice<E> slice, Function<E, T> mapper,
+      Long approximateTotal) {
+    return new SliceResponseDto<>(
+        slice.getContent().stream().map(mapper).toList(),
+        slice.getNumber(),
+        slice.getSize(),
+        slice.hasNext(),
+        approximateTotal
+    );
+  }
+}
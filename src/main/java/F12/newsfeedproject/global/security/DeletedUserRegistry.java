@@ -0,0 +1,63 @@
+package F12.newsfeedproject.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 탈퇴한 사용자 ID 목록. 사용자 정보가 담긴 액세스 토큰은 DB 를 조회하지 않으므로,
+ * 탈퇴한 뒤에도 토큰이 만료될 때까지 쓰이지 않도록 인가 필터에서 이 목록으로 거른다.
+ * 다른 인스턴스에서 탈퇴한 사용자는 주기적으로 DB 에서 다시 읽어 반영하고,
+ * 삭제 작업으로 사용자 행이 지워진 뒤에도 액세스 토큰 유효 시간만큼은 목록에 남긴다.
+ */
+@Component
+public class DeletedUserRegistry {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Cache<Long, Boolean> deletedUserIds;
+
+  public DeletedUserRegistry(JdbcTemplate jdbcTemplate,
+      @Value("${jwt.token.access-time}") long accessTimeMs) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.deletedUserIds = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(accessTimeMs))
+        .build();
+  }
+
+  public boolean isDeleted(Long userId) {
+    return userId != null && deletedUserIds.getIfPresent(userId) != null;
+  }
+
+  // 트랜잭션 안이라면 커밋된 뒤에 추가한다.
+  public void markDeleted(Long userId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      deletedUserIds.put(userId, Boolean.TRUE);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        deletedUserIds.put(userId, Boolean.TRUE);
+      }
+    });
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${user.deleted-registry.refresh-interval-ms}")
+  public void refresh() {
+    jdbcTemplate.query("select user_id from users where deleted = true",
+        rs -> {
+          deletedUserIds.put(rs.getLong(1), Boolean.TRUE);
+        });
+  }
+}
@@ -10,30 +10,51 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 public class UserDetailsImpl implements UserDetails {
 
+  // 토큰 클레임만으로 만들어진 principal 에는 User 엔티티가 없다.
   private final User user;
+  private final Long userId;
+  private final String userName;
+  private final UserRole userRole;
 
   public UserDetailsImpl(User user) {
     this.user = user;
+    this.userId = user.getUserId();
+    this.userName = user.getUserName();
+    this.userRole = user.getUserRole();
+  }
+
+  public UserDetailsImpl(Long userId, String userName, UserRole userRole) {
+    this.user = null;
+    this.userId = userId;
+    this.userName = userName;
+    this.userRole = userRole;
   }
 
   public User getUser() {
     return user;
   }
 
+  public Long getUserId() {
+    return userId;
+  }
+
+  public UserRole getUserRole() {
+    return userRole;
+  }
+
   @Override
   public String getPassword() {
-    return user.getUserPassword();
+    return user == null ? null : user.getUserPassword();
   }
 
   @Override
   public String getUsername() {
-    return user.getUserName();
+    return userName;
   }
 
 
   @Override
   public Collection<? extends GrantedAuthority> getAuthorities() {
-    UserRole userRole = user.getUserRole();
     String authority = userRole.getAuthority();
 
     SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(authority);
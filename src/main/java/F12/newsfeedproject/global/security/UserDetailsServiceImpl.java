@@ -13,10 +13,16 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
   private final UserService userService;
+  private final UserPrincipalCache userPrincipalCache;
 
   @Override
   public UserDetails loadUserByUsername(String userName) throws UsernameNotFoundException {
+    return userPrincipalCache.get(userName, this::loadUser);
+  }
+
+  private UserDetails loadUser(String userName) {
     User user = userService.findByUserName(userName)
+        .filter(found -> !found.isDeleted())
         .orElseThrow(() -> new UsernameNotFoundException("Not Found " + userName));
 
     return new UserDetailsImpl(user);
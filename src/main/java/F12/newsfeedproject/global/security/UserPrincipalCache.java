@@ -0,0 +1,52 @@
+package F12.newsfeedproject.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증된 사용자 정보(UserDetails) 캐시. 요청마다 사용자를 DB 에서 다시 읽지 않도록 사용자 이름으로 보관한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+  private final Cache<String, UserDetails> principals;
+
+  public UserPrincipalCache(MeterRegistry meterRegistry,
+      @Value("${user.principal-cache.maximum-size}") long maximumSize,
+      @Value("${user.principal-cache.expire-after-write-ms}") long expireAfterWriteMs) {
+    this.principals = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, principals, "user.principal");
+  }
+
+  public UserDetails get(String userName, Function<String, UserDetails> loader) {
+    return principals.get(userName, loader);
+  }
+
+  // 트랜잭션 안이라면 커밋 뒤에 한 번 더 지워서 커밋 전의 사용자 정보가 다시 캐시되지 않도록 한다.
+  public void evict(String userName) {
+    principals.invalidate(userName);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          principals.invalidate(userName);
+        }
+      });
+    }
+  }
+}
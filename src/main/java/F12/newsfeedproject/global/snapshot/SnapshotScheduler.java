@@ -0,0 +1,46 @@
+package F12.newsfeedproject.global.snapshot;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스냅샷을 주기적으로 쓰고, 배포 등으로 종료할 때 마지막으로 한 번 더 쓴다.
+ * 종료 직전에 쓴 스냅샷은 재시작할 때 DB 에서 읽어야 할 변경분이 거의 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotScheduler {
+
+  private final SnapshotStore snapshotStore;
+  private final List<Snapshottable> snapshottables;
+
+  @Scheduled(fixedDelayString = "${snapshot.interval-ms}",
+      initialDelayString = "${snapshot.interval-ms}")
+  public void writeSnapshots() {
+    if (!snapshotStore.isEnabled()) {
+      return;
+    }
+
+    for (Snapshottable snapshottable : snapshottables) {
+      long start = System.currentTimeMillis();
+      try {
+        snapshottable.writeSnapshot();
+        log.info("{} snapshot written in {} ms", snapshottable.getClass().getSimpleName(),
+            System.currentTimeMillis() - start);
+      } catch (IOException | RuntimeException e) {
+        log.warn("failed to write {} snapshot", snapshottable.getClass().getSimpleName(), e);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    writeSnapshots();
+  }
+}
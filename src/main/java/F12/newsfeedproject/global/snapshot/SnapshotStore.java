@@ -0,0 +1,69 @@
+package F12.newsfeedproject.global.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 자료구조의 스냅샷 파일을 쓰고 읽는다.
+ * 쓸 때는 임시 파일에 다 쓴 뒤 이름을 바꾸므로, 쓰는 도중에 프로세스가 죽어도 이전 스냅샷이 그대로 남는다.
+ * 읽을 때는 파일을 메모리에 매핑해서 힙에 복사하지 않고 바로 읽는다.
+ */
+@Component
+public class SnapshotStore {
+
+  private static final String EXTENSION = ".snap";
+
+  private final boolean enabled;
+  private final Path directory;
+
+  public SnapshotStore(@Value("${snapshot.enabled}") boolean enabled,
+      @Value("${snapshot.directory}") String directory) {
+    this.enabled = enabled;
+    this.directory = Path.of(directory);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void write(String name, SnapshotWriter writer) throws IOException {
+    Files.createDirectories(directory);
+    Path target = directory.resolve(name + EXTENSION);
+    Path temp = directory.resolve(name + EXTENSION + ".tmp");
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+      writer.write(out);
+    }
+    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  // 비활성화되어 있거나 파일이 없으면 null. 2GB 를 넘는 파일은 한 번에 매핑할 수 없으므로 읽지 않는다.
+  public MappedByteBuffer read(String name) throws IOException {
+    Path file = directory.resolve(name + EXTENSION);
+    if (!enabled || !Files.exists(file)) {
+      return null;
+    }
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("snapshot too large to map: " + file);
+      }
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  @FunctionalInterface
+  public interface SnapshotWriter {
+
+    void write(DataOutputStream out) throws IOException;
+  }
+}
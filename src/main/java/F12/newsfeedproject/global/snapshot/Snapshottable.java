@@ -0,0 +1,9 @@
+package F12.newsfeedproject.global.snapshot;
+
+import java.io.IOException;
+
+// SnapshotScheduler 가 주기적으로, 그리고 종료할 때 스냅샷을 쓰게 할 메모리 자료구조
+public interface Snapshottable {
+
+  void writeSnapshot() throws IOException;
+}
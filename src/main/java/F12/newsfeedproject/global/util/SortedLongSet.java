@@ -0,0 +1,145 @@
+package F12.newsfeedproject.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 long 배열 기반의 집합.
+ * Long 객체를 만들지 않으므로 원소 하나에 8바이트만 사용하며, 조회는 이진 탐색으로 한다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 동기화해야 한다.
+ */
+public class SortedLongSet {
+
+  private static final long[] EMPTY = new long[0];
+
+  private long[] values;
+
+  private int size;
+
+  public SortedLongSet() {
+    this.values = EMPTY;
+  }
+
+  private SortedLongSet(long[] values, int size) {
+    this.values = values;
+    this.size = size;
+  }
+
+  // 정렬되지 않았거나 중복이 있는 값으로 집합을 만든다.
+  public static SortedLongSet of(long[] values) {
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+
+    int size = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    return new SortedLongSet(sorted, size);
+  }
+
+  // 추가되었으면 true, 이미 있었으면 false
+  public boolean add(long value) {
+    int index = Arrays.binarySearch(values, 0, size, value);
+    if (index >= 0) {
+      return false;
+    }
+
+    int insertionPoint = -index - 1;
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(4, size + (size >> 1)));
+    }
+    System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+    values[insertionPoint] = value;
+    size++;
+    return true;
+  }
+
+  // 제거되었으면 true, 원래 없었으면 false
+  public boolean remove(long value) {
+    int index = Arrays.binarySearch(values, 0, size, value);
+    if (index < 0) {
+      return false;
+    }
+
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    return true;
+  }
+
+  public void clear() {
+    values = EMPTY;
+    size = 0;
+  }
+
+  public boolean contains(long value) {
+    return Arrays.binarySearch(values, 0, size, value) >= 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // 내부 배열의 길이. 메모리 사용량을 추정할 때 쓴다.
+  public int capacity() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public long[] toArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  // 두 집합에 모두 있는 값 (오름차순)
+  public long[] intersect(SortedLongSet other) {
+    return intersect(values, size, other.values, other.size);
+  }
+
+  // 오름차순으로 정렬되고 중복이 없는 두 배열의 교집합
+  public static long[] intersect(long[] left, long[] right) {
+    return intersect(left, left.length, right, right.length);
+  }
+
+  /**
+   * 크기 차이가 크면 작은 쪽의 값을 큰 쪽에서 이진 탐색하고, 비슷하면 두 배열을 한 번에 훑는다.
+   * 이진 탐색은 직전에 찾은 위치부터 시작하므로 큰 쪽을 다시 앞에서부터 보지 않는다.
+   */
+  private static long[] intersect(long[] left, int leftSize, long[] right, int rightSize) {
+    if (leftSize > rightSize) {
+      return intersect(right, rightSize, left, leftSize);
+    }
+
+    long[] result = new long[leftSize];
+    int count = 0;
+    if ((long) leftSize * (32 - Integer.numberOfLeadingZeros(rightSize)) < rightSize) {
+      int from = 0;
+      for (int i = 0; i < leftSize && from < rightSize; i++) {
+        int index = Arrays.binarySearch(right, from, rightSize, left[i]);
+        if (index >= 0) {
+          result[count++] = left[i];
+          from = index + 1;
+        } else {
+          from = -index - 1;
+        }
+      }
+    } else {
+      int i = 0;
+      int j = 0;
+      while (i < leftSize && j < rightSize) {
+        if (left[i] < right[j]) {
+          i++;
+        } else if (left[i] > right[j]) {
+          j++;
+        } else {
+          result[count++] = left[i];
+          i++;
+          j++;
+        }
+      }
+    }
+    return count == result.length ? result : Arrays.copyOf(result, count);
+  }
+}
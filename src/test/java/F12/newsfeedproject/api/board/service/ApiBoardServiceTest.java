@@ -4,19 +4,36 @@ import static F12.newsfeedproject.testhelper.EntityCreator.createBoard;
 import static F12.newsfeedproject.testhelper.EntityCreator.createBoards;
 import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import F12.newsfeedproject.api.board.dto.request.BoardRequestDto;
 import F12.newsfeedproject.api.board.dto.request.BoardUpdateRequestDto;
 import F12.newsfeedproject.api.board.dto.response.BoardResponseDto;
 import F12.newsfeedproject.api.board.dto.response.BoardViewResponseDto;
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.event.BoardLikeCountsFlushedEvent;
+import F12.newsfeedproject.domain.board.service.BoardCountCache;
 import F12.newsfeedproject.domain.board.service.BoardService;
+import F12.newsfeedproject.domain.feed.service.FeedService;
+import F12.newsfeedproject.domain.feed.service.RankedFeedService;
+import F12.newsfeedproject.domain.purge.service.PurgeService;
 import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.service.UserService;
+import F12.newsfeedproject.domain.userboardlike.service.LikedBoardIndex;
+import F12.newsfeedproject.global.exception.board.BoardNotFoundException;
+import F12.newsfeedproject.global.paging.SliceResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,8 +41,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -40,6 +60,27 @@ class ApiBoardServiceTest {
     @Mock
     BoardService boardService;
 
+    @Mock
+    FeedService feedService;
+
+    @Mock
+    RankedFeedService rankedFeedService;
+
+    @Mock
+    UserService userService;
+
+    @Mock
+    BoardCountCache boardCountCache;
+
+    @Mock
+    LikedBoardIndex likedBoardIndex;
+
+    @Mock
+    PurgeService purgeService;
+
+    @Spy
+    BoardResponseCache boardResponseCache = new BoardResponseCache(new SimpleMeterRegistry(), 100, 60000, 5000);
+
     @BeforeAll
     static void setUp() {
         User user = createUser(100L, "손창현", "cson90563@gmail.com");
@@ -58,10 +99,12 @@ class ApiBoardServiceTest {
             BoardRequestDto boardRequestDto = new BoardRequestDto("기존 제목", "기존 내용");
 
             Board board = createBoard(1L, loginUser);
+            given(userService.getReferenceById(loginUser.getUserId())).willReturn(loginUser);
             given(boardService.saveBoard(any(Board.class))).willReturn(board);
 
             // when
-            BoardResponseDto saveBoardResponseDto = apiBoardService.saveBoard(boardRequestDto, loginUser);
+            BoardResponseDto saveBoardResponseDto = apiBoardService.saveBoard(boardRequestDto,
+                    loginUser.getUserId());
 
             // then
             assertEquals(boardRequestDto.boardTitle(), saveBoardResponseDto.boardTitle());
@@ -93,19 +136,70 @@ class ApiBoardServiceTest {
             assertEquals(board.getUser().getUserName(), boardResponseDto.userName());
         }
 
+        @Test
+        @DisplayName("한 번 조회한 게시글은 캐시에서 조회한다.")
+        void getBoardFromCache() {
+            //given
+            Long boardId = 1L;
+            Board board = createBoard(boardId, getLoginUser());
+            given(boardService.findByBoardIdWithUser(boardId)).willReturn(board);
+
+            // when
+            apiBoardService.getBoard(boardId);
+            BoardResponseDto boardResponseDto = apiBoardService.getBoard(boardId);
+
+            // then
+            assertEquals(board.getBoardTitle(), boardResponseDto.boardTitle());
+            verify(boardService, times(1)).findByBoardIdWithUser(boardId);
+        }
+
+        @Test
+        @DisplayName("좋아요 수가 반영된 게시글은 캐시에서 지우고 다시 조회한다.")
+        void getBoardAfterLikeCountsFlushed() {
+            //given
+            Long boardId = 1L;
+            Board board = createBoard(boardId, getLoginUser());
+            given(boardService.findByBoardIdWithUser(boardId)).willReturn(board);
+            apiBoardService.getBoard(boardId);
+
+            // when
+            boardResponseCache.onLikeCountsFlushed(new BoardLikeCountsFlushedEvent(Set.of(boardId)));
+            apiBoardService.getBoard(boardId);
+
+            // then
+            verify(boardService, times(2)).findByBoardIdWithUser(boardId);
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글 조회 결과도 캐시한다.")
+        void getMissingBoardFromCache() {
+            //given
+            Long boardId = 1L;
+            given(boardService.findByBoardIdWithUser(boardId)).willThrow(new BoardNotFoundException());
+
+            // when - then
+            assertThrows(BoardNotFoundException.class, () -> apiBoardService.getBoard(boardId));
+            assertThrows(BoardNotFoundException.class, () -> apiBoardService.getBoard(boardId));
+            verify(boardService, times(1)).findByBoardIdWithUser(boardId);
+        }
+
         @Test
         @DisplayName("게시글의 전체 목록을 조회할 수 있다.")
         void getBoards() {
             //given
             User loginUser = getLoginUser();
-            List<Board> boards = createBoards(loginUser);
-            given(boardService.getBoards()).willReturn(boards);
+            List<BoardView> boards = createBoards(loginUser).stream().map(BoardView::from).toList();
+            Pageable pageable = PageRequest.of(0, 20);
+            given(boardService.getBoards(pageable)).willReturn(new SliceImpl<>(boards, pageable, false));
+            given(boardCountCache.getApproximateBoardCount()).willReturn(1234L);
 
             // when
-            List<BoardResponseDto> boardResponseDtos = apiBoardService.getBoards();
+            SliceResponseDto<BoardResponseDto> boardResponseDtos = apiBoardService.getBoards(pageable);
 
             // then
-            assertEquals(boards.size(), boardResponseDtos.size());
+            assertEquals(boards.size(), boardResponseDtos.content().size());
+            assertFalse(boardResponseDtos.hasNext());
+            assertEquals(1234L, boardResponseDtos.approximateTotal());
         }
     }
 
@@ -131,6 +225,7 @@ class ApiBoardServiceTest {
             // then
             verify(boardService).findByBoardIdWithUser(boardId);
             verify(boardService).updateBoard(eq(board), any(Board.class));
+            verify(boardResponseCache).evict(boardId);
         }
     }
 
@@ -148,6 +243,7 @@ class ApiBoardServiceTest {
 
             // then
             verify(boardService).deleteBoard(boardId);
+            verify(purgeService).requestBoardPurge(boardId);
         }
     }
 
@@ -159,16 +255,23 @@ class ApiBoardServiceTest {
         void getFollowersBoards() {
             //given
             User loginUser = getLoginUser();
-            List<Board> followBoards = createBoards(createUser(2L, "장동하", "ehdgk@gmail.com"));
-            given(boardService.findAllUserFollowerBoard(eq(loginUser.getUserId()), any())).willReturn(followBoards);
+            List<BoardView> followBoards = createBoards(createUser(2L, "장동하", "ehdgk@gmail.com"))
+                    .stream().map(BoardView::from).toList();
+            given(feedService.findFollowingFeed(eq(loginUser.getUserId()), any()))
+                    .willReturn(new SliceImpl<>(followBoards, PageRequest.of(0, 10), true));
+            given(likedBoardIndex.findLikedBoardIds(eq(loginUser.getUserId()), any()))
+                    .willReturn(Set.of(followBoards.get(0).boardId()));
 
             // when
-            List<BoardViewResponseDto> followersBoards = apiBoardService.getFollowersBoards(loginUser.getUserId(),
-                    PageRequest.of(0, 10));
+            SliceResponseDto<BoardViewResponseDto> followersBoards = apiBoardService.getFollowersBoards(
+                    loginUser.getUserId(), PageRequest.of(0, 10));
 
             // then
-            assertEquals(followBoards.size(), followersBoards.size());
-            assertEquals(followBoards.get(0).getUser().getUserName(), followersBoards.get(0).userName());
+            assertEquals(followBoards.size(), followersBoards.content().size());
+            assertEquals(followBoards.get(0).userName(), followersBoards.content().get(0).userName());
+            assertNull(followersBoards.approximateTotal());
+            assertTrue(followersBoards.content().get(0).likedByMe());
+            verify(likedBoardIndex, times(1)).findLikedBoardIds(eq(loginUser.getUserId()), any());
         }
     }
 
@@ -180,16 +283,18 @@ class ApiBoardServiceTest {
         void getLikeBoard() {
             //given
             User loginUser = getLoginUser();
-            List<Board> likeBoards = createBoards(loginUser);
-            given(boardService.findAllLikeBoards(eq(loginUser.getUserId()), any())).willReturn(likeBoards);
+            List<BoardView> likeBoards = createBoards(loginUser).stream().map(BoardView::from).toList();
+            given(boardService.findAllLikeBoards(eq(loginUser.getUserId()), any()))
+                    .willReturn(new SliceImpl<>(likeBoards, PageRequest.of(0, 10), false));
 
             // when
-            List<BoardViewResponseDto> likeBoardDtos = apiBoardService.getLikeBoards(loginUser.getUserId(),
-                    PageRequest.of(0, 10));
+            SliceResponseDto<BoardViewResponseDto> likeBoardDtos = apiBoardService.getLikeBoards(
+                    loginUser.getUserId(), PageRequest.of(0, 10));
 
             // then
-            assertEquals(likeBoards.size(), likeBoardDtos.size());
-            assertEquals(likeBoards.get(0).getUser().getUserName(), likeBoardDtos.get(0).userName());
+            assertEquals(likeBoards.size(), likeBoardDtos.content().size());
+            assertEquals(likeBoards.get(0).userName(), likeBoardDtos.content().get(0).userName());
+            assertTrue(likeBoardDtos.content().stream().allMatch(BoardViewResponseDto::likedByMe));
         }
     }
 
@@ -16,6 +16,8 @@ import F12.newsfeedproject.domain.board.service.BoardService;
 import F12.newsfeedproject.domain.comment.entity.Comment;
 import F12.newsfeedproject.domain.comment.service.CommentService;
 import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.service.UserService;
+import F12.newsfeedproject.domain.usercommentlike.service.UserCommentLikeService;
 import F12.newsfeedproject.global.exception.comment.RejectedExecutionException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeAll;
@@ -43,6 +45,12 @@ class ApiCommentServiceTest {
     @Mock
     CommentService commentService;
 
+    @Mock
+    UserService userService;
+
+    @Mock
+    UserCommentLikeService userCommentLikeService;
+
     @BeforeAll
     static void setUp() {
         User user = createUser(100L, "손창현", "cson90563@gmail.com");
@@ -62,11 +70,13 @@ class ApiCommentServiceTest {
             CommentRequestDTO commentRequestDTO = new CommentRequestDTO(board.getBoardId(), "잘봤습니다.");
             Comment comment = Comment.createComment(commentRequestDTO.commentContent(), loginUser, board);
 
+            given(userService.getReferenceById(loginUser.getUserId())).willReturn(loginUser);
             given(boardService.findByBoardId(board.getBoardId())).willReturn(board);
             given(commentService.saveComment(any(Comment.class))).willReturn(comment);
 
             // when
-            CommentResponseDTO commentResponseDTO = apiCommentService.createComment(commentRequestDTO, loginUser);
+            CommentResponseDTO commentResponseDTO = apiCommentService.createComment(commentRequestDTO,
+                    loginUser.getUserId());
 
             // then
             assertEquals(commentRequestDTO.commentContent(), commentResponseDTO.getCommentContent());
@@ -89,7 +99,7 @@ class ApiCommentServiceTest {
             given(commentService.findByCommentId(comment.getCommentId())).willReturn(Optional.of(comment));
 
             // when
-            apiCommentService.updateComment(comment.getCommentId(), commentRequestDTO, loginUser);
+            apiCommentService.updateComment(comment.getCommentId(), commentRequestDTO, loginUser.getUserId());
 
             // then
             verify(commentService).findByCommentId(comment.getCommentId());
@@ -112,7 +122,7 @@ class ApiCommentServiceTest {
 
             // then
             assertThatThrownBy(() -> apiCommentService
-                    .updateComment(comment.getCommentId(), commentRequestDTO, loginUser))
+                    .updateComment(comment.getCommentId(), commentRequestDTO, loginUser.getUserId()))
                     .isInstanceOf(RejectedExecutionException.class);
         }
     }
@@ -133,9 +143,10 @@ class ApiCommentServiceTest {
             given(commentService.findByCommentId(comment.getCommentId())).willReturn(Optional.of(comment));
 
             // when
-            apiCommentService.deleteComment(comment.getCommentId(), loginUser);
+            apiCommentService.deleteComment(comment.getCommentId(), loginUser.getUserId());
 
             // then
+            verify(userCommentLikeService).deleteAllByCommentId(comment.getCommentId());
             verify(commentService).deleteComment(comment.getCommentId());
         }
 
@@ -153,7 +164,7 @@ class ApiCommentServiceTest {
             // when
 
             // then
-            assertThatThrownBy(() -> apiCommentService.deleteComment(comment.getCommentId(), loginUser))
+            assertThatThrownBy(() -> apiCommentService.deleteComment(comment.getCommentId(), loginUser.getUserId()))
                     .isInstanceOf(RejectedExecutionException.class);
         }
     }
@@ -17,6 +17,8 @@ import F12.newsfeedproject.global.exception.jwt.NotRefreshTokenException;
 import F12.newsfeedproject.global.exception.member.AlreadyUserExistException;
 import F12.newsfeedproject.global.jwt.JwtManager;
 import F12.newsfeedproject.global.jwt.TokenType;
+import F12.newsfeedproject.global.jwt.VerifiedToken;
+import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -157,18 +159,18 @@ class ApiUserServiceTest {
                 User loginUser = getLoginUser();
                 String refreshToken = loginUser.getRefreshToken();
 
-                given(jwtManager.getUserNameFromToken(any())).willReturn(loginUser.getUserName());
-                given(jwtManager.getTokenTypeFromToken(refreshToken)).willReturn(TokenType.REFRESH.toString());
+                given(jwtManager.verify(refreshToken))
+                        .willReturn(verifiedToken(loginUser.getUserName(), TokenType.REFRESH));
                 given(userService.findByUserName(loginUser.getUserName())).willReturn(Optional.of(loginUser));
+                given(jwtManager.createAccessToken(loginUser.getUserId(), loginUser.getUserName(),
+                        loginUser.getUserRole())).willReturn("accessToken");
 
                 // when
                 String accessToken = apiUserService.reissueAccessToken(refreshToken);
 
                 // then
-                String userNameFromRefreshToken = jwtManager.getUserNameFromToken(refreshToken);
-                String userNameFromNewAccessToken = jwtManager.getUserNameFromToken(accessToken);
-
-                assertEquals(userNameFromRefreshToken, userNameFromNewAccessToken);
+                assertEquals("accessToken", accessToken);
+                verify(jwtManager).verify(refreshToken);
             }
 
             @Test
@@ -178,8 +180,8 @@ class ApiUserServiceTest {
                 User loginUser = getLoginUser();
                 String notRefreshToken = "notRefreshToken";
 
-                given(jwtManager.getUserNameFromToken(any())).willReturn(loginUser.getUserName());
-                given(jwtManager.getTokenTypeFromToken(any())).willReturn(TokenType.ACCESS.toString());
+                given(jwtManager.verify(notRefreshToken))
+                        .willReturn(verifiedToken(loginUser.getUserName(), TokenType.ACCESS));
                 // when
 
                 // then
@@ -196,8 +198,8 @@ class ApiUserServiceTest {
                 String userName = loginUser.getUserName();
                 String otherRefreshToken = "otherRefreshToken";
 
-                given(jwtManager.getUserNameFromToken(otherRefreshToken)).willReturn(userName);
-                given(jwtManager.getTokenTypeFromToken(any())).willReturn(TokenType.REFRESH.toString());
+                given(jwtManager.verify(otherRefreshToken))
+                        .willReturn(verifiedToken(userName, TokenType.REFRESH));
                 given(userService.findByUserName(userName)).willReturn(Optional.of(loginUser));
 
                 // when
@@ -232,4 +234,7 @@ class ApiUserServiceTest {
         return (User) authentication.getPrincipal();
     }
 
-}
\ No newline at end of file
+    VerifiedToken verifiedToken(String userName, TokenType tokenType) {
+        return new VerifiedToken(userName, tokenType.toString(), Instant.now().plusSeconds(60), null, null);
+    }
+}
@@ -0,0 +1,76 @@
+package F12.newsfeedproject.domain.board.migration;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({BoardLikeCountMigration.class, SchemaMigrationSupport.class})
+class BoardLikeCountMigrationTest {
+
+    @Autowired
+    BoardLikeCountMigration migration;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("기존 게시글 좋아요 행 수로 게시글의 좋아요 수를 채운다.")
+    void backfillLikeCount() {
+        //given
+        User author = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User reader = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        Board liked = boardRepository.save(createBoard(author));
+        Board notLiked = boardRepository.save(createBoard(author));
+        entityManager.flush();
+        for (User user : new User[]{author, reader}) {
+            jdbcTemplate.update("insert into user_board_like (user_id, board_id) values (?, ?)",
+                    user.getUserId(), liked.getBoardId());
+        }
+        jdbcTemplate.update("update board set like_count = 5 where board_id = ?", notLiked.getBoardId());
+
+        // when
+        migration.migrate();
+
+        // then
+        assertEquals(2, likeCount(liked));
+        assertEquals(0, likeCount(notLiked));
+    }
+
+    private Board createBoard(User author) {
+        return Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(author)
+                .build();
+    }
+
+    private long likeCount(Board board) {
+        return jdbcTemplate.queryForObject("select like_count from board where board_id = ?",
+                Long.class, board.getBoardId());
+    }
+}
@@ -0,0 +1,63 @@
+package F12.newsfeedproject.domain.board.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createBoard;
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.config.JpaAuditingConfig;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, BoardJdbcRepository.class})
+class BoardJdbcRepositoryTest {
+
+    @Autowired
+    BoardJdbcRepository boardJdbcRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("작성자마다 삭제되지 않은 최근 게시글 ID 를 최신순으로 limit 개까지 조회한다.")
+    void findRecentBoardIdsByUserIds() {
+        //given
+        User first = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User second = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        User third = userRepository.save(createUser(null, "아무개", "dkanro@gmail.com"));
+
+        Board oldest = boardRepository.save(createBoard(null, first));
+        Board older = boardRepository.save(createBoard(null, first));
+        Board deleted = boardRepository.save(createBoard(null, first));
+        Board latest = boardRepository.save(createBoard(null, first));
+        Board other = boardRepository.save(createBoard(null, second));
+        deleted.delete();
+        entityManager.flush();
+
+        // when
+        Map<Long, List<Long>> result = boardJdbcRepository.findRecentBoardIdsByUserIds(
+                List.of(first.getUserId(), second.getUserId(), third.getUserId()), 2);
+
+        // then
+        assertEquals(List.of(latest.getBoardId(), older.getBoardId()), result.get(first.getUserId()));
+        assertEquals(List.of(other.getBoardId()), result.get(second.getUserId()));
+        assertFalse(result.containsKey(third.getUserId()));
+        assertFalse(result.get(first.getUserId()).contains(oldest.getBoardId()));
+    }
+}
@@ -4,19 +4,29 @@ import static F12.newsfeedproject.testhelper.EntityCreator.createBoards;
 import static F12.newsfeedproject.testhelper.EntityCreator.createFollow;
 import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
 
+import F12.newsfeedproject.domain.board.dto.BoardView;
 import F12.newsfeedproject.domain.board.entity.Board;
 import F12.newsfeedproject.domain.follow.entity.Follow;
 import F12.newsfeedproject.domain.follow.repository.FollowRepository;
 import F12.newsfeedproject.domain.user.entity.User;
 import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.config.JpaAuditingConfig;
+import F12.newsfeedproject.global.paging.Cursor;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 @DataJpaTest
+@Import(JpaAuditingConfig.class)
 class BoardRepositoryTest {
 
     @Autowired
@@ -28,6 +38,9 @@ class BoardRepositoryTest {
     @Autowired
     FollowRepository followRepository;
 
+    @Autowired
+    TestEntityManager entityManager;
+
     @Test
     @DisplayName("최신순으로 게시글을 조회할 수 있습니다.")
     void findAllByOrderByCreatedDateDesc(){
@@ -52,10 +65,9 @@ class BoardRepositoryTest {
     @DisplayName("팔로우한 사용자가 작성한 게시글을 조회할 수 있다.")
     void findAllUserFollowerBoard(){
         //given
-        User user = createUser(1L, "손창현", "cson90563@gmail.com");
-        User followingUser = createUser(2L, "아무개", "아무개@gmail.com");
-        userRepository.save(user);
-        userRepository.save(followingUser);
+        // 팔로우는 바로 INSERT 되므로 저장된 사용자를 참조해야 한다.
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User followingUser = userRepository.save(createUser(null, "아무개", "아무개@gmail.com"));
 
         Follow follow = createFollow(followingUser, user);
         followRepository.save(follow);
@@ -72,8 +84,104 @@ class BoardRepositoryTest {
 
     }
 
+    @Test
+    @DisplayName("커서 이후의 팔로우한 사용자 게시글을 최신순으로 조회할 수 있다.")
+    void findUserFollowerBoardViewsBeforeCursor() {
+        //given
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User followingUser = userRepository.save(createUser(null, "아무개", "아무개@gmail.com"));
+        followRepository.save(createFollow(followingUser, user));
+        for (int i = 0; i < 10; i++) {
+            boardRepository.save(Board.builder()
+                    .boardTitle("제목" + i)
+                    .boardContent("내용" + i)
+                    .user(followingUser)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<BoardView> firstPage = boardRepository.findUserFollowerBoardViewsBefore(user.getUserId(),
+                Cursor.first().createdDate(), Cursor.first().id(), PageRequest.of(0, 4));
+        BoardView last = firstPage.get(firstPage.size() - 1);
+
+        // when
+        List<BoardView> secondPage = boardRepository.findUserFollowerBoardViewsBefore(user.getUserId(),
+                last.createdDate(), last.boardId(), PageRequest.of(0, 4));
+
+        // then
+        Assertions.assertEquals(4, firstPage.size());
+        Assertions.assertEquals(4, secondPage.size());
+        for (BoardView board : secondPage) {
+            Assertions.assertFalse(firstPage.contains(board));
+            Assertions.assertFalse(board.createdDate().isAfter(last.createdDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("전체 게시글을 최신순 스트림으로 조회할 수 있다.")
+    void streamAllByOrderByCreatedDateDesc() {
+        //given
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        for (int i = 0; i < 5; i++) {
+            boardRepository.save(Board.builder()
+                    .boardTitle("제목" + i)
+                    .boardContent("내용" + i)
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Board> boards;
+        try (Stream<Board> stream = boardRepository.streamAllByOrderByCreatedDateDesc()) {
+            boards = stream.toList();
+        }
 
+        // then
+        Assertions.assertEquals(5, boards.size());
+        for (int i = 0; i < boards.size() - 1; i++) {
+            Board current = boards.get(i);
+            Board next = boards.get(i + 1);
+            Assertions.assertFalse(current.getCreatedDate().isBefore(next.getCreatedDate()));
+        }
+        Assertions.assertEquals(user.getUserName(), boards.get(0).getUser().getUserName());
+    }
 
+    @Test
+    @DisplayName("팔로우한 사용자 게시글을 엔티티 없이 필요한 컬럼만 조회할 수 있다.")
+    void findUserFollowerBoardViewsBefore() {
+        //given
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User followingUser = userRepository.save(createUser(null, "아무개", "아무개@gmail.com"));
+        followRepository.save(createFollow(followingUser, user));
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, boardRepository.save(Board.builder()
+                    .boardTitle("제목" + i)
+                    .boardContent("내용" + i)
+                    .user(followingUser)
+                    .build()).getBoardId());
+        }
+        Board deleted = boardRepository.save(Board.builder()
+                .boardTitle("삭제")
+                .boardContent("삭제")
+                .user(followingUser)
+                .build());
+        deleted.delete();
+        entityManager.flush();
+        entityManager.clear();
 
+        // when
+        List<BoardView> views = boardRepository.findUserFollowerBoardViewsBefore(user.getUserId(),
+                Cursor.first().createdDate(), Cursor.first().id(), PageRequest.of(0, 10));
 
-}
\ No newline at end of file
+        // then
+        Assertions.assertEquals(expected, views.stream().map(BoardView::boardId).toList());
+        Assertions.assertEquals(5, views.size());
+        Assertions.assertTrue(views.stream().allMatch(view -> view.userName().equals("아무개")));
+        Assertions.assertEquals(0, entityManager.getEntityManager().unwrap(Session.class)
+                .getStatistics().getEntityCount());
+    }
+}
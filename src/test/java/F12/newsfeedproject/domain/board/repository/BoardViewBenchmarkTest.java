@@ -0,0 +1,186 @@
+package F12.newsfeedproject.domain.board.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createFollow;
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import F12.newsfeedproject.api.board.dto.response.BoardViewResponseDto;
+import F12.newsfeedproject.domain.board.dto.BoardView;
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.config.JpaAuditingConfig;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 팔로우 피드 10,000 건을 커서로 끝까지 읽으면서 엔티티 조회와 BoardView 프로젝션 조회의
+ * 페이지당 할당량과 지연 시간을 비교한다. 페이지마다 영속성 컨텍스트를 비워 요청 하나를 흉내낸다.
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class BoardViewBenchmarkTest {
+
+    private static final int AUTHORS = 100;
+
+    private static final int BOARDS = 10_000;
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 5;
+
+    // 비교 기준인 엔티티 조회. findUserFollowerBoardViewsBefore 와 조건과 정렬이 같다.
+    private static final String ENTITY_FEED_QUERY = "select b from Board b join fetch b.user "
+            + "where b.user.userId in "
+            + "(select f.follower.userId from Follow f where f.following.userId = :userId) "
+            + "and (b.createdDate < :createdDate or (b.createdDate = :createdDate and b.boardId < :boardId)) "
+            + "order by b.createdDate desc, b.boardId desc";
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("프로젝션 조회가 엔티티 조회보다 페이지당 메모리를 적게 할당한다.")
+    void compareAllocation() {
+        //given
+        User reader = userRepository.save(createUser(null, "독자", "reader@gmail.com"));
+        for (int a = 0; a < AUTHORS; a++) {
+            User author = userRepository.save(createUser(null, "작성자" + a, "author" + a + "@gmail.com"));
+            followRepository.save(createFollow(author, reader));
+            for (int i = 0; i < BOARDS / AUTHORS; i++) {
+                boardRepository.save(Board.builder()
+                        .boardTitle("제목" + i)
+                        .boardContent("내용".repeat(50))
+                        .user(author)
+                        .build());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        Long readerId = reader.getUserId();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            readWithEntities(readerId);
+            readWithViews(readerId);
+        }
+
+        // when
+        Result entity = measure(() -> readWithEntities(readerId));
+        Result view = measure(() -> readWithViews(readerId));
+
+        // then
+        System.out.printf("entity: %d bytes/page, p50 %.3f ms, p99 %.3f ms%n",
+                entity.bytesPerPage(), entity.p50(), entity.p99());
+        System.out.printf("view:   %d bytes/page, p50 %.3f ms, p99 %.3f ms%n",
+                view.bytesPerPage(), view.p50(), view.p99());
+        assertTrue(view.bytesPerPage() < entity.bytesPerPage(),
+                view.bytesPerPage() + " >= " + entity.bytesPerPage());
+    }
+
+    private Result measure(PageReader pageReader) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<Long> latencies = new ArrayList<>();
+        long allocated = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long before = threadBean.getCurrentThreadAllocatedBytes();
+            long[] pageLatencies = pageReader.read();
+            allocated += threadBean.getCurrentThreadAllocatedBytes() - before;
+            for (long latency : pageLatencies) {
+                latencies.add(latency);
+            }
+        }
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(allocated / sorted.length, sorted[sorted.length / 2] / 1e6,
+                sorted[(int) (sorted.length * 0.99)] / 1e6);
+    }
+
+    // 커서로 피드를 끝까지 읽고 페이지별 지연 시간을 반환한다.
+    private long[] readWithEntities(Long readerId) {
+        long[] latencies = new long[BOARDS / PAGE_SIZE];
+        LocalDateTime createdDate = LocalDateTime.of(9999, 12, 31, 0, 0);
+        long boardId = Long.MAX_VALUE;
+        int read = 0;
+        for (int page = 0; page < latencies.length; page++) {
+            long start = System.nanoTime();
+            List<Board> boards = entityManager.getEntityManager()
+                    .createQuery(ENTITY_FEED_QUERY, Board.class)
+                    .setParameter("userId", readerId)
+                    .setParameter("createdDate", createdDate)
+                    .setParameter("boardId", boardId)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            List<BoardViewResponseDto> response = boards.stream()
+                    .map(board -> BoardViewResponseDto.from(board, false))
+                    .toList();
+            entityManager.clear();
+            latencies[page] = System.nanoTime() - start;
+
+            Board last = boards.get(boards.size() - 1);
+            createdDate = last.getCreatedDate();
+            boardId = last.getBoardId();
+            read += response.size();
+        }
+        assertEquals(BOARDS, read);
+        return latencies;
+    }
+
+    private long[] readWithViews(Long readerId) {
+        long[] latencies = new long[BOARDS / PAGE_SIZE];
+        LocalDateTime createdDate = LocalDateTime.of(9999, 12, 31, 0, 0);
+        long boardId = Long.MAX_VALUE;
+        int read = 0;
+        for (int page = 0; page < latencies.length; page++) {
+            long start = System.nanoTime();
+            List<BoardView> boards = boardRepository.findUserFollowerBoardViewsBefore(readerId,
+                    createdDate, boardId, PageRequest.of(0, PAGE_SIZE));
+            List<BoardViewResponseDto> response = boards.stream()
+                    .map(board -> BoardViewResponseDto.from(board, false))
+                    .toList();
+            entityManager.clear();
+            latencies[page] = System.nanoTime() - start;
+
+            BoardView last = boards.get(boards.size() - 1);
+            createdDate = last.createdDate();
+            boardId = last.boardId();
+            read += response.size();
+        }
+        assertEquals(BOARDS, read);
+        return latencies;
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+
+        long[] read();
+    }
+
+    private record Result(long bytesPerPage, double p50, double p99) {
+    }
+}
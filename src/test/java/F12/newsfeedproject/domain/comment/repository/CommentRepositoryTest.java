@@ -0,0 +1,96 @@
+package F12.newsfeedproject.domain.comment.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.comment.dto.CommentView;
+import F12.newsfeedproject.domain.comment.entity.Comment;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.config.JpaAuditingConfig;
+import F12.newsfeedproject.global.paging.Cursor;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+class CommentRepositoryTest {
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("커서 이후의 게시글 댓글을 최신순으로 이어서 조회할 수 있다.")
+    void findCommentViewsBefore() {
+        //given
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        Board board = saveBoard(user);
+        Board otherBoard = saveBoard(user);
+        for (int i = 0; i < 5; i++) {
+            commentRepository.save(Comment.createComment("댓글" + i, user, board));
+        }
+        commentRepository.save(Comment.createComment("다른 게시글 댓글", user, otherBoard));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Cursor first = Cursor.first();
+        List<CommentView> firstPage = commentRepository.findCommentViewsBefore(board.getBoardId(),
+                first.createdDate(), first.id(), PageRequest.of(0, 3));
+        CommentView last = firstPage.get(firstPage.size() - 1);
+        List<CommentView> secondPage = commentRepository.findCommentViewsBefore(board.getBoardId(),
+                last.createDate(), last.commentId(), PageRequest.of(0, 3));
+
+        // then
+        assertEquals(List.of("댓글4", "댓글3", "댓글2"),
+                firstPage.stream().map(CommentView::commentContent).toList());
+        assertEquals(List.of("댓글1", "댓글0"),
+                secondPage.stream().map(CommentView::commentContent).toList());
+        assertEquals(user.getUserName(), secondPage.get(0).userName());
+    }
+
+    @Test
+    @DisplayName("숨김 처리된 게시글의 댓글은 조회되지 않는다.")
+    void findCommentViewsBeforeOfDeletedBoard() {
+        //given
+        User user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        Board board = saveBoard(user);
+        commentRepository.save(Comment.createComment("댓글", user, board));
+        board.delete();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        Cursor first = Cursor.first();
+        List<CommentView> comments = commentRepository.findCommentViewsBefore(board.getBoardId(),
+                first.createdDate(), first.id(), PageRequest.of(0, 3));
+
+        // then
+        assertEquals(List.of(), comments);
+    }
+
+    private Board saveBoard(User user) {
+        return boardRepository.save(Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(user)
+                .build());
+    }
+}
@@ -0,0 +1,111 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 점수순 피드의 요청 스레드 구간(점수 계산 + 상위 k 선택) 지연 시간을 동시 요청 상황에서 잰다.
+ * 기본 test 작업에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ */
+@Tag("benchmark")
+class FeedRankerBenchmarkTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private static final int AUTHORS = 50_000;
+
+    private static final int BOARDS = 500_000;
+
+    private static final int FOLLOWEES = 1_000;
+
+    // 코어보다 많은 스레드를 돌리면 CPU 대기 시간이 지연 시간에 섞이므로 코어 수만큼 동시에 요청한다.
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    private static final int REQUESTS_PER_THREAD = 2_000;
+
+    private static final int WARMUP_REQUESTS = 2_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    // 요청 스레드에서 점수 계산에 쓸 수 있는 시간
+    private static final long P99_BUDGET_MILLIS = 20;
+
+    @Test
+    @DisplayName("동시 요청에서 점수 계산의 p99 지연 시간이 예산 안에 든다.")
+    void rankUnderLoad() throws Exception {
+        //given
+        SplittableRandom random = new SplittableRandom(42);
+        List<BoardEngagement> boards = new ArrayList<>(BOARDS);
+        for (int i = 0; i < BOARDS; i++) {
+            boards.add(new BoardEngagement(i + 1L, random.nextInt(AUTHORS) + 1L,
+                    NOW - random.nextLong(72 * 3600L), random.nextInt(500), random.nextInt(100)));
+        }
+        EngagementSnapshot snapshot = EngagementSnapshot.of(boards, NOW, 2.0);
+        FeedRanker feedRanker = new FeedRanker(12, 1.0, 1.0);
+
+        List<long[]> followeeSets = new ArrayList<>();
+        List<AuthorAffinity> affinities = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            long[] followees = random.longs(FOLLOWEES, 1, AUTHORS + 1).sorted().distinct().toArray();
+            Map<Long, Integer> weights = new HashMap<>();
+            for (int j = 0; j < 100; j++) {
+                weights.put(followees[random.nextInt(followees.length)], random.nextInt(50) + 1);
+            }
+            followeeSets.add(followees);
+            affinities.add(AuthorAffinity.of(weights));
+        }
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            feedRanker.rank(snapshot, followeeSets.get(i % 64), affinities.get(i % 64), NOW, PAGE_SIZE);
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    int user = (offset * REQUESTS_PER_THREAD + i) % 64;
+                    long start = System.nanoTime();
+                    feedRanker.rank(snapshot, followeeSets.get(user), affinities.get(user), NOW,
+                            PAGE_SIZE);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        for (int t = 0; t < THREADS; t++) {
+            System.arraycopy(futures.get(t).get(), 0, all, t * REQUESTS_PER_THREAD,
+                    REQUESTS_PER_THREAD);
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        Arrays.sort(all);
+
+        // then
+        double p50 = all[all.length / 2] / 1e6;
+        double p99 = all[(int) (all.length * 0.99)] / 1e6;
+        double max = all[all.length - 1] / 1e6;
+        System.out.printf("ranked feed: %d boards, %d followees, %d threads -> "
+                        + "p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                snapshot.boardCount(), FOLLOWEES, THREADS, p50, p99, max);
+        assertTrue(p99 < P99_BUDGET_MILLIS, "p99 " + p99 + " ms");
+    }
+}
@@ -0,0 +1,54 @@
+package F12.newsfeedproject.domain.feed.rank;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedRankerTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    private static final long HOUR = 3600L;
+
+    private final FeedRanker feedRanker = new FeedRanker(12, 1.0, 1.0);
+
+    @Test
+    @DisplayName("반응과 친밀도가 같으면 최신 글이 앞서고, 팔로우하지 않은 작성자의 글은 후보가 아니다.")
+    void rankByRecency() {
+        //given
+        EngagementSnapshot snapshot = EngagementSnapshot.of(List.of(
+                new BoardEngagement(1L, 10L, NOW - 5 * HOUR, 0, 0),
+                new BoardEngagement(2L, 10L, NOW - HOUR, 0, 0),
+                new BoardEngagement(3L, 20L, NOW - 3 * HOUR, 0, 0),
+                new BoardEngagement(4L, 30L, NOW, 0, 0)), NOW, 2.0);
+
+        // when
+        List<Long> ranked = feedRanker.rank(snapshot, new long[]{10L, 20L}, AuthorAffinity.empty(),
+                NOW, 10);
+
+        // then
+        assertEquals(List.of(2L, 3L, 1L), ranked);
+    }
+
+    @Test
+    @DisplayName("반응 속도가 빠르거나 자주 반응한 작성자의 글은 더 오래되었어도 앞설 수 있다.")
+    void rankByEngagementAndAffinity() {
+        //given
+        EngagementSnapshot snapshot = EngagementSnapshot.of(List.of(
+                new BoardEngagement(1L, 10L, NOW - 2 * HOUR, 200, 50),
+                new BoardEngagement(2L, 20L, NOW - HOUR, 0, 0),
+                new BoardEngagement(3L, 30L, NOW - 2 * HOUR, 0, 0),
+                new BoardEngagement(4L, 40L, NOW - HOUR, 0, 0)), NOW, 2.0);
+        AuthorAffinity affinity = AuthorAffinity.of(Map.of(30L, 100L));
+
+        // when
+        List<Long> ranked = feedRanker.rank(snapshot, new long[]{10L, 20L, 30L, 40L}, affinity,
+                NOW, 3);
+
+        // then
+        assertEquals(List.of(1L, 3L, 4L), ranked);
+    }
+}
@@ -0,0 +1,122 @@
+package F12.newsfeedproject.domain.feed.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import F12.newsfeedproject.domain.board.dto.BoardView;
+import F12.newsfeedproject.domain.board.service.BoardService;
+import F12.newsfeedproject.domain.feed.constant.FeedMode;
+import F12.newsfeedproject.domain.feed.timeline.HomeTimeline;
+import F12.newsfeedproject.domain.feed.timeline.MergedFeed;
+import F12.newsfeedproject.domain.feed.timeline.TimelineEntry;
+import F12.newsfeedproject.domain.follow.graph.FollowGraph;
+import F12.newsfeedproject.global.paging.Cursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+class FeedServiceTest {
+
+    @Test
+    @DisplayName("타임라인에 삭제된 게시글이 섞여 있어도 더 읽어서 limit 개를 채운다.")
+    void findFollowingFeedBeforeSkipsDeletedBoards() {
+        //given
+        Long userId = 1L;
+        HomeTimeline timeline = new HomeTimeline(10);
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            timeline.push(boardId, 2L);
+        }
+        Set<Long> deletedBoardIds = Set.of(6L, 5L);
+
+        BoardService boardService = mock(BoardService.class);
+        HomeTimelineService homeTimelineService = mock(HomeTimelineService.class);
+        given(homeTimelineService.getEntriesBefore(eq(userId), anyLong(), anyInt())).willAnswer(
+                invocation -> timeline.getEntriesBefore(invocation.getArgument(1),
+                        invocation.getArgument(2)));
+        given(boardService.findAllByBoardIdsInOrder(anyList())).willAnswer(
+                invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .filter(boardId -> !deletedBoardIds.contains(boardId))
+                        .map(this::view)
+                        .toList());
+
+        FeedService feedService = new FeedService(boardService, homeTimelineService,
+                mock(HighFollowerAuthorRegistry.class), mock(AuthorBoardIndex.class),
+                mock(FollowGraph.class), new SimpleMeterRegistry(), FeedMode.PUSH, false);
+
+        // when
+        List<BoardView> boards = feedService.findFollowingFeedBefore(userId, Cursor.first(), 3);
+
+        // then
+        assertEquals(List.of(4L, 3L, 2L), boards.stream().map(BoardView::boardId).toList());
+    }
+
+    @Test
+    @DisplayName("MERGE 모드에서도 삭제된 게시글만큼 더 합쳐서 페이지를 채우고 다음 페이지 여부를 정한다.")
+    void findMergedFeedSkipsDeletedBoards() {
+        //given
+        Long userId = 1L;
+        long[] followeeIds = {2L};
+        List<Long> authorBoardIds = List.of(6L, 5L, 4L, 3L, 2L, 1L);
+        Set<Long> deletedBoardIds = Set.of(6L, 5L);
+
+        BoardService boardService = mock(BoardService.class);
+        AuthorBoardIndex authorBoardIndex = mock(AuthorBoardIndex.class);
+        FollowGraph followGraph = mock(FollowGraph.class);
+        given(followGraph.followees(userId)).willReturn(followeeIds);
+        given(authorBoardIndex.merge(eq(followeeIds), anyLong(), anyInt())).willAnswer(
+                invocation -> new MergedFeed(authorBoardIds.stream()
+                        .filter(boardId -> boardId < invocation.<Long>getArgument(1))
+                        .limit(invocation.<Integer>getArgument(2))
+                        .toList(), false));
+        given(boardService.findAllByBoardIdsInOrder(anyList())).willAnswer(
+                invocation -> invocation.<List<Long>>getArgument(0).stream()
+                        .filter(boardId -> !deletedBoardIds.contains(boardId))
+                        .map(this::view)
+                        .toList());
+
+        FeedService feedService = new FeedService(boardService, mock(HomeTimelineService.class),
+                mock(HighFollowerAuthorRegistry.class), authorBoardIndex, followGraph,
+                new SimpleMeterRegistry(), FeedMode.MERGE, false);
+
+        // when
+        Slice<BoardView> feed = feedService.findFollowingFeed(userId, PageRequest.of(0, 3));
+
+        // then
+        assertEquals(List.of(4L, 3L, 2L), feed.getContent().stream().map(BoardView::boardId).toList());
+        assertTrue(feed.hasNext());
+    }
+
+    @Test
+    @DisplayName("타임라인과 조회 시점에 가져온 게시글을 최신순으로 중복 없이 합칠 수 있다.")
+    void merge() {
+        //given
+        List<TimelineEntry> pushed = List.of(entry(9L), entry(6L), entry(4L), entry(1L));
+        List<TimelineEntry> pulled = List.of(entry(8L), entry(6L), entry(2L));
+
+        // when
+        List<Long> firstPage = FeedService.merge(pushed, pulled, 0, 4);
+        List<Long> secondPage = FeedService.merge(pushed, pulled, 4, 4);
+
+        // then
+        assertEquals(List.of(9L, 8L, 6L, 4L), firstPage);
+        assertEquals(List.of(2L, 1L), secondPage);
+    }
+
+    private TimelineEntry entry(Long boardId) {
+        return new TimelineEntry(boardId, 1L);
+    }
+
+    private BoardView view(Long boardId) {
+        return new BoardView(boardId, "제목", "내용", 2L, "작성자", 0, null, null);
+    }
+}
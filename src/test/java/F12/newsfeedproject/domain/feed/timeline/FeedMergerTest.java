@@ -0,0 +1,67 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeedMergerTest {
+
+    @Test
+    @DisplayName("작성자별 목록을 게시글 ID 내림차순으로 합치고 커서 이후부터 limit 개만 고른다.")
+    void merge() {
+        //given
+        List<AuthorBoardList> lists = List.of(
+                AuthorBoardList.of(new long[]{9L, 5L, 1L}, 10),
+                AuthorBoardList.of(new long[]{8L, 7L, 2L}, 10),
+                AuthorBoardList.of(new long[]{}, 10));
+
+        // when
+        MergedFeed firstPage = FeedMerger.merge(lists, Long.MAX_VALUE, 4);
+        MergedFeed secondPage = FeedMerger.merge(lists, 5L, 4);
+
+        // then
+        assertEquals(List.of(9L, 8L, 7L, 5L), firstPage.boardIds());
+        assertEquals(List.of(2L, 1L), secondPage.boardIds());
+        assertFalse(secondPage.truncated());
+    }
+
+    @Test
+    @DisplayName("오래된 글이 잘린 목록을 다 읽으면 더 합치지 않고 나머지를 DB 에서 읽도록 알린다.")
+    void stopAtTruncatedList() {
+        //given
+        List<AuthorBoardList> lists = List.of(
+                AuthorBoardList.of(new long[]{9L, 6L}, 2),
+                AuthorBoardList.of(new long[]{8L, 5L, 1L}, 10));
+
+        // when
+        MergedFeed merged = FeedMerger.merge(lists, Long.MAX_VALUE, 10);
+        MergedFeed beyond = FeedMerger.merge(lists, 6L, 10);
+
+        // then
+        assertEquals(List.of(9L, 8L, 6L), merged.boardIds());
+        assertTrue(merged.truncated());
+        assertEquals(List.of(), beyond.boardIds());
+        assertTrue(beyond.truncated());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘게 추가하면 가장 오래된 글이 밀려나고 잘린 목록이 된다.")
+    void addAndRemove() {
+        //given
+        AuthorBoardList list = AuthorBoardList.of(new long[]{5L, 3L}, 3);
+
+        // when
+        list.add(4L);
+        list.add(6L);
+        list.remove(4L);
+
+        // then
+        assertArrayEquals(new long[]{6L, 5L}, list.boardIds());
+        assertTrue(list.isTruncated());
+    }
+}
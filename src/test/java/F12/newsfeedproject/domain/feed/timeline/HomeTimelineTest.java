@@ -0,0 +1,162 @@
+package F12.newsfeedproject.domain.feed.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HomeTimelineTest {
+
+    @Test
+    @DisplayName("게시글 ID 내림차순으로 타임라인을 조회할 수 있다.")
+    void getBoardIdsInDescendingOrder() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(10);
+        timeline.push(3L, 1L);
+        timeline.push(7L, 1L);
+        timeline.push(5L, 2L);
+
+        // when
+        List<Long> boardIds = timeline.getBoardIds(0, 10);
+
+        // then
+        assertEquals(List.of(7L, 5L, 3L), boardIds);
+    }
+
+    @Test
+    @DisplayName("같은 게시글은 중복으로 추가되지 않는다.")
+    void pushDuplicatedBoard() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(10);
+        timeline.push(1L, 1L);
+
+        // when
+        timeline.push(1L, 1L);
+
+        // then
+        assertEquals(1, timeline.size());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘으면 가장 오래된 게시글이 밀려난다.")
+    void pushOverMaxLength() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(3);
+        timeline.push(1L, 1L);
+        timeline.push(2L, 1L);
+        timeline.push(3L, 1L);
+
+        // when
+        timeline.push(4L, 1L);
+        timeline.push(0L, 1L);
+
+        // then
+        assertEquals(3, timeline.size());
+        assertEquals(List.of(4L, 3L, 2L), timeline.getBoardIds(0, 10));
+    }
+
+    @Test
+    @DisplayName("offset 과 limit 으로 타임라인의 일부를 조회할 수 있다.")
+    void getBoardIdsWithOffset() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(100);
+        for (long boardId = 1; boardId <= 50; boardId++) {
+            timeline.push(boardId, 1L);
+        }
+
+        // when
+        List<Long> boardIds = timeline.getBoardIds(10, 3);
+
+        // then
+        assertEquals(List.of(40L, 39L, 38L), boardIds);
+        assertEquals(List.of(), timeline.getBoardIds(50, 3));
+    }
+
+    @Test
+    @DisplayName("언팔로우한 작성자의 글은 바로 조회에서 빠지고 compact 하면 실제로 지워진다.")
+    void excludeAndCompact() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(100);
+        for (long boardId = 1; boardId <= 6; boardId++) {
+            timeline.push(boardId, boardId % 2);
+        }
+
+        // when
+        timeline.exclude(1L);
+        timeline.push(7L, 1L);
+        List<Long> beforeCompact = timeline.getBoardIds(1, 10);
+        List<TimelineEntry> entriesBefore = timeline.getEntriesBefore(5L, 10);
+        int removed = timeline.compact();
+
+        // then
+        assertEquals(List.of(4L, 2L), beforeCompact);
+        assertEquals(List.of(new TimelineEntry(4L, 0L), new TimelineEntry(2L, 0L)), entriesBefore);
+        assertEquals(3, removed);
+        assertEquals(3, timeline.size());
+        assertEquals(List.of(6L, 4L, 2L), timeline.getBoardIds(0, 10));
+    }
+
+    @Test
+    @DisplayName("다시 팔로우하면 제외가 풀리고 채워야 할 작성자로 한 번만 꺼내진다.")
+    void requestBackfill() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(100);
+        timeline.push(1L, 1L);
+        timeline.exclude(1L);
+
+        // when
+        timeline.requestBackfill(1L);
+
+        // then
+        assertEquals(List.of(1L), timeline.getBoardIds(0, 10));
+        assertTrue(timeline.hasPendingBackfill());
+        assertArrayEquals(new long[]{1L}, timeline.takePendingBackfill());
+        assertFalse(timeline.hasPendingBackfill());
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 쓴 타임라인을 읽으면 제외된 작성자의 글을 뺀 같은 항목이 복원된다.")
+    void writeAndRead() throws IOException {
+        //given
+        HomeTimeline timeline = new HomeTimeline(10);
+        timeline.push(1L, 100L);
+        timeline.push(2L, 200L);
+        timeline.push(3L, 100L);
+        timeline.exclude(200L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        timeline.writeTo(new DataOutputStream(bytes));
+
+        // when
+        HomeTimeline restored = HomeTimeline.readFrom(ByteBuffer.wrap(bytes.toByteArray()), 1);
+
+        // then
+        assertEquals(1, restored.size());
+        assertEquals(List.of(new TimelineEntry(3L, 100L)), restored.getEntries(0, 10));
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글을 타임라인에서 지울 수 있다.")
+    void remove() {
+        //given
+        HomeTimeline timeline = new HomeTimeline(10);
+        timeline.push(1L, 100L);
+        timeline.push(2L, 100L);
+        timeline.push(3L, 100L);
+
+        // when
+        boolean removed = timeline.remove(2L);
+
+        // then
+        assertTrue(removed);
+        assertFalse(timeline.remove(4L));
+        assertEquals(List.of(3L, 1L), timeline.getBoardIds(0, 10));
+    }
+}
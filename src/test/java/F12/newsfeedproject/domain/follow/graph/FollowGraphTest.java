@@ -0,0 +1,208 @@
+package F12.newsfeedproject.domain.follow.graph;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createFollow;
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.snapshot.SnapshotStore;
+import F12.newsfeedproject.global.util.SortedLongSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+
+@DataJpaTest
+class FollowGraphTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    SnapshotStore snapshotStore;
+
+    FollowGraph followGraph;
+
+    User first;
+
+    User second;
+
+    User third;
+
+    @BeforeEach
+    void setUp() {
+        snapshotStore = new SnapshotStore(true, snapshotDirectory.toString());
+        followGraph = newFollowGraph();
+
+        first = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        second = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        third = userRepository.save(createUser(null, "아무개", "dkanro@gmail.com"));
+        // first 가 second, third 를 팔로우하고 second 가 third 를 팔로우한다.
+        followRepository.save(createFollow(second, first));
+        followRepository.save(createFollow(third, first));
+        followRepository.save(createFollow(third, second));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("적재하기 전에는 DB 에서, 적재한 뒤에는 메모리에서 같은 결과를 조회한다.")
+    void load() {
+        //given
+        long[] followeesBeforeLoad = followGraph.followees(first.getUserId());
+        long[] followersBeforeLoad = followGraph.followers(third.getUserId());
+
+        // when
+        followGraph.load();
+
+        // then
+        assertTrue(followGraph.isLoaded());
+        assertArrayEquals(followeesBeforeLoad, followGraph.followees(first.getUserId()));
+        assertArrayEquals(followersBeforeLoad, followGraph.followers(third.getUserId()));
+        assertEquals(2, followGraph.followeeCount(first.getUserId()));
+        assertEquals(2, followGraph.followerCount(third.getUserId()));
+        assertTrue(followGraph.isFollowing(second.getUserId(), third.getUserId()));
+        assertFalse(followGraph.isFollowing(third.getUserId(), second.getUserId()));
+        assertEquals(3, followGraph.getEdgeCount());
+        assertTrue(followGraph.getBytesPerEdge() > 0);
+    }
+
+    @Test
+    @DisplayName("팔로우, 언팔로우, 탈퇴가 양방향 관계에 모두 반영된다.")
+    void update() {
+        //given
+        followGraph.load();
+        // 커밋 후에 반영되므로 테스트 트랜잭션 밖에서 호출한다.
+        TestTransaction.end();
+
+        // when
+        followGraph.onFollowed(third.getUserId(), first.getUserId());
+        followGraph.onUnfollowed(first.getUserId(), second.getUserId());
+        followGraph.onUserDeleted(second.getUserId());
+
+        // then
+        assertArrayEquals(new long[]{third.getUserId()}, followGraph.followees(first.getUserId()));
+        assertArrayEquals(new long[]{first.getUserId()}, followGraph.followers(third.getUserId()));
+        assertTrue(followGraph.isFollowing(third.getUserId(), first.getUserId()));
+        assertEquals(0, followGraph.followerCount(second.getUserId()));
+        assertEquals(2, followGraph.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("서로 팔로우하는 사용자와 여러 사용자와의 관계를 적재 전후에 같게 조회한다.")
+    void mutualsAndRelationships() {
+        //given
+        followRepository.save(createFollow(first, third));
+        entityManager.flush();
+        SortedLongSet targets = SortedLongSet.of(
+                new long[]{first.getUserId(), second.getUserId(), third.getUserId()});
+
+        long[] mutualsBeforeLoad = followGraph.mutuals(first.getUserId());
+        long[] followeesBeforeLoad = followGraph.followeesAmong(first.getUserId(), targets);
+        long[] followersBeforeLoad = followGraph.followersAmong(first.getUserId(), targets);
+
+        // when
+        followGraph.load();
+
+        // then
+        assertArrayEquals(new long[]{third.getUserId()}, mutualsBeforeLoad);
+        assertArrayEquals(mutualsBeforeLoad, followGraph.mutuals(first.getUserId()));
+        assertArrayEquals(new long[]{second.getUserId(), third.getUserId()}, followeesBeforeLoad);
+        assertArrayEquals(followeesBeforeLoad, followGraph.followeesAmong(first.getUserId(), targets));
+        assertArrayEquals(new long[]{third.getUserId()}, followersBeforeLoad);
+        assertArrayEquals(followersBeforeLoad, followGraph.followersAmong(first.getUserId(), targets));
+        assertArrayEquals(new long[0], followGraph.mutuals(second.getUserId()));
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 적재하면 스냅샷 이후에 추가된 팔로우까지 반영된다.")
+    void restoreFromSnapshot() throws IOException {
+        //given
+        followGraph.load();
+        followGraph.writeSnapshot();
+        followRepository.save(createFollow(first, second));
+        entityManager.flush();
+
+        // when
+        FollowGraph restored = newFollowGraph();
+        restored.load();
+
+        // then
+        assertTrue(restored.isLoaded());
+        assertEquals(4, restored.getEdgeCount());
+        assertArrayEquals(new long[]{second.getUserId(), third.getUserId()},
+            restored.followees(first.getUserId()));
+        assertArrayEquals(new long[]{first.getUserId(), third.getUserId()},
+            restored.followees(second.getUserId()));
+        assertArrayEquals(new long[]{first.getUserId(), second.getUserId()},
+            restored.followers(third.getUserId()));
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후에 삭제된 팔로우가 있으면 스냅샷을 버리고 DB 에서 적재한다.")
+    void restoreFromStaleSnapshot() throws IOException {
+        //given
+        followGraph.load();
+        followGraph.writeSnapshot();
+        jdbcTemplate.update("delete from follow where following_id = ? and follower_id = ?",
+            first.getUserId(), third.getUserId());
+
+        // when
+        FollowGraph restored = newFollowGraph();
+        restored.load();
+
+        // then
+        assertEquals(2, restored.getEdgeCount());
+        assertFalse(restored.isFollowing(first.getUserId(), third.getUserId()));
+        assertArrayEquals(new long[]{second.getUserId()}, restored.followers(third.getUserId()));
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후에 관계 수는 같고 관계가 바뀌었으면 스냅샷을 버리고 DB 에서 적재한다.")
+    void restoreFromSnapshotWithChangedEdge() throws IOException {
+        //given
+        followGraph.load();
+        followGraph.writeSnapshot();
+        // 언팔로우 뒤에 스냅샷 직전에 발급된 작은 ID 의 팔로우가 커밋된 경우와 같다.
+        jdbcTemplate.update("update follow set following_id = ?, follower_id = ? "
+                + "where following_id = ? and follower_id = ?",
+            third.getUserId(), first.getUserId(), first.getUserId(), third.getUserId());
+
+        // when
+        FollowGraph restored = newFollowGraph();
+        restored.load();
+
+        // then
+        assertEquals(3, restored.getEdgeCount());
+        assertFalse(restored.isFollowing(first.getUserId(), third.getUserId()));
+        assertTrue(restored.isFollowing(third.getUserId(), first.getUserId()));
+    }
+
+    private FollowGraph newFollowGraph() {
+        return new FollowGraph(jdbcTemplate, followRepository, snapshotStore,
+            new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,108 @@
+package F12.newsfeedproject.domain.follow.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.follow.dto.FollowUserView;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+// INSERT IGNORE 를 쓰므로 MySQL 모드로 설정된 H2 를 그대로 사용한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class FollowRepositoryTest {
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    User celebrity;
+
+    User first;
+
+    User second;
+
+    @BeforeEach
+    void setUp() {
+        celebrity = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        first = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        second = userRepository.save(createUser(null, "아무개", "dkanro@gmail.com"));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("팔로워 목록을 최근에 팔로우한 순서로 이어서 조회할 수 있다.")
+    void findFollowerViewsBefore() {
+        //given
+        followRepository.insertIgnore(first.getUserId(), celebrity.getUserId());
+        followRepository.insertIgnore(second.getUserId(), celebrity.getUserId());
+
+        // when
+        List<FollowUserView> firstPage = followRepository.findFollowerViewsBefore(
+                celebrity.getUserId(), Long.MAX_VALUE, PageRequest.of(0, 1));
+        List<FollowUserView> secondPage = followRepository.findFollowerViewsBefore(
+                celebrity.getUserId(), firstPage.get(0).followId(), PageRequest.of(0, 1));
+        List<FollowUserView> followings = followRepository.findFollowingViewsBefore(
+                first.getUserId(), Long.MAX_VALUE, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(second.getUserName(), firstPage.get(0).userName());
+        assertEquals(first.getUserName(), secondPage.get(0).userName());
+        assertEquals(List.of(celebrity.getUserId()),
+                followings.stream().map(FollowUserView::userId).toList());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 팔로우할 수 없다.")
+    void insertIgnoreOnDeletedUser() {
+        //given
+        celebrity.delete();
+        entityManager.flush();
+
+        // when
+        int inserted = followRepository.insertIgnore(first.getUserId(), celebrity.getUserId());
+
+        // then
+        assertEquals(0, inserted);
+    }
+
+    @Test
+    @DisplayName("이미 있는 팔로우는 다시 저장되지 않는다.")
+    void insertIgnore() {
+        // when
+        int inserted = followRepository.insertIgnore(first.getUserId(), celebrity.getUserId());
+        int duplicated = followRepository.insertIgnore(first.getUserId(), celebrity.getUserId());
+
+        // then
+        assertEquals(1, inserted);
+        assertEquals(0, duplicated);
+    }
+
+    @Test
+    @DisplayName("팔로워 수와 팔로잉 수를 UPDATE 문으로 갱신할 수 있다.")
+    void addFollowCounts() {
+        // when
+        userRepository.addFollowingCount(first.getUserId(), 1);
+        userRepository.addFollowerCount(celebrity.getUserId(), 1);
+        entityManager.clear();
+
+        // then
+        assertEquals(1, userRepository.findById(first.getUserId()).orElseThrow().getFollowingCount());
+        assertEquals(1, userRepository.findById(celebrity.getUserId()).orElseThrow().getFollowerCount());
+    }
+}
@@ -0,0 +1,199 @@
+package F12.newsfeedproject.domain.purge.worker;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createFollow;
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.event.BoardDeletedEvent;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.comment.entity.Comment;
+import F12.newsfeedproject.domain.comment.repository.CommentRepository;
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import F12.newsfeedproject.domain.purge.constant.PurgeStatus;
+import F12.newsfeedproject.domain.purge.entity.PurgeTask;
+import F12.newsfeedproject.domain.purge.repository.PurgeJdbcRepository;
+import F12.newsfeedproject.domain.purge.repository.PurgeTaskRepository;
+import F12.newsfeedproject.domain.purge.service.PurgeService;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// DELETE ... LIMIT 를 쓰므로 MySQL 모드로 설정된 H2 를 그대로 사용한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class PurgeWorkerTest {
+
+    @Autowired
+    PurgeTaskRepository purgeTaskRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    PurgeService purgeService;
+
+    PurgeWorker purgeWorker;
+
+    List<Object> publishedEvents = new ArrayList<>();
+
+    User author;
+
+    User reader;
+
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        purgeService = new PurgeService(purgeTaskRepository);
+        // 청크 크기를 작게 해서 한 단계가 여러 청크로 나뉘도록 한다.
+        purgeWorker = new PurgeWorker(purgeTaskRepository, new PurgeJdbcRepository(jdbcTemplate),
+                transactionTemplate, publishedEvents::add, new SimpleMeterRegistry(), 2, 0, 5, 60000);
+
+        author = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        reader = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        board = boardRepository.save(Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(author)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(Comment.createComment("댓글" + i, reader, board));
+        }
+        followRepository.save(createFollow(author, reader));
+        entityManager.flush();
+
+        jdbcTemplate.update("insert into user_board_like (user_id, board_id) values (?, ?)",
+                reader.getUserId(), board.getBoardId());
+        jdbcTemplate.update("update board set like_count = 1 where board_id = ?", board.getBoardId());
+        jdbcTemplate.update("insert into user_comment_like (user_id, comment_id) "
+                + "select ?, comment_id from comment where board_id = ?", author.getUserId(), board.getBoardId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 댓글, 댓글 좋아요, 게시글 좋아요를 나눠서 지운 뒤 게시글을 지운다.")
+    void purgeBoard() {
+        //given
+        boardRepository.findById(board.getBoardId()).orElseThrow().delete();
+        PurgeTask task = purgeService.requestBoardPurge(board.getBoardId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        purgeWorker.runPendingTasks();
+
+        // then
+        assertEquals(0, count("select count(*) from user_comment_like"));
+        assertEquals(0, count("select count(*) from comment"));
+        assertEquals(0, count("select count(*) from user_board_like"));
+        assertEquals(0, count("select count(*) from board"));
+        PurgeTask purged = purgeTaskRepository.findById(task.getPurgeTaskId()).orElseThrow();
+        assertEquals(PurgeStatus.DONE, purged.getStatus());
+        assertEquals(8, purged.getDeletedRows());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자의 댓글, 좋아요, 팔로우를 지우고 남은 게시글의 좋아요 수를 줄인다.")
+    void purgeUser() {
+        //given
+        userRepository.findById(reader.getUserId()).orElseThrow().delete();
+        PurgeTask task = purgeService.requestUserPurge(reader.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        purgeWorker.runPendingTasks();
+
+        // then
+        assertEquals(0, count("select like_count from board where board_id = " + board.getBoardId()));
+        assertEquals(0, count("select count(*) from user_board_like"));
+        assertEquals(0, count("select count(*) from comment"));
+        assertEquals(0, count("select count(*) from follow"));
+        assertEquals(1, count("select count(*) from users"));
+        assertEquals(1, count("select count(*) from board where deleted = false"));
+        assertEquals(List.of(), publishedEvents);
+        assertEquals(PurgeStatus.DONE,
+                purgeTaskRepository.findById(task.getPurgeTaskId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 작성자의 게시글을 숨기면 게시글 삭제 이벤트를 보낸다.")
+    void purgeAuthorPublishesBoardDeletedEvents() {
+        //given
+        userRepository.findById(author.getUserId()).orElseThrow().delete();
+        purgeService.requestUserPurge(author.getUserId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        purgeWorker.runPendingTasks();
+
+        // then
+        assertEquals(List.of(new BoardDeletedEvent(board.getBoardId(), author.getUserId())),
+                publishedEvents);
+        assertEquals(0, count("select count(*) from board"));
+    }
+
+    @Test
+    @DisplayName("다른 워커가 작업을 이어받으면 이전 워커는 더 진행하지 않는다.")
+    void purgeChunkAfterTakeover() {
+        //given
+        userRepository.findById(reader.getUserId()).orElseThrow().delete();
+        PurgeTask task = purgeService.requestUserPurge(reader.getUserId());
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        purgeTaskRepository.claim(task.getPurgeTaskId(), PurgeStatus.PENDING, PurgeStatus.RUNNING,
+                now, now, "first");
+        // 첫 번째 워커의 임대 시간이 지나 두 번째 워커가 이어받는다.
+        purgeTaskRepository.claim(task.getPurgeTaskId(), PurgeStatus.PENDING, PurgeStatus.RUNNING,
+                now, now.plusSeconds(1), "second");
+
+        // when
+        boolean firstProgressed = purgeWorker.purgeChunk(task.getPurgeTaskId(), "first");
+        int stepAfterFirst = purgeTaskRepository.findById(task.getPurgeTaskId()).orElseThrow().getStep();
+        boolean secondProgressed = purgeWorker.purgeChunk(task.getPurgeTaskId(), "second");
+
+        // then
+        assertFalse(firstProgressed);
+        assertEquals(0, stepAfterFirst);
+        assertTrue(secondProgressed);
+        assertEquals(1, purgeTaskRepository.findById(task.getPurgeTaskId()).orElseThrow().getStep());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,73 @@
+package F12.newsfeedproject.domain.recommendation.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.follow.graph.FollowGraphSnapshot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MutualFollowRankerTest {
+
+    // 10 -> 20, 30 / 20 -> 30, 40, 50 / 30 -> 10, 40
+    private final FollowGraphSnapshot snapshot = new FollowGraphSnapshot(
+            new long[]{10L, 20L, 30L, 40L, 50L},
+            new int[]{0, 2, 5, 7, 7, 7},
+            new int[]{1, 2, 2, 3, 4, 0, 3});
+
+    private final Map<Long, long[]> followees = Map.of(
+            10L, new long[]{20L, 30L},
+            20L, new long[]{30L, 40L, 50L},
+            30L, new long[]{10L, 40L});
+
+    @Test
+    @DisplayName("함께 아는 사람이 많은 순으로 추천하고 나와 이미 팔로우한 사용자는 제외한다.")
+    void rankBySnapshot() {
+        //given
+        MutualFollowRanker.Scratch scratch = new MutualFollowRanker.Scratch(snapshot.userCount());
+
+        // when
+        List<Candidate> result = MutualFollowRanker.rank(snapshot, 0, 10, scratch);
+
+        // then
+        assertEquals(List.of(new Candidate(40L, 2), new Candidate(50L, 1)), result);
+    }
+
+    @Test
+    @DisplayName("작업 배열을 재사용해도 이전 사용자의 계산 결과가 남지 않는다.")
+    void reuseScratch() {
+        //given
+        MutualFollowRanker.Scratch scratch = new MutualFollowRanker.Scratch(snapshot.userCount());
+        MutualFollowRanker.rank(snapshot, 0, 10, scratch);
+
+        // when
+        List<Candidate> result = MutualFollowRanker.rank(snapshot, 2, 10, scratch);
+
+        // then
+        assertEquals(List.of(new Candidate(20L, 1)), result);
+    }
+
+    @Test
+    @DisplayName("추천 수를 넘으면 순위가 높은 후보만 남는다.")
+    void limit() {
+        // when
+        List<Candidate> result = MutualFollowRanker.rank(snapshot, 0, 1,
+                new MutualFollowRanker.Scratch(snapshot.userCount()));
+
+        // then
+        assertEquals(List.of(new Candidate(40L, 2)), result);
+    }
+
+    @Test
+    @DisplayName("현재 그래프로 계산한 결과는 스냅샷으로 계산한 결과와 같다.")
+    void rankByFollowees() {
+        // when
+        List<Candidate> result = MutualFollowRanker.rank(10L,
+                userId -> followees.getOrDefault(userId, new long[0]), 10);
+
+        // then
+        assertEquals(MutualFollowRanker.rank(snapshot, 0, 10,
+                new MutualFollowRanker.Scratch(snapshot.userCount())), result);
+    }
+}
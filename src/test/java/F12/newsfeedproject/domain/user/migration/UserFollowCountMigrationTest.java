@@ -0,0 +1,70 @@
+package F12.newsfeedproject.domain.user.migration;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createFollow;
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.follow.repository.FollowRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(UserFollowCountMigration.class)
+class UserFollowCountMigrationTest {
+
+    @Autowired
+    UserFollowCountMigration migration;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    FollowRepository followRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("기존 팔로우 행 수로 팔로워 수와 팔로잉 수를 채운다.")
+    void backfillFollowCounts() {
+        //given
+        User first = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User second = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        User third = userRepository.save(createUser(null, "아무개", "dkanro@gmail.com"));
+        // first 가 second, third 를 팔로우하고 second 가 third 를 팔로우한다.
+        followRepository.save(createFollow(second, first));
+        followRepository.save(createFollow(third, first));
+        followRepository.save(createFollow(third, second));
+        entityManager.flush();
+        jdbcTemplate.update("update users set follower_count = 0, following_count = 0");
+
+        // when
+        migration.migrate();
+
+        // then
+        assertEquals(2, count("following_count", first));
+        assertEquals(0, count("follower_count", first));
+        assertEquals(1, count("following_count", second));
+        assertEquals(1, count("follower_count", second));
+        assertEquals(0, count("following_count", third));
+        assertEquals(2, count("follower_count", third));
+    }
+
+    private long count(String column, User user) {
+        return jdbcTemplate.queryForObject("select " + column + " from users where user_id = ?",
+                Long.class, user.getUserId());
+    }
+}
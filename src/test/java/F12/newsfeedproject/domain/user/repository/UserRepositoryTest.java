@@ -23,8 +23,8 @@ class UserRepositoryTest {
     @DisplayName("해당 이름을 가진 회원을 조회할 수 있다.")
     void findByUserName(){
         //given
-        User user = createUser("손창현", "cson90563@gmail.com");
-        userRepository.save(user);
+        // ID 가 지정된 엔티티는 merge 되므로 저장된 인스턴스의 ID 와 비교한다.
+        User user = userRepository.save(createUser("손창현", "cson90563@gmail.com"));
 
         // when
         Optional<User> optionalFindUser = userRepository.findByUserName(user.getUserName());
@@ -0,0 +1,157 @@
+package F12.newsfeedproject.domain.userboardlike.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import F12.newsfeedproject.domain.board.service.BoardLikeCounter;
+import F12.newsfeedproject.domain.userboardlike.constant.LikeAction;
+import F12.newsfeedproject.domain.userboardlike.pipeline.LikeEvent.LikeKey;
+import F12.newsfeedproject.domain.userboardlike.repository.UserBoardLikeJdbcRepository;
+import F12.newsfeedproject.domain.userboardlike.service.LikedBoardIndex;
+import F12.newsfeedproject.global.exception.like.LikeRequestBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class LikeIngestionPipelineTest {
+
+    private static final LikeKey BLOCKER = new LikeKey(1L, 1L);
+
+    private final UserBoardLikeJdbcRepository userBoardLikeJdbcRepository = mock(UserBoardLikeJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch writerBlocked = new CountDownLatch(1);
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    private LikeIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        // BLOCKER 를 저장하는 동안 writer 를 멈춰 둔다.
+        when(userBoardLikeJdbcRepository.insertIgnoreAll(anyList())).thenAnswer(invocation -> {
+            List<LikeKey> keys = invocation.getArgument(0);
+            if (keys.contains(BLOCKER)) {
+                writerBlocked.countDown();
+                unblock.await(5, TimeUnit.SECONDS);
+            }
+            return updated(keys);
+        });
+        when(userBoardLikeJdbcRepository.deleteAll(anyList()))
+                .thenAnswer(invocation -> updated(invocation.getArgument(0)));
+
+        // writer 1개, 큐 크기 2, 배치 크기 1
+        pipeline = new LikeIngestionPipeline(userBoardLikeJdbcRepository,
+                mock(BoardLikeCounter.class), mock(LikedBoardIndex.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                meterRegistry, true, 1, 2, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        unblock.countDown();
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 사용자와 게시글에 대한 이벤트는 마지막 이벤트만 남는다.")
+    void coalesce() {
+        //given
+        List<LikeEvent> events = List.of(
+                new LikeEvent(1L, 10L, LikeAction.LIKE),
+                new LikeEvent(2L, 10L, LikeAction.LIKE),
+                new LikeEvent(1L, 10L, LikeAction.UNLIKE),
+                new LikeEvent(1L, 20L, LikeAction.LIKE));
+
+        // when
+        List<LikeEvent> coalesced = List.copyOf(LikeIngestionPipeline.coalesce(events));
+
+        // then
+        assertEquals(List.of(
+                new LikeEvent(2L, 10L, LikeAction.LIKE),
+                new LikeEvent(1L, 10L, LikeAction.UNLIKE),
+                new LikeEvent(1L, 20L, LikeAction.LIKE)), coalesced);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 대기 중인 이벤트가 없는 키는 false 를 반환해 바로 저장하게 한다.")
+    void offerReturnsFalseWhenQueueIsFull() throws InterruptedException {
+        //given
+        blockWriter();
+        assertTrue(pipeline.offer(new LikeEvent(2L, 10L, LikeAction.LIKE)));
+        assertTrue(pipeline.offer(new LikeEvent(2L, 20L, LikeAction.LIKE)));
+
+        // when
+        boolean queued = pipeline.offer(new LikeEvent(3L, 10L, LikeAction.LIKE));
+
+        // then
+        assertFalse(queued);
+        assertEquals(1, rejectedCount());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찼을 때 같은 키의 이벤트가 대기 중이면 바로 저장하지 않고 예외를 던진다.")
+    void offerThrowsWhenSameKeyIsPending() throws InterruptedException {
+        //given
+        blockWriter();
+        assertTrue(pipeline.offer(new LikeEvent(2L, 10L, LikeAction.LIKE)));
+        assertTrue(pipeline.offer(new LikeEvent(2L, 20L, LikeAction.LIKE)));
+
+        // when // then
+        assertThrows(LikeRequestBusyException.class,
+                () -> pipeline.offer(new LikeEvent(2L, 10L, LikeAction.UNLIKE)));
+        assertEquals(1, rejectedCount());
+    }
+
+    @Test
+    @DisplayName("같은 키의 이벤트는 큐에 들어온 순서대로 저장된다.")
+    void sameKeyEventsAreWrittenInOrder() throws InterruptedException {
+        //given
+        LikeKey key = new LikeKey(2L, 10L);
+        blockWriter();
+        assertTrue(pipeline.offer(new LikeEvent(2L, 10L, LikeAction.LIKE)));
+        assertTrue(pipeline.offer(new LikeEvent(2L, 10L, LikeAction.UNLIKE)));
+
+        // when
+        unblock.countDown();
+
+        // then
+        verify(userBoardLikeJdbcRepository, timeout(5000)).deleteAll(List.of(key));
+        InOrder inOrder = inOrder(userBoardLikeJdbcRepository);
+        inOrder.verify(userBoardLikeJdbcRepository).insertIgnoreAll(eq(List.of(key)));
+        inOrder.verify(userBoardLikeJdbcRepository).deleteAll(eq(List.of(key)));
+        assertEquals(0, rejectedCount());
+    }
+
+    // writer 가 BLOCKER 를 저장하는 동안 멈춰 이후 이벤트가 큐에 쌓이게 한다.
+    private void blockWriter() throws InterruptedException {
+        assertTrue(pipeline.offer(new LikeEvent(BLOCKER.userId(), BLOCKER.boardId(), LikeAction.LIKE)));
+        assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.counter("like.pipeline.rejected").count();
+    }
+
+    private static int[] updated(List<LikeKey> keys) {
+        int[] counts = new int[keys.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
@@ -0,0 +1,93 @@
+package F12.newsfeedproject.domain.userboardlike.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+// INSERT IGNORE 를 쓰므로 MySQL 모드로 설정된 H2 를 그대로 사용한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class UserBoardLikeRepositoryTest {
+
+    @Autowired
+    UserBoardLikeRepository userBoardLikeRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    User user;
+
+    Board board;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        board = boardRepository.save(Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(user)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("같은 게시글에 두 번 좋아요를 눌러도 한 번만 저장된다.")
+    void insertIgnore() {
+        // when
+        int first = userBoardLikeRepository.insertIgnore(user.getUserId(), board.getBoardId());
+        int second = userBoardLikeRepository.insertIgnore(user.getUserId(), board.getBoardId());
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(1, userBoardLikeRepository.count());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 실제로 삭제된 행이 있을 때만 1을 반환한다.")
+    void deleteByUserIdAndBoardId() {
+        //given
+        userBoardLikeRepository.insertIgnore(user.getUserId(), board.getBoardId());
+
+        // when
+        int first = userBoardLikeRepository.deleteByUserIdAndBoardId(user.getUserId(), board.getBoardId());
+        int second = userBoardLikeRepository.deleteByUserIdAndBoardId(user.getUserId(), board.getBoardId());
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+    }
+
+    @Test
+    @DisplayName("숨김 처리된 게시글에는 좋아요가 저장되지 않는다.")
+    void insertIgnoreOnDeletedBoard() {
+        //given
+        board.delete();
+        entityManager.flush();
+
+        // when
+        int inserted = userBoardLikeRepository.insertIgnore(user.getUserId(), board.getBoardId());
+
+        // then
+        assertEquals(0, inserted);
+        assertEquals(0, userBoardLikeRepository.count());
+    }
+}
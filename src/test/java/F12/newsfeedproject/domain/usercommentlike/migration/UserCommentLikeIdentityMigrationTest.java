@@ -0,0 +1,77 @@
+package F12.newsfeedproject.domain.usercommentlike.migration;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.comment.entity.Comment;
+import F12.newsfeedproject.domain.comment.repository.CommentRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import F12.newsfeedproject.global.migration.SchemaMigrationSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({UserCommentLikeIdentityMigration.class, SchemaMigrationSupport.class})
+class UserCommentLikeIdentityMigrationTest {
+
+    @Autowired
+    UserCommentLikeIdentityMigration migration;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("기존 댓글 좋아요 행 수로 댓글의 좋아요 수를 채운다.")
+    void backfillLikeCount() {
+        //given
+        User author = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        User reader = userRepository.save(createUser(null, "장동하", "ehdgk@gmail.com"));
+        Board board = boardRepository.save(Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(author)
+                .build());
+        Comment liked = commentRepository.save(Comment.createComment("댓글", reader, board));
+        Comment notLiked = commentRepository.save(Comment.createComment("댓글", reader, board));
+        entityManager.flush();
+        for (User user : new User[]{author, reader}) {
+            jdbcTemplate.update("insert into user_comment_like (user_id, comment_id) values (?, ?)",
+                    user.getUserId(), liked.getCommentId());
+        }
+
+        // when
+        migration.migrate();
+
+        // then
+        assertEquals(2, likeCount(liked));
+        assertEquals(0, likeCount(notLiked));
+    }
+
+    private long likeCount(Comment comment) {
+        return jdbcTemplate.queryForObject("select like_count from comment where comment_id = ?",
+                Long.class, comment.getCommentId());
+    }
+}
@@ -0,0 +1,84 @@
+package F12.newsfeedproject.domain.usercommentlike.repository;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.domain.board.entity.Board;
+import F12.newsfeedproject.domain.board.repository.BoardRepository;
+import F12.newsfeedproject.domain.comment.entity.Comment;
+import F12.newsfeedproject.domain.comment.repository.CommentRepository;
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+// INSERT IGNORE 를 쓰므로 MySQL 모드로 설정된 H2 를 그대로 사용한다.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class UserCommentLikeRepositoryTest {
+
+    @Autowired
+    UserCommentLikeRepository userCommentLikeRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    User user;
+
+    Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(createUser(null, "손창현", "cson90563@gmail.com"));
+        Board board = boardRepository.save(Board.builder()
+                .boardTitle("제목")
+                .boardContent("내용")
+                .user(user)
+                .build());
+        comment = commentRepository.save(Comment.createComment("댓글", user, board));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("같은 댓글에 두 번 좋아요를 눌러도 한 번만 저장된다.")
+    void insertIgnore() {
+        // when
+        int first = userCommentLikeRepository.insertIgnore(user.getUserId(), comment.getCommentId());
+        int second = userCommentLikeRepository.insertIgnore(user.getUserId(), comment.getCommentId());
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(1, userCommentLikeRepository.count());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 실제로 삭제된 행이 있을 때만 1을 반환한다.")
+    void deleteByUserIdAndCommentId() {
+        //given
+        userCommentLikeRepository.insertIgnore(user.getUserId(), comment.getCommentId());
+
+        // when
+        int first = userCommentLikeRepository.deleteByUserIdAndCommentId(user.getUserId(), comment.getCommentId());
+        int second = userCommentLikeRepository.deleteByUserIdAndCommentId(user.getUserId(), comment.getCommentId());
+
+        // then
+        assertEquals(1, first);
+        assertEquals(0, second);
+    }
+}
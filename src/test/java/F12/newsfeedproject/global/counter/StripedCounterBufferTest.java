@@ -0,0 +1,100 @@
+package F12.newsfeedproject.global.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StripedCounterBufferTest {
+
+    @Test
+    @DisplayName("모인 증감량을 꺼내면 버퍼가 비워진다.")
+    void drain() {
+        //given
+        StripedCounterBuffer buffer = new StripedCounterBuffer();
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        // when
+        Map<Long, Long> deltas = buffer.drain();
+
+        // then
+        assertEquals(Map.of(1L, 2L, 2L, -1L), deltas);
+        assertTrue(buffer.drain().isEmpty());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @DisplayName("동시에 증가시켜도 증감량이 유실되지 않는다.")
+    void addConcurrently() throws InterruptedException {
+        //given
+        StripedCounterBuffer buffer = new StripedCounterBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    buffer.add(1L, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertEquals(80000L, buffer.drain().get(1L));
+    }
+
+    @Test
+    @DisplayName("증가시키는 도중에 꺼내도 증감량이 유실되거나 두 번 반영되지 않는다.")
+    void drainWhileAdding() throws Exception {
+        //given
+        StripedCounterBuffer buffer = new StripedCounterBuffer();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 100000; j++) {
+                    buffer.add(j % 16, 1);
+                }
+            }));
+        }
+        long drained = 0;
+        while (!futures.stream().allMatch(Future::isDone)) {
+            drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        executor.shutdown();
+        drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+
+        // then
+        assertEquals(400000L, drained);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감량은 다시 버퍼에 넣을 수 있다.")
+    void restore() {
+        //given
+        StripedCounterBuffer buffer = new StripedCounterBuffer();
+        buffer.add(1L, 3);
+        Map<Long, Long> deltas = buffer.drain();
+        buffer.add(1L, 1);
+
+        // when
+        buffer.restore(deltas);
+
+        // then
+        assertEquals(4L, buffer.get(1L));
+    }
+}
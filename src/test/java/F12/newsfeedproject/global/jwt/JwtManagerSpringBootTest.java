@@ -2,8 +2,11 @@ package F12.newsfeedproject.global.jwt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import F12.newsfeedproject.domain.user.constant.UserRole;
 import F12.newsfeedproject.global.exception.jwt.InvalidJwtSignatureException;
+import java.time.Instant;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +60,38 @@ public class JwtManagerSpringBootTest {
         assertEquals(TokenType.ACCESS.toString(), tokenTypeFromToken);
     }
 
+    @Test
+    @DisplayName("토큰을 한 번에 검증하고 클레임을 얻을 수 있다.")
+    void verify() {
+        //given
+        String userName = "손창현";
+        String refreshToken = jwtManager.createRefreshToken(userName);
+
+        // when
+        VerifiedToken verifiedToken = jwtManager.verify(refreshToken);
+
+        // then
+        assertEquals(userName, verifiedToken.subject());
+        assertTrue(verifiedToken.isTypeOf(TokenType.REFRESH));
+        assertTrue(verifiedToken.expiration().isAfter(Instant.now()));
+        assertEquals(verifiedToken, jwtManager.verify(refreshToken));
+    }
+
+    @Test
+    @DisplayName("사용자 ID 와 권한을 담은 액세스 토큰을 발급할 수 있다.")
+    void createSelfContainedAccessToken() {
+        //given
+        String accessToken = jwtManager.createAccessToken(1L, "손창현", UserRole.USER);
+
+        // when
+        VerifiedToken verifiedToken = jwtManager.verify(accessToken);
+
+        // then
+        assertTrue(verifiedToken.isSelfContained());
+        assertEquals(1L, verifiedToken.userId());
+        assertEquals(UserRole.USER, verifiedToken.userRole());
+    }
+
     @Test
     @DisplayName("")
     void validateTokenThrowInvalidJwtSignatureException() {
@@ -0,0 +1,84 @@
+package F12.newsfeedproject.global.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// DDL 은 트랜잭션과 상관없이 커밋되므로 별도 테이블을 만들어 쓰고 지운다.
+@JdbcTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SchemaMigrationSupport.class)
+class SchemaMigrationSupportTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SchemaMigrationSupport support;
+
+    @BeforeEach
+    void setUp() {
+        // 시퀀스로 ID 를 받던 기존 테이블처럼 auto_increment 와 유니크 키가 없다.
+        jdbcTemplate.execute("create table migration_sample "
+                + "(sample_id bigint not null primary key, user_id bigint not null, target_id bigint not null)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table migration_sample");
+    }
+
+    @Test
+    @DisplayName("중복 행을 지우고 유니크 키와 auto_increment 를 추가한다.")
+    void ensureUniqueKeyAndAutoIncrement() {
+        //given
+        jdbcTemplate.update("insert into migration_sample values (0, 1, 2), (5, 1, 2), (7, 1, 3)");
+        assertFalse(support.hasUniqueKey("migration_sample", "user_id", "target_id"));
+        assertFalse(support.isAutoIncrement("migration_sample", "sample_id"));
+
+        // when
+        support.ensureUniqueKey("migration_sample", "sample_id", "uk_migration_sample",
+                "user_id", "target_id");
+        support.ensureAutoIncrement("migration_sample", "sample_id");
+        jdbcTemplate.update("insert into migration_sample (user_id, target_id) values (1, 4)");
+
+        // then
+        assertTrue(support.hasUniqueKey("migration_sample", "user_id", "target_id"));
+        assertTrue(support.isAutoIncrement("migration_sample", "sample_id"));
+        assertEquals(List.of(7L, 8L, 9L), jdbcTemplate.queryForList(
+                "select sample_id from migration_sample order by sample_id", Long.class));
+    }
+
+    @Test
+    @DisplayName("이미 적용된 테이블에는 아무것도 바꾸지 않는다.")
+    void ensureOnMigratedTable() {
+        //given
+        support.ensureUniqueKey("migration_sample", "sample_id", "uk_migration_sample",
+                "user_id", "target_id");
+        support.ensureAutoIncrement("migration_sample", "sample_id");
+
+        // when
+        support.ensureUniqueKey("migration_sample", "sample_id", "uk_migration_sample",
+                "user_id", "target_id");
+        support.ensureAutoIncrement("migration_sample", "sample_id");
+
+        // then
+        assertTrue(support.hasUniqueKey("migration_sample", "user_id", "target_id"));
+        assertTrue(support.isAutoIncrement("migration_sample", "sample_id"));
+    }
+}
@@ -0,0 +1,39 @@
+package F12.newsfeedproject.global.paging;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import F12.newsfeedproject.global.exception.paging.InvalidCursorException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("커서를 인코딩한 뒤 다시 디코딩할 수 있다.")
+    void encodeAndDecode() {
+        //given
+        Cursor cursor = new Cursor(LocalDateTime.of(2023, 11, 20, 13, 5, 1, 123456000), 42L);
+
+        // when
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        // then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서를 반환한다.")
+    void decodeEmpty() {
+        assertEquals(Cursor.first(), Cursor.decode(null));
+        assertEquals(Cursor.first(), Cursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다.")
+    void decodeInvalid() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
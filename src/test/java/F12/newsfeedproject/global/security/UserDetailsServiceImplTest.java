@@ -0,0 +1,65 @@
+package F12.newsfeedproject.global.security;
+
+import static F12.newsfeedproject.testhelper.EntityCreator.createUser;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import F12.newsfeedproject.domain.user.entity.User;
+import F12.newsfeedproject.domain.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    @InjectMocks
+    UserDetailsServiceImpl userDetailsService;
+
+    @Mock
+    UserService userService;
+
+    @Spy
+    UserPrincipalCache userPrincipalCache = new UserPrincipalCache(new SimpleMeterRegistry(), 100, 60000);
+
+    @Test
+    @DisplayName("한 번 인증된 사용자는 캐시에서 조회한다.")
+    void loadUserByUsernameFromCache() {
+        //given
+        User user = createUser(1L, "손창현", "cson90563@gmail.com");
+        given(userService.findByUserName(user.getUserName())).willReturn(Optional.of(user));
+
+        // when
+        userDetailsService.loadUserByUsername(user.getUserName());
+        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUserName());
+
+        // then
+        assertEquals(user.getUserName(), userDetails.getUsername());
+        verify(userService, times(1)).findByUserName(user.getUserName());
+    }
+
+    @Test
+    @DisplayName("캐시가 무효화되면 사용자를 다시 조회한다.")
+    void loadUserByUsernameAfterEvict() {
+        //given
+        User user = createUser(1L, "손창현", "cson90563@gmail.com");
+        given(userService.findByUserName(user.getUserName())).willReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername(user.getUserName());
+
+        // when
+        userPrincipalCache.evict(user.getUserName());
+        userDetailsService.loadUserByUsername(user.getUserName());
+
+        // then
+        verify(userService, times(2)).findByUserName(user.getUserName());
+    }
+}
@@ -0,0 +1,70 @@
+package F12.newsfeedproject.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SortedLongSetTest {
+
+    @Test
+    @DisplayName("정렬되지 않은 중복 값으로 만들어도 정렬된 집합이 된다.")
+    void of() {
+        //given
+        long[] values = {5L, 1L, 3L, 1L, 5L};
+
+        // when
+        SortedLongSet set = SortedLongSet.of(values);
+
+        // then
+        assertArrayEquals(new long[]{1L, 3L, 5L}, set.toArray());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    @DisplayName("값을 추가하고 제거해도 정렬 순서가 유지된다.")
+    void addAndRemove() {
+        //given
+        SortedLongSet set = new SortedLongSet();
+
+        // when
+        for (long value = 10L; value > 0; value--) {
+            set.add(value);
+        }
+        boolean addedAgain = set.add(3L);
+        boolean removed = set.remove(5L);
+        boolean removedAgain = set.remove(5L);
+
+        // then
+        assertFalse(addedAgain);
+        assertTrue(removed);
+        assertFalse(removedAgain);
+        assertArrayEquals(new long[]{1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L, 10L}, set.toArray());
+        assertTrue(set.contains(6L));
+        assertFalse(set.contains(5L));
+    }
+
+    @Test
+    @DisplayName("크기가 비슷한 두 배열과 크기 차이가 큰 두 배열의 교집합을 구한다.")
+    void intersect() {
+        //given
+        long[] large = new long[1000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 2L;
+        }
+
+        // when
+        long[] similar = SortedLongSet.intersect(new long[]{1L, 2L, 4L, 7L}, new long[]{2L, 3L, 4L, 8L});
+        long[] skewed = SortedLongSet.intersect(new long[]{3L, 10L, 998L, 5000L}, large);
+        long[] sets = SortedLongSet.of(new long[]{4L, 10L}).intersect(SortedLongSet.of(large));
+
+        // then
+        assertArrayEquals(new long[]{2L, 4L}, similar);
+        assertArrayEquals(new long[]{10L, 998L}, skewed);
+        assertArrayEquals(new long[]{4L, 10L}, sets);
+        assertArrayEquals(new long[0], SortedLongSet.intersect(new long[0], large));
+    }
+}